@@ -0,0 +1,81 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 부분집합 매칭(IngredientMatchIndex.match) 전수 스캔 한 번의 지연, 그리고 같은 키 재저장 시 add() 비용.
+ * 레시피는 재료 300종 중 3~8개(앞쪽 재료가 자주 나오도록 치우침), 절반은 같은 키가 다시 들어온다 (색인 행은 하나).
+ * ./gradlew jmh -Pjmh.includes=IngredientMatchIndex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngredientMatchIndexBenchmark {
+
+    private static final int VOCABULARY = 300;
+
+    @Param({"100000", "1000000"})
+    public int recipes;
+
+    private IngredientMatchIndex index;
+    private List<List<String>> queries;
+    private String existingKey;
+
+    @Setup
+    public void load() {
+        index = new IngredientMatchIndex(null, true, 1.0, 0.4);
+        SplittableRandom random = new SplittableRandom(11);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < recipes; i++) {
+            String key = i % 2 == 1 && !keys.isEmpty() ? keys.get(random.nextInt(keys.size())) : randomKey(random);
+            keys.add(key);
+            index.add(key);
+        }
+        existingKey = keys.get(0);
+        queries = new ArrayList<>();
+        for (int i = 0; i < 16; i++) queries.add(List.of(randomKey(random).split(",")));
+        System.out.printf("[index] %d adds → %d rows%n", recipes, index.size());
+    }
+
+    @Benchmark
+    public int match() {
+        int n = 0;
+        for (List<String> q : queries) n += index.match(q, 3).size();
+        return n;
+    }
+
+    @Benchmark
+    public int addExisting() {
+        index.add(existingKey);
+        return index.size();
+    }
+
+    private static String randomKey(SplittableRandom random) {
+        TreeSet<String> parts = new TreeSet<>();
+        int n = 3 + random.nextInt(6);
+        while (parts.size() < n) {
+            double u = random.nextDouble();
+            parts.add("재료" + (int) (u * u * VOCABULARY));
+        }
+        return String.join(",", parts);
+    }
+}
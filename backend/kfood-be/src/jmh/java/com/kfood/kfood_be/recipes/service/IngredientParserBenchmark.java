@@ -0,0 +1,91 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+/**
+ * 재료 줄 파싱: 기존 정규식(LegacyIngredientParser) vs IngredientLineParser.
+ * 코퍼스는 src/jmh/resources/ingredient-lines.txt (모델 응답에서 모은 줄). 한 번 호출 = 코퍼스 전체.
+ * ./gradlew jmh -Pjmh.includes=IngredientParser  (할당량은 -Pjmh.profilers=gc 로 gc.alloc.rate.norm 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngredientParserBenchmark {
+
+    private String[] lines;
+    private String[] quantities;
+    private String[] units;
+
+    @Setup
+    public void load() throws Exception {
+        List<String> corpus = new ArrayList<>();
+        try (var in = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(getClass().getResourceAsStream("/ingredient-lines.txt")), StandardCharsets.UTF_8))) {
+            for (String line; (line = in.readLine()) != null; ) {
+                if (!line.isBlank() && !line.startsWith("#")) corpus.add(line);
+            }
+        }
+        lines = corpus.toArray(String[]::new);
+        quantities = new String[] {"1", "1.5", "0,5", "1/2", "1 1/2", "½", "200", "약간", " 3 "};
+        units = new String[] {"g", "ml", "Tbsp", "tsp", "큰술", "작은 술", "cups", "kg", "pcs", "줌", "모", "L"};
+
+        // 결과가 다른 줄: 기존 정규식에 없던 별칭(liter, tablespoon …)과 영문 단위 경계("2 Tablespoons")
+        int diff = 0;
+        for (String line : lines) {
+            RecipeResponseDto.Ingredient a = LegacyIngredientParser.parse(line);
+            RecipeResponseDto.Ingredient b = IngredientLineParser.parse(line);
+            if (!Objects.equals(a.getName(), b.getName()) || !Objects.equals(a.getQty(), b.getQty())
+                    || !Objects.equals(a.getUnit(), b.getUnit())) {
+                diff++;
+                System.out.printf("[diff] %s | legacy=(%s, %s, %s) new=(%s, %s, %s)%n", line,
+                        a.getName(), a.getQty(), a.getUnit(), b.getName(), b.getQty(), b.getUnit());
+            }
+        }
+        System.out.printf("[corpus] %d lines, %d differ%n", lines.length, diff);
+    }
+
+    @Benchmark
+    public void legacyParse(Blackhole bh) {
+        for (String line : lines) bh.consume(LegacyIngredientParser.parse(line));
+    }
+
+    @Benchmark
+    public void lineParserParse(Blackhole bh) {
+        for (String line : lines) bh.consume(IngredientLineParser.parse(line));
+    }
+
+    @Benchmark
+    public void legacyQuantityAndUnit(Blackhole bh) {
+        for (String q : quantities) bh.consume(LegacyIngredientParser.fractionToDouble(q));
+        for (String u : units) bh.consume(LegacyIngredientParser.normalizeUnit(u));
+    }
+
+    @Benchmark
+    public void lineParserQuantityAndUnit(Blackhole bh) {
+        for (String q : quantities) bh.consume(IngredientLineParser.parseQuantity(q));
+        for (String u : units) bh.consume(IngredientLineParser.normalizeUnit(u));
+    }
+}
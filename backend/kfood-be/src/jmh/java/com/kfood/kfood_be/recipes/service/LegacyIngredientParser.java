@@ -0,0 +1,96 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+/**
+ * 비교 기준: IngredientLineParser 도입 전 RecipeService 의 정규식 파서 그대로.
+ */
+final class LegacyIngredientParser {
+
+    private static final String NUM =
+            "(?:\\d+(?:[.,]\\d+)?|\\d+\\s+\\d+/\\d+|\\d+/\\d+|[½¼¾⅓⅔])";
+    private static final String UNIT =
+            "(L|l|리터|ml|밀리리터|컵|cups?|cup|큰\\s*술|큰술|tbsp|tbs|T|작은\\s*술|작은술|tsp|teaspoons?|teaspoon|g|그램|kg|킬로그램|ea|pcs?|piece|pieces|개|pinch|꼬집)";
+    private static final Pattern P_NAME_NUM_UNIT_END =
+            Pattern.compile("^(.*?)\\s*(" + NUM + ")\\s*" + UNIT + "\\s*$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern P_NUM_UNIT_NAME_START =
+            Pattern.compile("^(" + NUM + ")\\s*" + UNIT + "\\s*(.+)$", Pattern.CASE_INSENSITIVE);
+
+    private LegacyIngredientParser() {}
+
+    static Double fractionToDouble(String s) {
+        if (s == null) return null;
+        s = s.trim();
+        switch (s) {
+            case "½": return 0.5;
+            case "¼": return 0.25;
+            case "¾": return 0.75;
+            case "⅓": return 1.0/3.0;
+            case "⅔": return 2.0/3.0;
+        }
+        Matcher mix = Pattern.compile("^(\\d+)\\s+(\\d+)/(\\d+)$").matcher(s);
+        if (mix.find()) return Double.parseDouble(mix.group(1))
+                + Double.parseDouble(mix.group(2)) / Double.parseDouble(mix.group(3));
+        Matcher frac = Pattern.compile("^(\\d+)/(\\d+)$").matcher(s);
+        if (frac.find()) return Double.parseDouble(frac.group(1)) / Double.parseDouble(frac.group(2));
+        try { return Double.parseDouble(s.replace(",", ".")); } catch (Exception ignore) {}
+        return null;
+    }
+
+    static String normalizeUnit(String unitRaw) {
+        if (unitRaw == null) return null;
+        String u = unitRaw.trim().toLowerCase(Locale.ROOT);
+        switch (u) {
+            case "l": case "liter": case "litre": case "liters": case "litres": case "리터": return "L";
+            case "ml": case "밀리리터": case "milliliter": case "milliliters": return "ml";
+            case "cup": case "cups": case "컵": return "컵";
+            case "tbsp": case "tbs": case "t": case "tablespoon": case "tablespoons": case "큰 술": case "큰술": return "큰술";
+            case "tsp": case "teaspoon": case "teaspoons": case "작은 술": case "작은술": return "작은술";
+            case "g": case "그램": return "g";
+            case "kg": case "킬로그램": return "kg";
+            case "ea": case "pc": case "pcs": case "piece": case "pieces": case "개": return "개";
+            case "pinch": case "꼬집": return "꼬집";
+        }
+        return unitRaw;
+    }
+
+    private static RecipeResponseDto.Ingredient normalizeQtyUnit(RecipeResponseDto.Ingredient ing) {
+        if (ing == null) return null;
+        String unit = normalizeUnit(ing.getUnit());
+        Double qty = ing.getQty();
+        if (qty != null && "kg".equals(unit)) { qty = qty * 1000.0; unit = "g"; }
+        ing.setQty(qty);
+        ing.setUnit(unit);
+        return ing;
+    }
+
+    static RecipeResponseDto.Ingredient parse(String s) {
+        if (s == null) return null;
+        String line = s.replaceAll("[•·\\-–—]", " ")
+                       .replaceAll("\\s+", " ")
+                       .replaceAll("\\([^)]*\\)", "")
+                       .trim();
+
+        Matcher m1 = P_NAME_NUM_UNIT_END.matcher(line);
+        if (m1.find()) {
+            String name = m1.group(1).trim();
+            Double qty = fractionToDouble(m1.group(2));
+            String unit = normalizeUnit(m1.group(3));
+            return normalizeQtyUnit(RecipeResponseDto.Ingredient.builder()
+                    .name(name).qty(qty).unit(unit).build());
+        }
+        Matcher m2 = P_NUM_UNIT_NAME_START.matcher(line);
+        if (m2.find()) {
+            Double qty = fractionToDouble(m2.group(1));
+            String unit = normalizeUnit(m2.group(2));
+            String name = m2.group(3).trim();
+            return normalizeQtyUnit(RecipeResponseDto.Ingredient.builder()
+                    .name(name).qty(qty).unit(unit).build());
+        }
+        return RecipeResponseDto.Ingredient.builder().name(line).qty(null).unit(null).build();
+    }
+}
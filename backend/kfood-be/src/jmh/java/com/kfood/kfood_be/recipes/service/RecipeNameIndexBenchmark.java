@@ -0,0 +1,65 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이름 검색(RecipeNameIndex.search) 한 번의 지연/할당. 제목 수를 늘려도 할당이 제목 수에 비례하지 않아야 한다.
+ * 제목은 음식 이름 조각을 섞어 만든 합성 코퍼스, 질의는 오타/접두어/정확 일치를 섞는다.
+ * ./gradlew jmh -Pjmh.includes=RecipeNameIndex -Pjmh.profilers=gc  (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeNameIndexBenchmark {
+
+    private static final String[] HEADS = {"김치", "된장", "순두부", "부대", "고추장", "간장", "매운", "해물", "소고기", "돼지"};
+    private static final String[] BODIES = {"찌개", "볶음", "전골", "국", "탕", "조림", "구이", "비빔밥", "덮밥", "전"};
+    private static final String[] QUERIES = {"김치찌게", "된장찌개", "부대", "고추장 불고기", "해물파전", "소고기 무국", "순두부찌개"};
+
+    @Param({"10000", "100000"})
+    public int titles;
+
+    private RecipeNameIndex index;
+
+    @Setup
+    public void load() {
+        index = new RecipeNameIndex(null, 0.45, 200);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < titles; i++) {
+            index.add(HEADS[random.nextInt(HEADS.length)] + " " + BODIES[random.nextInt(BODIES.length)] + " " + i);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int search() {
+        int n = 0;
+        for (String q : QUERIES) n += index.search(q, 5).size();
+        return n;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int searchConcurrent() {
+        int n = 0;
+        for (String q : QUERIES) n += index.search(q, 5).size();
+        return n;
+    }
+}
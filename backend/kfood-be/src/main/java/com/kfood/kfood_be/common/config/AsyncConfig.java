@@ -0,0 +1,87 @@
+package com.kfood.kfood_be.common.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 블로킹 외부 호출(Gemini)용 실행기 + 논블로킹 경로의 파싱 스케줄러.
+ * 기본은 플랫폼 스레드 풀, spring.threads.virtual.enabled=true + Java 21 이상이면 같은 크기 제한/대기열을
+ * 유지한 채 가상 스레드로 실행한다(프로파일 vthreads 참고). 톰캣 요청 스레드도 같은 설정으로 가상 스레드가 된다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    // 논블로킹 경로의 JSON 파싱 전용 (이벤트 루프에서 파싱하지 않도록) — 코어 수 만큼만
+    @Bean(name = "jsonParseScheduler", destroyMethod = "dispose")
+    public Scheduler jsonParseScheduler(@Value("${app.parse.parallelism:0}") int parallelism) {
+        int n = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newParallel("json-parse", n, true);
+    }
+
+    @Configuration
+    @ConditionalOnThreading(Threading.PLATFORM)
+    static class PlatformThreads {
+
+        // Gemini 호출(헤징 시도) 전용 풀: 포화 시 RejectedExecutionException → 해당 시도는 실패 처리
+        @Bean(name = "geminiExecutor", destroyMethod = "shutdownNow")
+        public ExecutorService geminiExecutor(@Value("${recipes.generation.pool-size:64}") int poolSize,
+                                              @Value("${recipes.generation.queue-capacity:256}") int queueCapacity) {
+            return boundedPool(poolSize, queueCapacity, new CustomizableThreadFactory("gemini-"));
+        }
+
+        // 비동기 레시피 작업(/api/recipes/jobs) 전용 풀: 대기열이 차면 제출 단계에서 503
+        // 크기 기본값 = Gemini 동시 호출 상한. 더 크면 남는 작업이 한도 대기열(max-wait)에서 로컬 폴백으로 끝나고,
+        // 작으면 한도가 남아도 작업이 밀린다. 넘치는 작업은 여기 대기열에서 기다린다(폴링이라 지연 허용).
+        @Bean(name = "recipeJobExecutor", destroyMethod = "shutdown")
+        public ThreadPoolExecutor recipeJobExecutor(@Value("${recipes.jobs.pool-size:${gemini.limiter.max-limit:64}}") int poolSize,
+                                                    @Value("${recipes.jobs.queue-capacity:500}") int queueCapacity) {
+            return boundedPool(poolSize, queueCapacity, new CustomizableThreadFactory("recipe-job-"));
+        }
+    }
+
+    @Configuration
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static class VirtualThreads {
+
+        // 가상 스레드는 싸므로 동시 실행 한도만 크게 두고 대기열/거절 동작은 플랫폼 모드와 동일
+        @Bean(name = "geminiExecutor", destroyMethod = "shutdownNow")
+        public ExecutorService geminiExecutor(@Value("${recipes.generation.virtual-pool-size:2000}") int poolSize,
+                                              @Value("${recipes.generation.queue-capacity:256}") int queueCapacity) {
+            return boundedPool(poolSize, queueCapacity, virtualThreadFactory("gemini-v-"));
+        }
+
+        // 작업은 Gemini 동시 호출 한도가 병목이라 가상 스레드여도 플랫폼 모드와 같은 크기
+        @Bean(name = "recipeJobExecutor", destroyMethod = "shutdown")
+        public ThreadPoolExecutor recipeJobExecutor(@Value("${recipes.jobs.pool-size:${gemini.limiter.max-limit:64}}") int poolSize,
+                                                    @Value("${recipes.jobs.queue-capacity:500}") int queueCapacity) {
+            return boundedPool(poolSize, queueCapacity, virtualThreadFactory("recipe-job-v-"));
+        }
+
+        private static ThreadFactory virtualThreadFactory(String prefix) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+    }
+
+    private static ThreadPoolExecutor boundedPool(int poolSize, int queueCapacity, ThreadFactory threadFactory) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                threadFactory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
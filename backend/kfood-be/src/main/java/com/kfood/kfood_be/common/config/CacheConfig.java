@@ -1,5 +1,53 @@
 package com.kfood.kfood_be.common.config;
 
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.service.RecipeCacheKey;
+import com.kfood.kfood_be.youtube.service.YoutubeSearchCache;
+import com.kfood.kfood_be.youtube.service.YoutubeVideoStatsCache;
+
+@Configuration
 public class CacheConfig {
-    
+
+    // 레시피 생성 결과 캐시 (정규화 재료 집합 + timeMax → 결과)
+    @Bean
+    public Cache<RecipeCacheKey, List<RecipeResponseDto>> recipeResultCache(
+            @Value("${recipes.cache.max-size:1000}") long maxSize,
+            @Value("${recipes.cache.ttl:6h}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // YouTube 검색 결과 캐시: 여기 만료는 stale 허용 한계, fresh 판정은 YoutubeSearchCache
+    @Bean
+    public Cache<String, YoutubeSearchCache.CachedSearch> youtubeSearchCache(
+            @Value("${youtube.cache.max-size:2000}") long maxSize,
+            @Value("${youtube.cache.max-stale:3d}") Duration maxStale) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxStale)
+                .build();
+    }
+
+    // videoId → 조회수/카테고리: 여기 만료는 stale 허용 한계, 갱신 주기는 youtube.stats.ttl
+    @Bean
+    public Cache<String, YoutubeVideoStatsCache.VideoStats> youtubeVideoStatsCache(
+            @Value("${youtube.stats.max-size:20000}") long maxSize,
+            @Value("${youtube.stats.max-stale:1d}") Duration maxStale) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxStale)
+                .build();
+    }
 }
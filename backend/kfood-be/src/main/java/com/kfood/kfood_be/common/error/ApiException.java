@@ -1,5 +1,29 @@
 package com.kfood.kfood_be.common.error;
 
-public class ApiException {
-    
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+/** 컨트롤러까지 올라가 HTTP 상태코드로 변환되는 예외 (GlobalExceptionHandler 에서 처리) */
+@Getter
+public class ApiException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public ApiException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public static ApiException notFound(String message) {
+        return new ApiException(HttpStatus.NOT_FOUND, message);
+    }
+
+    public static ApiException badRequest(String message) {
+        return new ApiException(HttpStatus.BAD_REQUEST, message);
+    }
+
+    public static ApiException unavailable(String message) {
+        return new ApiException(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
 }
@@ -0,0 +1,27 @@
+package com.kfood.kfood_be.common.error;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<Map<String, Object>> handleApi(ApiException e) {
+        return body(e.getStatus(), e.getMessage());
+    }
+
+    /** 공통 오류 본문 {status, error, message} (컨트롤러 로컬 핸들러도 같은 모양으로) */
+    public static ResponseEntity<Map<String, Object>> body(HttpStatus status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
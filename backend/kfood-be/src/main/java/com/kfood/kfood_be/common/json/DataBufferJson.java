@@ -0,0 +1,64 @@
+package com.kfood.kfood_be.common.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 응답 본문을 String/JsonNode/Map 으로 만들지 않고 JsonParser 로 바로 읽는다.
+ * Netty 버퍼 조각은 DataBufferUtils.join 으로 (복사 없이 composite 로) 합치고,
+ * InputStream 을 닫을 때 버퍼가 해제된다.
+ * 합친 본문이 MAX_BYTES 를 넘으면 DataBufferLimitException (조각은 해제됨).
+ * 호출 체인 끝에 doOnDiscard(DataBuffer.class, DataBufferUtils::release) 를 걸어 취소/타임아웃 때 버려지는 버퍼도 해제한다.
+ */
+public final class DataBufferJson {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /** Gemini/YouTube 응답 본문 상한 (보통 수십 KB) */
+    public static final int MAX_BYTES = 256 * 1024;
+
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private DataBufferJson() {}
+
+    public static Mono<DataBuffer> join(Flux<DataBuffer> body) {
+        return DataBufferUtils.join(body, MAX_BYTES);
+    }
+
+    public static <T> T read(DataBuffer buffer, Reader<T> reader) {
+        try (InputStream in = buffer.asInputStream(true); JsonParser p = FACTORY.createParser(in)) {
+            return reader.read(p);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 스트리밍 파싱 실패", e);
+        }
+    }
+
+    public static <T> T read(String json, Reader<T> reader) {
+        try (JsonParser p = FACTORY.createParser(json)) {
+            return reader.read(p);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 스트리밍 파싱 실패", e);
+        }
+    }
+
+    public static <T> T read(byte[] json, Reader<T> reader) {
+        try (JsonParser p = FACTORY.createParser(json)) {
+            return reader.read(p);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 스트리밍 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kfood.kfood_be.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/** 고정 구간(ms) 누적 히스토그램. 분위수는 LatencyRecorder(최근 창), 분포 모양은 이것(전체 기간). */
+public class LatencyHistogram {
+
+    private final long[] boundsMs;
+    private final LongAdder[] counts;
+
+    /** boundsMs: 오름차순 상한들. 마지막 상한을 넘는 값은 별도 구간(+Inf) */
+    public LatencyHistogram(long... boundsMs) {
+        this.boundsMs = boundsMs.clone();
+        this.counts = new LongAdder[boundsMs.length + 1];
+        for (int i = 0; i < counts.length; i++) counts[i] = new LongAdder();
+    }
+
+    public void record(long millis) {
+        int i = 0;
+        while (i < boundsMs.length && millis > boundsMs[i]) i++;
+        counts[i].increment();
+    }
+
+    /** {"le_1000": n, ..., "le_inf": n} (구간별 개수, 누적 아님) */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (int i = 0; i < boundsMs.length; i++) out.put("le_" + boundsMs[i], counts[i].sum());
+        out.put("le_inf", counts[boundsMs.length].sum());
+        return out;
+    }
+}
@@ -0,0 +1,61 @@
+package com.kfood.kfood_be.common.metrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 최근 N개 샘플(링버퍼) 기준 지연시간 분위수 계산. 누적 count/max 는 전체 기간 기준. */
+public class LatencyRecorder {
+
+    private final long[] window;
+    private int next;
+    private int filled;
+    private long count;
+    private long totalMs;
+    private long maxMs;
+
+    public LatencyRecorder(int windowSize) {
+        this.window = new long[windowSize];
+    }
+
+    public synchronized void record(long millis) {
+        window[next] = millis;
+        next = (next + 1) % window.length;
+        if (filled < window.length) filled++;
+        count++;
+        totalMs += millis;
+        if (millis > maxMs) maxMs = millis;
+    }
+
+    /** p: 0~100. 샘플이 없으면 -1 */
+    public synchronized long percentile(double p) {
+        if (filled == 0) return -1;
+        long[] sorted = Arrays.copyOf(window, filled);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(p / 100.0 * filled) - 1;
+        return sorted[Math.max(0, Math.min(idx, filled - 1))];
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        long[] sorted = Arrays.copyOf(window, filled);
+        Arrays.sort(sorted);
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("count", count);
+        out.put("meanMs", count == 0 ? 0 : totalMs / count);
+        out.put("p50Ms", pick(sorted, 50));
+        out.put("p95Ms", pick(sorted, 95));
+        out.put("p99Ms", pick(sorted, 99));
+        out.put("maxMs", maxMs);
+        return out;
+    }
+
+    private static long pick(long[] sorted, double p) {
+        if (sorted.length == 0) return -1;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+}
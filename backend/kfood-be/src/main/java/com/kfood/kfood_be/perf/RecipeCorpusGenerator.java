@@ -0,0 +1,193 @@
+package com.kfood.kfood_be.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.service.GeneratedRecipeWriter;
+import com.kfood.kfood_be.recipes.service.RecipeService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * perf 프로필 전용: GENERATED_RECIPE 에 perf.corpus.size 건이 될 때까지 합성 레시피를 채운다.
+ * 재료는 RecipeCorpusVocabulary 순위에 Zipf(perf.corpus.skew) → 소수 재료 조합에 몰리는 실제 분포와 비슷하게
+ * INGREDIENT_KEY 가 겹치고, 긴 꼬리는 드물게 나온다. 같은 seed 면 같은 코퍼스.
+ * ApplicationRunner 는 ApplicationReadyEvent 전에 끝나므로 이름/재료 인덱스는 채워진 뒤의 DB 에서 적재된다.
+ * 이미 채워진 파일 DB 는 건너뛴다 (100만 건 적재는 한 번만).
+ */
+@Slf4j
+@Component
+@Profile("perf")
+public class RecipeCorpusGenerator implements ApplicationRunner {
+
+    // 자식 행을 같은 batch 로 넣으려고 헤더 ID 를 직접 매기고, 끝나면 GENERATED_RECIPE_SEQ 를 그 뒤로 옮긴다
+    private static final String INSERT_SQL =
+            "INSERT INTO GENERATED_RECIPE (ID, FOOD, INGREDIENT, INGREDIENT_KEY, CATEGORY, TIME_MIN, DIFFICULTY, RECIPE)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_INGREDIENT_SQL =
+            "INSERT INTO GENERATED_RECIPE_INGREDIENT (RECIPE_ID, SEQ, NAME, QTY, UNIT, LABEL) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_STEP_SQL =
+            "INSERT INTO GENERATED_RECIPE_STEP (RECIPE_ID, STEP_ORDER, STEP_TEXT) VALUES (?, ?, ?)";
+    private static final int[] TIMES = {10, 15, 20, 25, 30, 40, 50, 60, 90};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final ObjectMapper om = new ObjectMapper();
+    private final int size;
+    private final long seed;
+    private final double skew;
+    private final int minIngredients;
+    private final int maxIngredients;
+    private final int batchSize;
+
+    public RecipeCorpusGenerator(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate tx,
+                                 @Value("${perf.corpus.size:100000}") int size,
+                                 @Value("${perf.corpus.seed:42}") long seed,
+                                 @Value("${perf.corpus.skew:1.1}") double skew,
+                                 @Value("${perf.corpus.min-ingredients:2}") int minIngredients,
+                                 @Value("${perf.corpus.max-ingredients:6}") int maxIngredients,
+                                 @Value("${perf.corpus.batch-size:2000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = tx;
+        this.size = size;
+        this.seed = seed;
+        this.skew = skew;
+        this.minIngredients = Math.max(1, minIngredients);
+        this.maxIngredients = Math.max(this.minIngredients, maxIngredients);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM GENERATED_RECIPE", Long.class);
+        long have = existing == null ? 0 : existing;
+        if (have >= size) {
+            log.info("[perf] 코퍼스 {}건 존재 (목표 {}), 생성 생략", have, size);
+            moveIdSequencePastMax();
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(ID), 0) FROM GENERATED_RECIPE", Long.class);
+        long nextId = (maxId == null ? 0 : maxId) + 1;
+        long toCreate = size - have;
+        log.info("[perf] 합성 레시피 {}건 생성 시작 (seed={}, skew={})", toCreate, seed, skew);
+
+        // 레시피마다 ID 로 난수 시드 → 적재가 중간에 끊겨 이어 채워도 같은 ID 는 같은 레시피
+        ZipfSampler sampler = new ZipfSampler(RecipeCorpusVocabulary.INGREDIENTS.size(), skew);
+        long t0 = System.nanoTime();
+        long done = 0;
+        while (done < toCreate) {
+            int n = (int) Math.min(batchSize, toCreate - done);
+            long firstId = nextId + done;
+            tx.executeWithoutResult(status -> insertBatch(sampler, firstId, n));
+            done += n;
+            if (done % 100_000 < n || done == toCreate) {
+                log.info("[perf] {}/{}건 ({}ms)", done, toCreate,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+            }
+        }
+        moveIdSequencePastMax();
+        log.info("[perf] 코퍼스 생성 완료: {}건, {}ms", toCreate, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+    }
+
+    // 이후 GeneratedRecipeWriter 가 받는 ID 블록(v-49..v)이 직접 매긴 ID 와 겹치지 않도록
+    private void moveIdSequencePastMax() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(ID), 0) FROM GENERATED_RECIPE", Long.class);
+        long restart = (maxId == null ? 0 : maxId) + GeneratedRecipeWriter.ID_BLOCK;
+        jdbcTemplate.execute("ALTER SEQUENCE GENERATED_RECIPE_SEQ RESTART WITH " + restart);
+    }
+
+    private void insertBatch(ZipfSampler sampler, long firstId, int n) {
+        List<Object[]> headers = new ArrayList<>(n);
+        List<Object[]> ingredientRows = new ArrayList<>(n * maxIngredients);
+        List<Object[]> stepRows = new ArrayList<>(n * 4);
+        for (int i = 0; i < n; i++) {
+            long id = firstId + i;
+            SplittableRandom random = new SplittableRandom(seed ^ (id * 0x9E3779B97F4A7C15L));
+            RecipeResponseDto recipe = recipe(sampler, random);
+            List<String> names = recipe.getIngredients().stream().map(RecipeResponseDto.Ingredient::getName).toList();
+            String key = RecipeService.cacheKeyOf(names, null).ingredientKey();
+            String json;
+            try {
+                json = om.writeValueAsString(recipe);
+            } catch (Exception e) {
+                throw new IllegalStateException("합성 레시피 직렬화 실패", e);
+            }
+            headers.add(new Object[]{id, recipe.getTitle(), truncate(key, 255), key, recipe.getCategory(),
+                    recipe.getTimeMin(), recipe.getDifficulty(), json});
+            int seq = 0;
+            for (RecipeResponseDto.Ingredient ing : recipe.getIngredients()) {
+                ingredientRows.add(new Object[]{id, ++seq, ing.getName(), ing.getQty(), ing.getUnit(), ing.getLabel()});
+            }
+            for (RecipeResponseDto.Step step : recipe.getSteps()) {
+                stepRows.add(new Object[]{id, step.getOrder(), step.getText()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, headers);
+        jdbcTemplate.batchUpdate(INSERT_INGREDIENT_SQL, ingredientRows);
+        jdbcTemplate.batchUpdate(INSERT_STEP_SQL, stepRows);
+    }
+
+    private RecipeResponseDto recipe(ZipfSampler sampler, SplittableRandom random) {
+        int count = random.nextInt(minIngredients, maxIngredients + 1);
+        List<RecipeCorpusVocabulary.Item> items = RecipeCorpusVocabulary.sampleItems(sampler, random, count);
+        int category = random.nextInt(RecipeCorpusVocabulary.CATEGORIES.size());
+
+        List<RecipeResponseDto.Ingredient> ingredients = new ArrayList<>(items.size());
+        for (RecipeCorpusVocabulary.Item item : items) {
+            // 대표 수량 ±50%, 0.1 단위
+            double qty = Math.round(item.qty() * (0.5 + random.nextDouble()) * 10) / 10.0;
+            if (qty <= 0) qty = item.qty();
+            ingredients.add(RecipeResponseDto.Ingredient.builder()
+                    .name(item.name())
+                    .qty(qty)
+                    .unit(item.unit())
+                    .label(item.name() + " " + formatQty(qty) + " " + item.unit())
+                    .build());
+        }
+
+        String main = items.get(0).name();
+        List<RecipeResponseDto.Step> steps = new ArrayList<>(4);
+        steps.add(step(1, "재료를 손질하고 " + main + "은(는) 먹기 좋은 크기로 썹니다."));
+        steps.add(step(2, "팬이나 냄비를 달군 뒤 " + main + "을(를) 먼저 익힙니다."));
+        if (items.size() > 1) {
+            steps.add(step(3, "나머지 재료를 넣고 간을 맞춰 " + (5 + random.nextInt(20)) + "분간 조리합니다."));
+        }
+        steps.add(step(steps.size() + 1, "그릇에 담아 마무리합니다."));
+
+        return RecipeResponseDto.builder()
+                .title(RecipeCorpusVocabulary.title(random, items, category))
+                .category(RecipeCorpusVocabulary.CATEGORIES.get(category))
+                .timeMin(TIMES[random.nextInt(TIMES.length)])
+                .servings(1)
+                .difficulty(RecipeCorpusVocabulary.DIFFICULTIES.get(random.nextInt(RecipeCorpusVocabulary.DIFFICULTIES.size())))
+                .ingredients(ingredients)
+                .steps(steps)
+                .chefNote("perf 코퍼스 합성 레시피")
+                .build();
+    }
+
+    private static RecipeResponseDto.Step step(int order, String text) {
+        return RecipeResponseDto.Step.builder().order(order).text(text).build();
+    }
+
+    private static String formatQty(double qty) {
+        return qty == Math.rint(qty) ? String.valueOf((long) qty) : String.valueOf(qty);
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
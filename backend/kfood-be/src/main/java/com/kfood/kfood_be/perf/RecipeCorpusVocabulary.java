@@ -0,0 +1,88 @@
+package com.kfood.kfood_be.perf;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * 합성 레시피 코퍼스/부하 시나리오가 함께 쓰는 재료·요리 어휘.
+ * INGREDIENTS 는 많이 쓰이는 순서 → ZipfSampler 순위와 그대로 대응 (앞쪽 재료일수록 자주 뽑힘).
+ */
+public final class RecipeCorpusVocabulary {
+
+    /** 1인분 기준 대표 수량/단위 */
+    public record Item(String name, double qty, String unit) {}
+
+    public static final List<Item> INGREDIENTS = List.of(
+            new Item("양파", 0.5, "개"), new Item("대파", 0.5, "개"), new Item("마늘", 2, "개"),
+            new Item("간장", 1, "큰술"), new Item("계란", 1, "개"), new Item("김치", 100, "g"),
+            new Item("돼지고기", 150, "g"), new Item("두부", 0.5, "개"), new Item("고춧가루", 1, "작은술"),
+            new Item("감자", 1, "개"), new Item("참기름", 1, "작은술"), new Item("설탕", 1, "작은술"),
+            new Item("당근", 0.3, "개"), new Item("애호박", 0.3, "개"), new Item("소고기", 120, "g"),
+            new Item("고추장", 1, "큰술"), new Item("된장", 1, "큰술"), new Item("닭고기", 200, "g"),
+            new Item("밥", 1, "컵"), new Item("청양고추", 1, "개"), new Item("버섯", 50, "g"),
+            new Item("무", 100, "g"), new Item("콩나물", 70, "g"), new Item("어묵", 60, "g"),
+            new Item("참치", 80, "g"), new Item("햄", 50, "g"), new Item("스팸", 60, "g"),
+            new Item("베이컨", 40, "g"), new Item("시금치", 60, "g"), new Item("양배추", 80, "g"),
+            new Item("오징어", 100, "g"), new Item("새우", 80, "g"), new Item("고등어", 1, "개"),
+            new Item("멸치", 15, "g"), new Item("미역", 5, "g"), new Item("떡", 100, "g"),
+            new Item("소면", 90, "g"), new Item("라면", 1, "개"), new Item("당면", 40, "g"),
+            new Item("우유", 100, "ml"), new Item("치즈", 1, "개"), new Item("버터", 10, "g"),
+            new Item("깻잎", 5, "개"), new Item("부추", 40, "g"), new Item("고구마", 1, "개"),
+            new Item("브로콜리", 60, "g"), new Item("파프리카", 0.5, "개"), new Item("오이", 0.5, "개"),
+            new Item("가지", 1, "개"), new Item("연근", 60, "g"), new Item("우엉", 50, "g"),
+            new Item("숙주", 70, "g"), new Item("표고버섯", 2, "개"), new Item("팽이버섯", 50, "g"),
+            new Item("느타리버섯", 50, "g"), new Item("바지락", 100, "g"), new Item("홍합", 120, "g"),
+            new Item("꽁치", 1, "개"), new Item("갈치", 1, "개"), new Item("조기", 1, "개"),
+            new Item("북어", 20, "g"), new Item("황태", 20, "g"), new Item("낙지", 100, "g"),
+            new Item("주꾸미", 100, "g"), new Item("꽃게", 1, "개"), new Item("전복", 1, "개"),
+            new Item("굴", 80, "g"), new Item("게맛살", 2, "개"), new Item("소시지", 2, "개"),
+            new Item("닭가슴살", 1, "개"), new Item("닭날개", 5, "개"), new Item("삼겹살", 150, "g"),
+            new Item("목살", 150, "g"), new Item("차돌박이", 100, "g"), new Item("다짐육", 100, "g"),
+            new Item("양지", 120, "g"), new Item("사골육수", 300, "ml"), new Item("쌀", 0.5, "컵"),
+            new Item("찹쌀", 0.5, "컵"), new Item("밀가루", 3, "큰술"), new Item("부침가루", 3, "큰술"),
+            new Item("전분", 1, "큰술"), new Item("식초", 1, "작은술"), new Item("매실청", 1, "작은술"),
+            new Item("올리고당", 1, "큰술"), new Item("물엿", 1, "큰술"), new Item("굴소스", 1, "작은술"),
+            new Item("액젓", 1, "작은술"), new Item("새우젓", 1, "작은술"), new Item("들기름", 1, "작은술"),
+            new Item("들깨가루", 1, "큰술"), new Item("깨", 1, "작은술"), new Item("김", 1, "개"),
+            new Item("쑥갓", 20, "g"), new Item("미나리", 30, "g"), new Item("냉이", 30, "g"),
+            new Item("달래", 20, "g"), new Item("고사리", 50, "g"), new Item("도라지", 40, "g"),
+            new Item("취나물", 40, "g"), new Item("콩", 30, "g"), new Item("팥", 30, "g"),
+            new Item("옥수수", 50, "g"), new Item("단호박", 100, "g"), new Item("토마토", 1, "개"),
+            new Item("사과", 0.5, "개"), new Item("배", 0.3, "개"), new Item("잣", 5, "g"),
+            new Item("대추", 2, "개"), new Item("인삼", 1, "개"), new Item("생강", 5, "g"));
+
+    /** GeminiService 응답 스키마의 category enum 과 같은 값 → 제목 접미어 */
+    public static final List<String> CATEGORIES = List.of("탕", "볶음", "구이", "조림", "국", "전", "밥", "면", "기타");
+    private static final List<String> SUFFIXES = List.of("탕", "볶음", "구이", "조림", "국", "전", "덮밥", "국수", "무침");
+    private static final List<String> PREFIXES = List.of("", "", "", "매콤한 ", "간단 ", "엄마표 ", "얼큰한 ", "달큰한 ", "초간단 ", "자취생 ");
+
+    public static final List<String> DIFFICULTIES = List.of("초급", "중급", "고급");
+
+    private RecipeCorpusVocabulary() {}
+
+    /** 서로 다른 재료 count 개 (주재료가 먼저) */
+    public static List<Item> sampleItems(ZipfSampler sampler, RandomGenerator random, int count) {
+        int want = Math.min(count, INGREDIENTS.size());
+        Set<Item> picked = new LinkedHashSet<>();
+        // 같은 재료가 다시 뽑히면 다시 시도, 상위 재료로 몰려 끝나지 않는 일이 없도록 시도 횟수 제한
+        for (int tries = 0; picked.size() < want && tries < want * 20; tries++) {
+            picked.add(INGREDIENTS.get(sampler.sample(random) % INGREDIENTS.size()));
+        }
+        for (int i = 0; picked.size() < want; i++) picked.add(INGREDIENTS.get(i));
+        return List.copyOf(picked);
+    }
+
+    public static List<String> sampleNames(ZipfSampler sampler, RandomGenerator random, int count) {
+        return sampleItems(sampler, random, count).stream().map(Item::name).toList();
+    }
+
+    /** "매콤한 김치돼지고기볶음" 같은 제목. categoryIndex 는 CATEGORIES 기준 */
+    public static String title(RandomGenerator random, List<Item> items, int categoryIndex) {
+        StringBuilder sb = new StringBuilder(PREFIXES.get(random.nextInt(PREFIXES.size())));
+        sb.append(items.get(0).name());
+        if (items.size() > 1 && random.nextBoolean()) sb.append(items.get(1).name());
+        return sb.append(SUFFIXES.get(categoryIndex)).toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.kfood.kfood_be.perf;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 순위 0..n-1 을 Zipf(s) 분포로 뽑는다: P(k) ∝ 1 / (k+1)^s.
+ * 누적분포를 미리 만들어 두고 이분 탐색 → 표본 하나에 O(log n), 스레드 안전(상태 없음).
+ */
+public final class ZipfSampler {
+
+    private final double[] cdf;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) throw new IllegalArgumentException("n must be positive");
+        if (exponent < 0) throw new IllegalArgumentException("exponent must be >= 0");
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) cdf[k] /= sum;
+        cdf[n - 1] = 1.0;
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+
+    public int sample(RandomGenerator random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        return idx >= 0 ? idx : Math.min(-idx - 1, cdf.length - 1);
+    }
+}
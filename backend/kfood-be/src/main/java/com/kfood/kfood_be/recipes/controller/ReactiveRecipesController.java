@@ -0,0 +1,34 @@
+package com.kfood.kfood_be.recipes.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.*;
+
+import com.kfood.kfood_be.recipes.dto.RecipeRequestDto;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.service.RecipeService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * RecipesController 의 논블로킹 버전. Mono 를 반환하므로 업스트림 대기 중 서블릿 스레드를 잡지 않는다.
+ * (응답 형식은 /api/recipes/prepare 와 동일)
+ */
+@RestController
+@RequestMapping("/api/rx/recipes")
+@RequiredArgsConstructor
+public class ReactiveRecipesController {
+
+    private final RecipeService recipeService;
+
+    @PostMapping("/prepare")
+    public Mono<List<RecipeResponseDto>> prepareRecipes(@Valid @RequestBody RecipeRequestDto requestDto) {
+        return recipeService.generateRecipesReactive(
+                requestDto.getIngredients(),
+                requestDto.getTimeMax(),
+                requestDto.getServings()
+        );
+    }
+}
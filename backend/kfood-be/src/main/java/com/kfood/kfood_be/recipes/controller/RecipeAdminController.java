@@ -0,0 +1,94 @@
+package com.kfood.kfood_be.recipes.controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.kfood.kfood_be.recipes.service.GeminiCircuitBreaker;
+import com.kfood.kfood_be.recipes.service.GeminiConcurrencyLimiter;
+import com.kfood.kfood_be.recipes.service.GeminiModelRouter;
+import com.kfood.kfood_be.recipes.service.GeminiRetryBudget;
+import com.kfood.kfood_be.recipes.service.GeneratedRecipeWriter;
+import com.kfood.kfood_be.recipes.service.IngredientMatchIndex;
+import com.kfood.kfood_be.recipes.service.RecipeBatchService;
+import com.kfood.kfood_be.recipes.service.RecipeCacheKey;
+import com.kfood.kfood_be.recipes.service.RecipeGenerationCoalescer;
+import com.kfood.kfood_be.recipes.service.RecipeGenerationExecutor;
+import com.kfood.kfood_be.recipes.service.RecipeJobService;
+import com.kfood.kfood_be.recipes.service.RecipeNameIndex;
+import com.kfood.kfood_be.recipes.service.RecipeResultCache;
+import com.kfood.kfood_be.recipes.service.RecipeService;
+import com.kfood.kfood_be.recipes.service.StoredRecipeLookup;
+
+import lombok.RequiredArgsConstructor;
+
+/** 운영용: 레시피 결과 캐시 조회/비우기 + 생성 파이프라인 지표 */
+@RestController
+@RequestMapping("/api/admin/recipes")
+@RequiredArgsConstructor
+public class RecipeAdminController {
+
+    private final RecipeResultCache resultCache;
+    private final RecipeGenerationCoalescer coalescer;
+    private final RecipeGenerationExecutor generationExecutor;
+    private final RecipeJobService jobService;
+    private final RecipeBatchService batchService;
+    private final GeneratedRecipeWriter recipeWriter;
+    private final StoredRecipeLookup storedLookup;
+    private final RecipeNameIndex nameIndex;
+    private final IngredientMatchIndex matchIndex;
+    private final GeminiModelRouter modelRouter;
+    private final GeminiConcurrencyLimiter geminiLimiter;
+    private final GeminiCircuitBreaker geminiBreaker;
+    private final GeminiRetryBudget retryBudget;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> metrics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("cache", resultCache.stats());
+        body.put("dbLookup", storedLookup.stats());
+        body.put("ingredientMatch", matchIndex.stats());
+        body.put("nameSearch", nameIndex.stats());
+        body.put("coalescing", coalescer.stats());
+        body.put("generation", generationExecutor.stats());
+        body.put("modelRouting", modelRouter.stats());
+        body.put("geminiLimiter", geminiLimiter.stats());
+        body.put("geminiBreaker", geminiBreaker.stats());
+        body.put("retryBudget", retryBudget.stats());
+        body.put("jobs", jobService.stats());
+        body.put("batch", batchService.stats());
+        body.put("persistence", recipeWriter.stats());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> cache() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("stats", resultCache.stats());
+        body.put("entries", resultCache.entries());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> cacheStats() {
+        return ResponseEntity.ok(resultCache.stats());
+    }
+
+    // 전체 비우기
+    @DeleteMapping("/cache")
+    public ResponseEntity<Map<String, Object>> purgeAll() {
+        return ResponseEntity.ok(Map.of("purged", resultCache.invalidateAll()));
+    }
+
+    // 단건 비우기: ?ingredients=김치,두부&timeMax=20
+    @DeleteMapping("/cache/entry")
+    public ResponseEntity<Map<String, Object>> purge(
+            @RequestParam("ingredients") List<String> ingredients,
+            @RequestParam(value = "timeMax", required = false) Integer timeMax) {
+        RecipeCacheKey key = RecipeService.cacheKeyOf(ingredients, timeMax);
+        return ResponseEntity.ok(Map.of("key", key.toString(), "purged", resultCache.invalidate(key)));
+    }
+}
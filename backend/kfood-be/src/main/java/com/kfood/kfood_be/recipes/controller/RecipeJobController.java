@@ -0,0 +1,69 @@
+package com.kfood.kfood_be.recipes.controller;
+
+import java.net.URI;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.kfood.kfood_be.common.error.ApiException;
+import com.kfood.kfood_be.recipes.dto.RecipeJobResponseDto;
+import com.kfood.kfood_be.recipes.dto.RecipeRequestDto;
+import com.kfood.kfood_be.recipes.service.RecipeJob;
+import com.kfood.kfood_be.recipes.service.RecipeJobService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 레시피 생성: POST 로 작업 제출(즉시 202 + jobId) → GET 으로 조회/롱폴링.
+ * 롱폴링은 DeferredResult 로 처리해 대기 중에 톰캣 워커 스레드를 점유하지 않는다.
+ */
+@RestController
+@RequestMapping("/api/recipes/jobs")
+@RequiredArgsConstructor
+public class RecipeJobController {
+
+    private static final long MAX_WAIT_SEC = 60;
+
+    private final RecipeJobService jobService;
+
+    @PostMapping
+    public ResponseEntity<RecipeJobResponseDto> submit(@Valid @RequestBody RecipeRequestDto requestDto) {
+        RecipeJob job = jobService.submit(
+                requestDto.getIngredients(),
+                requestDto.getTimeMax(),
+                requestDto.getServings()
+        );
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/recipes/jobs/" + job.getId()))
+                .body(job.toResponse());
+    }
+
+    // ?waitSec=30 → 완료되거나 대기시간이 지나면 응답 (미완료면 202)
+    @GetMapping("/{jobId}")
+    public DeferredResult<ResponseEntity<RecipeJobResponseDto>> poll(
+            @PathVariable String jobId,
+            @RequestParam(value = "waitSec", defaultValue = "0") long waitSec) {
+
+        RecipeJob job = jobService.find(jobId)
+                .orElseThrow(() -> ApiException.notFound("작업을 찾을 수 없습니다: " + jobId));
+
+        long wait = Math.max(0, Math.min(waitSec, MAX_WAIT_SEC));
+        DeferredResult<ResponseEntity<RecipeJobResponseDto>> deferred = new DeferredResult<>(wait * 1000);
+        if (job.isFinished() || wait == 0) {
+            deferred.setResult(toEntity(job));
+            return deferred;
+        }
+
+        deferred.onTimeout(() -> deferred.setResult(toEntity(job)));
+        job.getResult().whenComplete((r, e) -> deferred.setResult(toEntity(job)));
+        return deferred;
+    }
+
+    private static ResponseEntity<RecipeJobResponseDto> toEntity(RecipeJob job) {
+        HttpStatus status = job.isFinished() ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(job.toResponse());
+    }
+}
@@ -1,23 +1,42 @@
 package com.kfood.kfood_be.recipes.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.kfood.kfood_be.common.error.GlobalExceptionHandler;
+import com.kfood.kfood_be.recipes.dto.RecipeBatchItemDto;
 import com.kfood.kfood_be.recipes.dto.RecipeRequestDto;
 import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.dto.RecipeStreamEventDto;
+import com.kfood.kfood_be.recipes.dto.StoredRecipeSummaryDto;
+import com.kfood.kfood_be.recipes.service.RecipeBatchService;
 import com.kfood.kfood_be.recipes.service.RecipeService;
+import com.kfood.kfood_be.recipes.service.RecipeStreamService;
+import com.kfood.kfood_be.recipes.service.StoredRecipeLookup;
 
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @RestController
+@Validated
 @RequestMapping("/api/recipes")
 @RequiredArgsConstructor
 public class RecipesController {
 
     private final RecipeService recipeService;
+    private final RecipeStreamService recipeStreamService;
+    private final RecipeBatchService recipeBatchService;
+    private final StoredRecipeLookup storedRecipeLookup;
 
     @PostMapping("/prepare")
     public ResponseEntity<List<RecipeResponseDto>> prepareRecipes(
@@ -31,5 +50,49 @@ public class RecipesController {
         return ResponseEntity.ok(recipes);
     }
 
-    
+    // 이름 검색: 저장된 제목(오타/접두어 허용) → 없으면 생성
+    @GetMapping("/search")
+    public ResponseEntity<List<RecipeResponseDto>> searchRecipes(@RequestParam("q") String query) {
+        return ResponseEntity.ok(recipeService.searchRecipeByName(query));
+    }
+
+    // 저장된 레시피 목록 (최신순, 분류 필터). 본문 없이 헤더 + 재료만
+    @GetMapping("/stored")
+    public ResponseEntity<List<StoredRecipeSummaryDto>> listStoredRecipes(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(storedRecipeLookup.list(category, page, size));
+    }
+
+    // 스트리밍: title → ingredient… → step… → done, 도중 실패 시 reset → done (Accept 에 따라 SSE 또는 NDJSON)
+    @PostMapping(value = "/prepare/stream",
+            produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RecipeStreamEventDto> prepareRecipesStream(
+            @Valid @RequestBody RecipeRequestDto requestDto) {
+
+        return recipeStreamService.stream(
+                requestDto.getIngredients(),
+                requestDto.getTimeMax(),
+                requestDto.getServings()
+        );
+    }
+
+    // 일괄 준비: 같은 재료 조합은 한 번만, 캐시/DB 적중은 바로, 나머지는 배치당 동시 생성 수 제한. 끝나는 순서대로 NDJSON 한 줄씩
+    @PostMapping(value = "/prepare/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RecipeBatchItemDto> prepareRecipesBatch(
+            @RequestBody List<@Valid @NotNull RecipeRequestDto> requests) {
+
+        return recipeBatchService.prepare(requests);
+    }
+
+    // 메서드 검증은 prepare/batch 의 목록 요소(예: requests[2].servings)에만 걸려 있어 이 컨트롤러 안에서만 400 으로 바꾼다.
+    // 단건 @Valid 본문(MethodArgumentNotValidException)은 스프링 기본 400 응답 그대로
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidBatchItem(ConstraintViolationException e) {
+        String message = e.getConstraintViolations().stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.joining(", "));
+        return GlobalExceptionHandler.body(HttpStatus.BAD_REQUEST, message);
+    }
 }
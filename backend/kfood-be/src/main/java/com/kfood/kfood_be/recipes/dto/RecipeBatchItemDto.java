@@ -0,0 +1,18 @@
+package com.kfood.kfood_be.recipes.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/** 일괄 준비(/api/recipes/prepare/batch) 결과 한 줄. 끝나는 순서대로 온다 */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class RecipeBatchItemDto {
+    private List<Integer> indexes;       // 이 결과가 답하는 요청 위치들 (같은 재료 조합은 한 번만 생성)
+    private List<String> ingredients;    // 정규화된 재료 (캐시 키)
+    private String status;               // DONE | FAILED
+    private String source;               // READY(캐시/DB) | GENERATED | FALLBACK(배치 시간 초과)
+    private List<RecipeResponseDto> recipes;   // DONE 일 때만
+    private String error;                // FAILED 일 때만
+}
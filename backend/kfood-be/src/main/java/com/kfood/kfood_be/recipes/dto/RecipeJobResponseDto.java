@@ -0,0 +1,16 @@
+package com.kfood.kfood_be.recipes.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class RecipeJobResponseDto {
+    private String jobId;
+    private String status;        // QUEUED | RUNNING | DONE | FAILED
+    private List<RecipeResponseDto> recipes;   // DONE 일 때만
+    private String error;         // FAILED 일 때만
+    private Long createdAt;       // epoch millis
+}
@@ -1,5 +1,6 @@
 package com.kfood.kfood_be.recipes.dto;
 
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import java.util.List;
@@ -8,6 +9,8 @@ import java.util.List;
 @NoArgsConstructor
 public class RecipeRequestDto {
     private List<String> ingredients;
+    @Positive
     private Integer timeMax;   // 선택
+    @Positive
     private Integer servings;  // 선택
-}
\ No newline at end of file
+}
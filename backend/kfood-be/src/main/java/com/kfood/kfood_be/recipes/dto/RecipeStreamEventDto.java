@@ -0,0 +1,18 @@
+package com.kfood.kfood_be.recipes.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스트리밍 생성 이벤트 (SSE / NDJSON 한 줄).
+ * type: title | meta | ingredient | step | reset | done | error
+ * - meta: {"field": "...", "value": ...}
+ * - reset: {"reason": "..."} 스트림이 도중에 실패해 일반 생성으로 전환. 앞서 받은 title/meta/ingredient/step 은 버린다
+ * - done: 최종 확정 레시피 목록(List<RecipeResponseDto>)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class RecipeStreamEventDto {
+    private String type;
+    private Object data;
+}
@@ -0,0 +1,18 @@
+package com.kfood.kfood_be.recipes.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/** 저장 레시피 목록 한 건 (/api/recipes/stored). 본문(단계/팁)은 없다 */
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class StoredRecipeSummaryDto {
+    private Long id;
+    private String title;
+    private String category;
+    private Integer timeMin;
+    private String difficulty;
+    private List<RecipeResponseDto.Ingredient> ingredients;   // 1인분 기준 name/qty/unit
+}
@@ -3,8 +3,18 @@ package com.kfood.kfood_be.recipes.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 생성 레시피 헤더. 목록/매칭에 쓰는 컬럼은 따로 두고 전체 DTO(JSON)는 RECIPE CLOB 에.
+ * 재료/단계 행은 자식 테이블(GENERATED_RECIPE_INGREDIENT/STEP) — 목록은 projection IN 조회로 읽는다.
+ * ID 는 GeneratedRecipeWriter 가 GENERATED_RECIPE_SEQ 에서 블록 단위로 받아 직접 넣는다 (헤더도 batch insert).
+ */
 @Entity
-@Table(name = "GENERATED_RECIPE")
+@Table(name = "GENERATED_RECIPE",
+       indexes = {
+           @Index(name = "IX_GENERATED_RECIPE_IKEY", columnList = "INGREDIENT_KEY, ID"),
+           @Index(name = "IX_GENERATED_RECIPE_FOOD", columnList = "FOOD"),
+           @Index(name = "IX_GENERATED_RECIPE_CATEGORY", columnList = "CATEGORY, ID")
+       })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,7 +22,6 @@ import lombok.*;
 public class GeneratedRecipeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "ID")
     private Long id;
 
@@ -22,6 +31,21 @@ public class GeneratedRecipeEntity {
     @Column(name = "INGREDIENT", nullable = false, length = 255)
     private String ingredient;
 
-    @Column(name = "RECIPE", nullable = false, length = 4000)
+    // 정규화 재료 키("김치,돼지고기,두부") — 인덱스 정확 일치 조회용
+    @Column(name = "INGREDIENT_KEY", length = 1000)
+    private String ingredientKey;
+
+    @Column(name = "CATEGORY", length = 30)
+    private String category;
+
+    @Column(name = "TIME_MIN", columnDefinition = "NUMBER(5)")
+    private Integer timeMin;
+
+    @Column(name = "DIFFICULTY", length = 10)
+    private String difficulty;
+
+    // 전체 RecipeResponseDto JSON (길이 제한 없음)
+    @Lob
+    @Column(name = "RECIPE", nullable = false)
     private String recipe;
-}
\ No newline at end of file
+}
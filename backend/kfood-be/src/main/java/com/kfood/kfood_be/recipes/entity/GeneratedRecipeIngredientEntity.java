@@ -0,0 +1,39 @@
+package com.kfood.kfood_be.recipes.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/** 생성 레시피의 재료 한 줄 (1인분 기준) */
+@Entity
+@Table(name = "GENERATED_RECIPE_INGREDIENT",
+       indexes = @Index(name = "IX_GR_INGREDIENT_RECIPE", columnList = "RECIPE_ID, SEQ"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeneratedRecipeIngredientEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "RECIPE_ID", nullable = false)
+    private GeneratedRecipeEntity recipe;
+
+    @Column(name = "SEQ", nullable = false, columnDefinition = "NUMBER(5)")
+    private Integer seq;
+
+    @Column(name = "NAME", nullable = false, length = 255)
+    private String name;
+
+    @Column(name = "QTY", columnDefinition = "NUMBER(12,2)")
+    private Double qty;
+
+    @Column(name = "UNIT", length = 20)
+    private String unit;
+
+    @Column(name = "LABEL", length = 255)
+    private String label;
+}
@@ -0,0 +1,30 @@
+package com.kfood.kfood_be.recipes.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/** 생성 레시피의 조리 단계 한 줄 */
+@Entity
+@Table(name = "GENERATED_RECIPE_STEP",
+       indexes = @Index(name = "IX_GR_STEP_RECIPE", columnList = "RECIPE_ID, STEP_ORDER"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeneratedRecipeStepEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "RECIPE_ID", nullable = false)
+    private GeneratedRecipeEntity recipe;
+
+    @Column(name = "STEP_ORDER", nullable = false, columnDefinition = "NUMBER(5)")
+    private Integer stepOrder;
+
+    @Column(name = "STEP_TEXT", nullable = false, length = 2000)
+    private String text;
+}
@@ -0,0 +1,20 @@
+package com.kfood.kfood_be.recipes.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kfood.kfood_be.recipes.entity.GeneratedRecipeIngredientEntity;
+
+@Repository
+public interface GeneratedRecipeIngredientRepository extends JpaRepository<GeneratedRecipeIngredientEntity, Long> {
+
+    // 여러 레시피의 재료 행을 한 번에 (IX_GR_INGREDIENT_RECIPE) — 목록 N+1 방지
+    @Query("select i.recipe.id as recipeId, i.name as name, i.qty as qty, i.unit as unit"
+            + " from GeneratedRecipeIngredientEntity i where i.recipe.id in :ids order by i.recipe.id, i.seq")
+    List<RecipeIngredientView> findViewsByRecipeIds(@Param("ids") Collection<Long> recipeIds);
+}
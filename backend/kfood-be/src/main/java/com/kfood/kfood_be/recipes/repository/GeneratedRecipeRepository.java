@@ -1,9 +1,14 @@
 package com.kfood.kfood_be.recipes.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.kfood.kfood_be.recipes.entity.GeneratedRecipeEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +16,21 @@ public interface GeneratedRecipeRepository extends JpaRepository<GeneratedRecipe
     List<GeneratedRecipeEntity> findByIngredientIgnoreCase(String ingredient);
     List<GeneratedRecipeEntity> findByIngredientContainingIgnoreCase(String ingredient);
     List<GeneratedRecipeEntity> findByFoodIgnoreCase(String food);
-}
\ No newline at end of file
+
+    // IX_GENERATED_RECIPE_IKEY 를 타는 정확 일치 조회 (키는 이미 정규화된 값).
+    // TIME_MIN 조건을 DB 에서 걸러 필요한 행의 본문(CLOB)만 읽는다. TIME_MIN 이 없는 예전 행도 후보
+    @Query("select r from GeneratedRecipeEntity r where r.ingredientKey = :key"
+            + " and (:timeMax is null or r.timeMin is null or r.timeMin <= :timeMax) order by r.id desc")
+    List<GeneratedRecipeEntity> findLatestByIngredientKey(@Param("key") String ingredientKey,
+                                                          @Param("timeMax") Integer timeMax,
+                                                          Limit limit);
+
+    // 이름 검색 결과 제목별 최신 1건의 본문만 (IX_GENERATED_RECIPE_FOOD). 같은 제목이 많이 쌓여도 제목 수만큼만 읽는다
+    @Query("select r.id as id, r.food as food, r.recipe as recipe from GeneratedRecipeEntity r"
+            + " where r.id in (select max(r2.id) from GeneratedRecipeEntity r2 where r2.food in :foods group by r2.food)")
+    List<RecipeBodyView> findLatestBodiesByFoodIn(@Param("foods") Collection<String> foods);
+
+    // 목록: 헤더 컬럼만 (RECIPE CLOB 은 읽지 않음)
+    List<RecipeHeaderView> findAllByOrderByIdDesc(Pageable pageable);
+    List<RecipeHeaderView> findByCategoryOrderByIdDesc(String category, Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package com.kfood.kfood_be.recipes.repository;
+
+/** 제목 검색 결과 본문 조회용 projection (헤더 나머지/자식 행 없이) */
+public interface RecipeBodyView {
+    Long getId();
+    String getFood();
+    String getRecipe();
+}
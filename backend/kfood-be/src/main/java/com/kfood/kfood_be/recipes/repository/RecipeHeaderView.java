@@ -0,0 +1,10 @@
+package com.kfood.kfood_be.recipes.repository;
+
+/** GENERATED_RECIPE 목록용 projection (본문 CLOB 제외) */
+public interface RecipeHeaderView {
+    Long getId();
+    String getFood();
+    String getCategory();
+    Integer getTimeMin();
+    String getDifficulty();
+}
@@ -0,0 +1,9 @@
+package com.kfood.kfood_be.recipes.repository;
+
+/** GENERATED_RECIPE_INGREDIENT 목록용 projection */
+public interface RecipeIngredientView {
+    Long getRecipeId();
+    String getName();
+    Double getQty();
+    String getUnit();
+}
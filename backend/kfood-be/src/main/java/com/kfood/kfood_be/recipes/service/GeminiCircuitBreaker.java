@@ -0,0 +1,194 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gemini 엔드포인트 서킷 브레이커.
+ * - CLOSED: 최근 window-size 건 중 상류 장애(429/5xx/타임아웃/연결 실패) 비율이 failure-rate 이상이면 OPEN (min-calls 이상일 때)
+ * - OPEN: 호출하지 않고 바로 GeminiUnavailableException("circuit-open") → 호출자는 캐시/DB/로컬 폴백으로 즉시 응답
+ * - open-duration 이 지나면 HALF_OPEN: half-open-probes 건만 시험 호출, 모두 성공하면 CLOSED,
+ *   하나라도 실패하면 다시 OPEN (열림 시간 2배, 최대 max-open-duration)
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean enabled;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private final long maxOpenNanos;
+    private final int halfOpenProbes;
+
+    // 아래 상태는 this 로 보호
+    private State state = State.CLOSED;
+    private final boolean[] window;          // true = 상류 장애
+    private int next;
+    private int filled;
+    private int failures;
+    private long openUntilNanos;
+    private long currentOpenNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder probes = new LongAdder();
+
+    public GeminiCircuitBreaker(@Value("${gemini.breaker.enabled:true}") boolean enabled,
+                                @Value("${gemini.breaker.window-size:20}") int windowSize,
+                                @Value("${gemini.breaker.min-calls:10}") int minCalls,
+                                @Value("${gemini.breaker.failure-rate:0.5}") double failureRate,
+                                @Value("${gemini.breaker.open-duration:30s}") Duration openDuration,
+                                @Value("${gemini.breaker.max-open-duration:5m}") Duration maxOpenDuration,
+                                @Value("${gemini.breaker.half-open-probes:2}") int halfOpenProbes) {
+        this.enabled = enabled;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minCalls = Math.max(1, Math.min(minCalls, window.length));
+        this.failureRate = failureRate;
+        this.openNanos = openDuration.toNanos();
+        this.maxOpenNanos = Math.max(openNanos, maxOpenDuration.toNanos());
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.currentOpenNanos = openNanos;
+    }
+
+    /** 지금 호출해 볼 수 있는지 (OPEN 이고 열림 시간이 남았으면 false). 호출 전 빠른 판단용 */
+    public synchronized boolean isCallPermitted() {
+        return !enabled || state != State.OPEN || System.nanoTime() - openUntilNanos >= 0;
+    }
+
+    /** 호출 한 건 허가. OPEN 이거나 HALF_OPEN 시험 호출이 이미 꽉 찼으면 GeminiUnavailableException */
+    public Ticket acquire() {
+        if (!enabled) return new Ticket(false);
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openUntilNanos < 0) {
+                    rejected.increment();
+                    throw new GeminiUnavailableException("circuit-open", "Gemini 서킷이 열려 있습니다.");
+                }
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+                log.info("[Gemini] circuit HALF_OPEN: 시험 호출 {}건", halfOpenProbes);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                    rejected.increment();
+                    throw new GeminiUnavailableException("circuit-open", "Gemini 서킷 시험 호출 중입니다.");
+                }
+                probesInFlight++;
+                probes.increment();
+                return new Ticket(true);
+            }
+            return new Ticket(false);
+        }
+    }
+
+    /** 호출 한 건의 결과 보고. success/failure/release 중 처음 한 번만 반영된다 */
+    public final class Ticket {
+        private final boolean probe;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Ticket(boolean probe) {
+            this.probe = probe;
+        }
+
+        public void success() {
+            if (done.compareAndSet(false, true)) onResult(probe, Boolean.TRUE);
+        }
+
+        /** 상류 장애가 아닌 오류(4xx, 빈 응답 등)는 상류가 응답한 것이므로 성공으로 본다 */
+        public void failure(Throwable error) {
+            if (done.compareAndSet(false, true)) onResult(probe, !GeminiErrors.isUpstreamFailure(error));
+        }
+
+        /** 취소 등: 결과 없이 자리만 반환 */
+        public void release() {
+            if (done.compareAndSet(false, true)) onResult(probe, null);
+        }
+    }
+
+    private synchronized void onResult(boolean probe, Boolean ok) {
+        if (!enabled) return;
+        if (probe) {
+            probesInFlight--;
+            if (state != State.HALF_OPEN || ok == null) return;
+            if (!ok) {
+                open(Math.min(maxOpenNanos, currentOpenNanos * 2), "시험 호출 실패");
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                state = State.CLOSED;
+                resetWindow();
+                currentOpenNanos = openNanos;
+                recovered.increment();
+                log.info("[Gemini] circuit CLOSED: 시험 호출 {}건 성공", probeSuccesses);
+            }
+            return;
+        }
+        if (ok == null || state != State.CLOSED) return;   // 열리기 전에 출발한 호출의 결과는 무시
+
+        boolean failed = !ok;
+        if (filled == window.length) {
+            if (window[next]) failures--;
+        } else {
+            filled++;
+        }
+        window[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % window.length;
+
+        if (filled >= minCalls && (double) failures / filled >= failureRate) {
+            open(openNanos, "장애 " + failures + "/" + filled);
+        }
+    }
+
+    private void open(long durationNanos, String why) {
+        state = State.OPEN;
+        currentOpenNanos = durationNanos;
+        openUntilNanos = System.nanoTime() + durationNanos;
+        resetWindow();
+        opened.increment();
+        log.warn("[Gemini] circuit OPEN {}ms ({})", durationNanos / 1_000_000, why);
+    }
+
+    private void resetWindow() {
+        next = 0;
+        filled = 0;
+        failures = 0;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        synchronized (this) {
+            out.put("enabled", enabled);
+            out.put("state", state.name().toLowerCase(Locale.ROOT));
+            out.put("recentCalls", filled);
+            out.put("recentFailures", failures);
+            out.put("openRemainingMs", state == State.OPEN
+                    ? Math.max(0, (openUntilNanos - System.nanoTime()) / 1_000_000) : 0);
+            out.put("currentOpenMs", currentOpenNanos / 1_000_000);
+        }
+        out.put("failureRateThreshold", failureRate);
+        out.put("rejected", rejected.sum());
+        out.put("opened", opened.sum());
+        out.put("recovered", recovered.sum());
+        out.put("probes", probes.sum());
+        return out;
+    }
+}
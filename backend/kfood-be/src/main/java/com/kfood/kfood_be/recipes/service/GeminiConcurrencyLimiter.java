@@ -0,0 +1,264 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kfood.kfood_be.common.metrics.LatencyRecorder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gemini 동시 호출 수 한도 (AIMD).
+ * - 한도 안이면 바로 허가, 넘치면 FIFO 대기열에서 max-wait 까지 기다린다
+ * - 대기열이 가득 차거나 대기 시간이 지나면 GeminiUnavailableException → 호출자는 로컬 폴백으로 응답
+ * - 응답이 정상이고 한도의 절반 이상을 쓰고 있었으면 한도 += 1/한도 (호출 한도만큼 성공하면 +1)
+ * - 429/5xx/타임아웃/연결 실패, 또는 모델 p50 × slow-factor 보다 느린 응답이면 한도 *= backoff (cooldown 에 한 번)
+ */
+@Slf4j
+@Component
+public class GeminiConcurrencyLimiter {
+
+    private final GeminiModelRouter router;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoff;
+    private final double slowFactor;
+    private final long slowFloorMs;
+    private final long cooldownNanos;
+    private final int queueCapacity;
+    private final long maxWaitMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder shedQueueFull = new LongAdder();
+    private final LongAdder shedTimeout = new LongAdder();
+    private final LongAdder increases = new LongAdder();
+    private final LongAdder decreases = new LongAdder();
+    private final LongAdder overloadSignals = new LongAdder();
+    private final LongAdder slowSignals = new LongAdder();
+    private final LatencyRecorder queueWait = new LatencyRecorder(256);
+
+    public GeminiConcurrencyLimiter(GeminiModelRouter router,
+                                    @Value("${gemini.limiter.enabled:true}") boolean enabled,
+                                    @Value("${gemini.limiter.initial-limit:16}") int initialLimit,
+                                    @Value("${gemini.limiter.min-limit:2}") int minLimit,
+                                    @Value("${gemini.limiter.max-limit:64}") int maxLimit,
+                                    @Value("${gemini.limiter.backoff:0.7}") double backoff,
+                                    @Value("${gemini.limiter.slow-factor:2.0}") double slowFactor,
+                                    @Value("${gemini.limiter.slow-floor:10s}") Duration slowFloor,
+                                    @Value("${gemini.limiter.cooldown:2s}") Duration cooldown,
+                                    @Value("${gemini.limiter.queue-capacity:64}") int queueCapacity,
+                                    @Value("${gemini.limiter.max-wait:5s}") Duration maxWait) {
+        this.router = router;
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        this.backoff = backoff;
+        this.slowFactor = slowFactor;
+        this.slowFloorMs = slowFloor.toMillis();
+        this.cooldownNanos = cooldown.toNanos();
+        this.queueCapacity = queueCapacity;
+        this.maxWaitMs = maxWait.toMillis();
+        this.lastDecreaseNanos = System.nanoTime() - cooldownNanos;
+    }
+
+    /** 블로킹 호출용. 허가가 날 때까지(최대 max-wait) 기다린다. 인터럽트되면 CancellationException */
+    public Permit acquire(String model) {
+        CompletableFuture<Permit> f = acquireAsync(model);
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!f.cancel(false)) {
+                Permit granted = f.getNow(null);   // 취소 직전에 허가가 났으면 돌려준다
+                if (granted != null) granted.release();
+            }
+            throw new CancellationException("Gemini 호출 대기 중 취소됨");
+        }
+    }
+
+    /** 논블로킹 호출용. 대기열이 가득 차면 바로, 대기 시간이 지나면 GeminiUnavailableException 으로 완료된다 */
+    public CompletableFuture<Permit> acquireAsync(String model) {
+        if (!enabled) return CompletableFuture.completedFuture(new Permit(model));
+        Waiter w;
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                acquired.increment();
+                return CompletableFuture.completedFuture(new Permit(model));
+            }
+            if (waiters.size() >= queueCapacity) {
+                shedQueueFull.increment();
+                return CompletableFuture.failedFuture(new GeminiUnavailableException("queue-full",
+                        "Gemini 동시 호출 대기열이 가득 찼습니다. (limit=" + (int) limit + ", queue=" + waiters.size() + ")"));
+            }
+            w = new Waiter(model, new CompletableFuture<>(), System.nanoTime());
+            waiters.addLast(w);
+            queued.increment();
+        } finally {
+            lock.unlock();
+        }
+
+        // 대기 시간 초과/취소 → 대기열에서 뺀다
+        w.future.whenComplete((p, e) -> {
+            if (e == null) return;
+            lock.lock();
+            try {
+                waiters.remove(w);
+            } finally {
+                lock.unlock();
+            }
+        });
+        CompletableFuture.delayedExecutor(maxWaitMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (w.future.completeExceptionally(new GeminiUnavailableException("queue-timeout",
+                    "Gemini 동시 호출 대기 시간(" + maxWaitMs + "ms)을 넘었습니다."))) {
+                shedTimeout.increment();
+            }
+        });
+        return w.future;
+    }
+
+    /** 호출 하나의 허가. success/failure/release 중 처음 한 번만 반영된다 */
+    public final class Permit {
+        private final String model;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String model) {
+            this.model = model;
+        }
+
+        /** 정상 응답 (느렸으면 혼잡 신호) */
+        public void success() {
+            if (released.compareAndSet(false, true)) {
+                onRelease(model, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), null);
+            }
+        }
+
+        /** 호출 실패 — 429/5xx/타임아웃이면 혼잡 신호 */
+        public void failure(Throwable error) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(model, -1, error == null ? new IllegalStateException() : error);
+            }
+        }
+
+        /** 취소 등 — 한도는 건드리지 않고 자리만 돌려준다 */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                onRelease(model, -1, null);
+            }
+        }
+    }
+
+    private void onRelease(String model, long latencyMs, Throwable error) {
+        if (!enabled) return;
+        boolean overload = error != null && GeminiErrors.isUpstreamFailure(error);
+        boolean slow = error == null && latencyMs >= 0 && latencyMs > slowThresholdMs(model);
+        List<Waiter> granted;
+        lock.lock();
+        try {
+            int before = inFlight;
+            inFlight--;
+            if (overload || slow) {
+                (overload ? overloadSignals : slowSignals).increment();
+                long now = System.nanoTime();
+                if (now - lastDecreaseNanos >= cooldownNanos && limit > minLimit) {
+                    double from = limit;
+                    limit = Math.max(minLimit, limit * backoff);
+                    lastDecreaseNanos = now;
+                    decreases.increment();
+                    log.info("[Gemini] 동시 호출 한도 {} → {} ({}, {}, {}ms)", (int) from, (int) limit,
+                            overload ? "overload" : "slow", model, latencyMs);
+                }
+            } else if (error == null && latencyMs >= 0 && before * 2 >= limit && limit < maxLimit) {
+                int whole = (int) limit;
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+                if ((int) limit > whole) increases.increment();
+            }
+            granted = takeGranted();
+        } finally {
+            lock.unlock();
+        }
+        // 대기자 완료는 lock 밖에서 (Mono 구독자가 그 자리에서 호출을 시작할 수 있다)
+        for (Waiter w : granted) {
+            Permit p = new Permit(w.model);
+            if (w.future.complete(p)) {
+                acquired.increment();
+                queueWait.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - w.enqueuedNanos));
+            } else {
+                p.release();   // 그 사이 시간 초과/취소된 대기자 → 자리 반환
+            }
+        }
+    }
+
+    // lock 보유 중. 자리가 나는 만큼 대기열 앞에서부터 꺼내 inFlight 에 잡아 둔다
+    private List<Waiter> takeGranted() {
+        List<Waiter> granted = List.of();
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            if (granted.isEmpty()) granted = new ArrayList<>(2);
+            granted.add(waiters.pollFirst());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    private long slowThresholdMs(String model) {
+        long p50 = router.medianMs(model);
+        return p50 < 0 ? Long.MAX_VALUE : Math.max(slowFloorMs, (long) (p50 * slowFactor));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            out.put("enabled", enabled);
+            out.put("limit", (int) limit);
+            out.put("inFlight", inFlight);
+            out.put("queueDepth", waiters.size());
+        } finally {
+            lock.unlock();
+        }
+        out.put("minLimit", minLimit);
+        out.put("maxLimit", maxLimit);
+        out.put("queueCapacity", queueCapacity);
+        out.put("maxWaitMs", maxWaitMs);
+        out.put("acquired", acquired.sum());
+        out.put("queued", queued.sum());
+        out.put("shedQueueFull", shedQueueFull.sum());
+        out.put("shedTimeout", shedTimeout.sum());
+        out.put("increases", increases.sum());
+        out.put("decreases", decreases.sum());
+        out.put("overloadSignals", overloadSignals.sum());
+        out.put("slowSignals", slowSignals.sum());
+        out.put("queueWait", queueWait.snapshot());
+        return out;
+    }
+
+    private record Waiter(String model, CompletableFuture<Permit> future, long enqueuedNanos) {}
+}
@@ -0,0 +1,25 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/** Gemini 호출 오류 분류 (동시 호출 한도/서킷 브레이커 공용) */
+final class GeminiErrors {
+
+    private GeminiErrors() {}
+
+    /** 상류 장애/혼잡 신호: 429, 5xx, 타임아웃, 연결 실패. 4xx/빈 응답 등은 상류가 살아 있는 것으로 본다 */
+    static boolean isUpstreamFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException wre) {
+                int status = wre.getStatusCode().value();
+                return status == 429 || status >= 500;
+            }
+            if (t instanceof TimeoutException || t instanceof WebClientRequestException) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,81 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * generateContent 응답에서 candidates[0].content.parts[].text 만 뽑는다.
+ * 나머지(safetyRatings, usageMetadata …)는 skipChildren 으로 건너뛰고,
+ * text 는 파서 내부 char 버퍼에서 바로 이어 붙여 중간 String 을 만들지 않는다.
+ */
+public final class GeminiJsonReader {
+
+    private GeminiJsonReader() {}
+
+    /** 텍스트가 없으면 "" */
+    public static String candidateText(JsonParser p) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        if (p.nextToken() != JsonToken.START_OBJECT) return "";
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken t = p.nextToken();
+            if ("candidates".equals(field) && t == JsonToken.START_ARRAY) {
+                JsonToken first = p.nextToken();
+                if (first == JsonToken.END_ARRAY) continue;
+                if (first == JsonToken.START_OBJECT) readCandidate(p, sb);
+                else p.skipChildren();
+                skipRestOfArray(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void readCandidate(JsonParser p, StringBuilder sb) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken t = p.nextToken();
+            if ("content".equals(field) && t == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String cf = p.currentName();
+                    JsonToken ct = p.nextToken();
+                    if ("parts".equals(cf) && ct == JsonToken.START_ARRAY) {
+                        readParts(p, sb);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    // 객체가 아닌 원소는 건너뛰고 배열 끝까지 (중간에 멈추면 바깥 객체 읽기가 어긋난다)
+    private static void readParts(JsonParser p, StringBuilder sb) throws IOException {
+        JsonToken e;
+        while ((e = p.nextToken()) != null && e != JsonToken.END_ARRAY) {
+            if (e != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken t = p.nextToken();
+                if ("text".equals(field) && t == JsonToken.VALUE_STRING) {
+                    sb.append(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void skipRestOfArray(JsonParser p) throws IOException {
+        JsonToken t;
+        while ((t = p.nextToken()) != null && t != JsonToken.END_ARRAY) p.skipChildren();
+    }
+}
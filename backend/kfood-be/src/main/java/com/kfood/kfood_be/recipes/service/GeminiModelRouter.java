@@ -0,0 +1,237 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kfood.kfood_be.common.metrics.LatencyHistogram;
+import com.kfood.kfood_be.common.metrics.LatencyRecorder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 Gemini 모델 순서를 정한다. gemini.routing.models 는 빠른 모델 → 상위 모델 순.
+ * - 지연 예산 안에 최근 p95 가 들어오는 모델만 후보 (표본이 없으면 후보)
+ * - 파싱 성공률(최근 100건)이 min-success-rate 미만인 모델은 제외, probe-every 번에 한 번은 조건 없이 시험
+ * - 작은 프롬프트 → 가장 빠른 후보, complex-prompt-chars 이상 → 가장 상위 후보
+ * - 후보가 없으면 p50 이 가장 짧은 모델 (성공률을 통과한 모델 우선)
+ * 고른 모델 뒤에는 그보다 상위 모델들이 승급 순서로 붙는다 (호출 실패/파싱 실패 시 GeminiService 가 다음으로).
+ */
+@Slf4j
+@Component
+public class GeminiModelRouter {
+
+    public record Route(List<String> models, String reason) {
+        public String primary() {
+            return models.get(0);
+        }
+    }
+
+    private final List<String> models;
+    private final Map<String, ModelStats> stats = new LinkedHashMap<>();
+    private final Duration defaultBudget;
+    private final int complexPromptChars;
+    private final double minSuccessRate;
+    private final int minSamples;
+    private final int probeEvery;
+
+    private final AtomicLong routes = new AtomicLong();
+    private final Map<String, LongAdder> decisions = new ConcurrentHashMap<>();   // "모델:이유" → 횟수
+    private final Map<String, LongAdder> escalations = new ConcurrentHashMap<>(); // "from->to" → 횟수
+
+    public GeminiModelRouter(@Value("${gemini.routing.models:${gemini.model:gemini-2.5-pro}}") List<String> models,
+                             @Value("${gemini.routing.latency-budget:20s}") Duration defaultBudget,
+                             @Value("${gemini.routing.complex-prompt-chars:1200}") int complexPromptChars,
+                             @Value("${gemini.routing.min-success-rate:0.8}") double minSuccessRate,
+                             @Value("${gemini.routing.min-samples:20}") int minSamples,
+                             @Value("${gemini.routing.probe-every:20}") int probeEvery) {
+        this.models = models.stream().map(String::trim).filter(m -> !m.isEmpty()).distinct().toList();
+        if (this.models.isEmpty()) throw new IllegalStateException("gemini.routing.models 가 비어 있습니다.");
+        this.models.forEach(m -> stats.put(m, new ModelStats()));
+        this.defaultBudget = defaultBudget;
+        this.complexPromptChars = complexPromptChars;
+        this.minSuccessRate = minSuccessRate;
+        this.minSamples = minSamples;
+        this.probeEvery = probeEvery;
+        log.info("[Gemini] routing models={}, budget={}ms, complexPromptChars={}",
+                this.models, defaultBudget.toMillis(), complexPromptChars);
+    }
+
+    public List<String> models() {
+        return models;
+    }
+
+    /** budget 이 null 이면 gemini.routing.latency-budget */
+    public Route route(int promptChars, Duration budget) {
+        boolean probe = probeEvery > 0 && routes.incrementAndGet() % probeEvery == 0;
+        Route route = choose(promptChars, budget, probe);
+        decisions.computeIfAbsent(route.primary() + ":" + route.reason(), k -> new LongAdder()).increment();
+        return route;
+    }
+
+    /** route 가 (시험 호출이 아닐 때) 고를 첫 모델. 집계·시험 호출 순번에 영향 없음 */
+    public String expectedPrimary(int promptChars, Duration budget) {
+        return choose(promptChars, budget, false).primary();
+    }
+
+    private Route choose(int promptChars, Duration budget, boolean probe) {
+        long budgetMs = (budget == null ? defaultBudget : budget).toMillis();
+        boolean complex = promptChars >= complexPromptChars;
+
+        List<String> fitting = new ArrayList<>(models.size());
+        for (String m : models) {
+            ModelStats s = stats.get(m);
+            if (!probe && !s.healthy(minSuccessRate, minSamples)) continue;
+            long p95 = s.latency.percentile(95);
+            if (probe || p95 < 0 || p95 <= budgetMs) fitting.add(m);
+        }
+
+        String chosen;
+        String reason;
+        if (fitting.isEmpty()) {
+            chosen = fastestByMedian();
+            reason = "over-budget";
+        } else if (complex) {
+            chosen = fitting.get(fitting.size() - 1);
+            reason = probe ? "probe" : "complex";
+        } else {
+            chosen = fitting.get(0);
+            reason = probe ? "probe" : "simple";
+        }
+
+        List<String> order = new ArrayList<>(models.subList(models.indexOf(chosen), models.size()));
+        return new Route(order, reason);
+    }
+
+    private String fastestByMedian() {
+        String best = null;
+        long bestP50 = Long.MAX_VALUE;
+        boolean bestHealthy = false;
+        for (String m : models) {
+            ModelStats s = stats.get(m);
+            boolean healthy = s.healthy(minSuccessRate, minSamples);
+            long p50 = s.latency.percentile(50);
+            if (p50 < 0) p50 = Long.MAX_VALUE - 1;
+            if (best == null || (healthy && !bestHealthy) || (healthy == bestHealthy && p50 < bestP50)) {
+                best = m;
+                bestP50 = p50;
+                bestHealthy = healthy;
+            }
+        }
+        return best;
+    }
+
+    // ========= 측정 (GeminiService 가 보고) =========
+
+    /** 응답 수신까지 걸린 시간 (성공한 호출만) */
+    public void recordLatency(String model, long millis) {
+        ModelStats s = stats.get(model);
+        if (s == null) return;
+        s.calls.increment();
+        s.latency.record(millis);
+        s.histogram.record(millis);
+    }
+
+    /** 호출 자체 실패(타임아웃/5xx 등) — 성공률에도 실패로 반영 */
+    public void recordCallError(String model) {
+        ModelStats s = stats.get(model);
+        if (s == null) return;
+        s.calls.increment();
+        s.callErrors.increment();
+        s.outcome(false);
+    }
+
+    /** 응답을 RecipeService 파서가 레시피로 읽었는지 */
+    public void recordParse(String model, boolean ok) {
+        ModelStats s = stats.get(model);
+        if (s == null) return;
+        (ok ? s.parseOk : s.parseFailed).increment();
+        s.outcome(ok);
+    }
+
+    /** 최근 성공 호출의 p50, 표본이 없거나 모르는 모델이면 -1 */
+    public long medianMs(String model) {
+        ModelStats s = stats.get(model);
+        return s == null ? -1 : s.latency.percentile(50);
+    }
+
+    /** 최근 성공 호출의 p95, 표본이 없거나 모르는 모델이면 -1 */
+    public long p95Ms(String model) {
+        ModelStats s = stats.get(model);
+        return s == null ? -1 : s.latency.percentile(95);
+    }
+
+    public void recordEscalation(String from, String to) {
+        escalations.computeIfAbsent(from + "->" + to, k -> new LongAdder()).increment();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("models", models);
+        out.put("defaultBudgetMs", defaultBudget.toMillis());
+        out.put("complexPromptChars", complexPromptChars);
+        out.put("routes", routes.get());
+        Map<String, Object> decided = new TreeMap<>();
+        decisions.forEach((k, v) -> decided.put(k, v.sum()));
+        out.put("decisions", decided);
+        Map<String, Object> escalated = new TreeMap<>();
+        escalations.forEach((k, v) -> escalated.put(k, v.sum()));
+        out.put("escalations", escalated);
+        stats.forEach((m, s) -> {
+            Map<String, Object> one = new LinkedHashMap<>();
+            one.put("calls", s.calls.sum());
+            one.put("callErrors", s.callErrors.sum());
+            one.put("parseOk", s.parseOk.sum());
+            one.put("parseFailed", s.parseFailed.sum());
+            one.put("recentSuccessRate", s.successRate());
+            one.put("healthy", s.healthy(minSuccessRate, minSamples));
+            one.put("latency", s.latency.snapshot());
+            one.put("histogramMs", s.histogram.snapshot());
+            out.put(m, one);
+        });
+        return out;
+    }
+
+    private static final class ModelStats {
+        final LatencyRecorder latency = new LatencyRecorder(256);
+        final LatencyHistogram histogram = new LatencyHistogram(1_000, 2_000, 5_000, 10_000, 20_000, 30_000, 60_000);
+        final LongAdder calls = new LongAdder();
+        final LongAdder callErrors = new LongAdder();
+        final LongAdder parseOk = new LongAdder();
+        final LongAdder parseFailed = new LongAdder();
+
+        // 최근 결과 링버퍼 (성공/실패)
+        private final boolean[] recent = new boolean[100];
+        private int next;
+        private int filled;
+        private int okCount;
+
+        synchronized void outcome(boolean ok) {
+            if (filled == recent.length) {
+                if (recent[next]) okCount--;
+            } else {
+                filled++;
+            }
+            recent[next] = ok;
+            if (ok) okCount++;
+            next = (next + 1) % recent.length;
+        }
+
+        synchronized double successRate() {
+            return filled == 0 ? 1.0 : (double) okCount / filled;
+        }
+
+        synchronized boolean healthy(double minRate, int minSamples) {
+            return filled < minSamples || (double) okCount / filled >= minRate;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gemini 재시도 예산 (프로세스 공용).
+ * 생성 요청 한 건마다 ratio 만큼 적립, 재시도(다음 생성 시도/헤지/상위 모델 승급) 한 번에 1 차감.
+ * 적립과 별개로 초당 min-per-second 만큼은 항상 허용 → 트래픽이 적을 때도 재시도가 막히지 않는다.
+ * 상류 장애로 첫 호출이 다 실패해도 재시도는 전체 요청의 ratio 배를 넘지 않는다.
+ */
+@Component
+public class GeminiRetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxBalance;
+    private final double maxReserve;
+
+    // this 로 보호
+    private double balance;
+    private double reserve;
+    private long lastRefillNanos = System.nanoTime();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public GeminiRetryBudget(@Value("${gemini.retry-budget.ratio:0.2}") double ratio,
+                             @Value("${gemini.retry-budget.min-per-second:1}") double minPerSecond,
+                             @Value("${gemini.retry-budget.max-balance:100}") double maxBalance) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxBalance = maxBalance;
+        this.maxReserve = minPerSecond > 0 ? Math.max(1, minPerSecond) : 0;
+        this.reserve = maxReserve;
+    }
+
+    /** 모델 호출이 필요한 생성 요청 한 건 (첫 시도) */
+    public synchronized void onRequest() {
+        requests.increment();
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /** 재시도해도 되면 true (예산 1 차감) */
+    public synchronized boolean tryRetry() {
+        long now = System.nanoTime();
+        reserve = Math.min(maxReserve, reserve + (now - lastRefillNanos) / 1e9 * minPerSecond);
+        lastRefillNanos = now;
+        if (reserve >= 1) {
+            reserve -= 1;
+        } else if (balance >= 1) {
+            balance -= 1;
+        } else {
+            denied.increment();
+            return false;
+        }
+        allowed.increment();
+        return true;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("ratio", ratio);
+        out.put("minPerSecond", minPerSecond);
+        synchronized (this) {
+            out.put("balance", Math.floor(balance * 100) / 100);
+        }
+        out.put("requests", requests.sum());
+        out.put("retriesAllowed", allowed.sum());
+        out.put("retriesDenied", denied.sum());
+        return out;
+    }
+}
@@ -1,17 +1,32 @@
 package com.kfood.kfood_be.recipes.service;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.kfood.kfood_be.common.json.DataBufferJson;
+
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.netty.http.client.HttpClient; // ✅ Reactor Netty
 
 @Slf4j
@@ -21,14 +36,28 @@ public class GeminiService {
     @Value("${gemini.api-key}")
     private String apiKey;
 
-    @Value("${gemini.model:gemini-1.5-pro-latest}")
-    private String model;
-
     @Value("${gemini.endpoint:https://generativelanguage.googleapis.com/v1beta}")
     private String endpoint;
 
+    private final GeminiModelRouter router;
+    private final GeminiConcurrencyLimiter limiter;
+    private final GeminiCircuitBreaker breaker;
+    private final GeminiRetryBudget retryBudget;
+    private final Scheduler parseScheduler;
     private WebClient web;
 
+    public GeminiService(GeminiModelRouter router,
+                         GeminiConcurrencyLimiter limiter,
+                         GeminiCircuitBreaker breaker,
+                         GeminiRetryBudget retryBudget,
+                         @Qualifier("jsonParseScheduler") Scheduler parseScheduler) {
+        this.router = router;
+        this.limiter = limiter;
+        this.breaker = breaker;
+        this.retryBudget = retryBudget;
+        this.parseScheduler = parseScheduler;
+    }
+
     @PostConstruct
     void init() {
         HttpClient http = HttpClient.create()
@@ -40,13 +69,164 @@ public class GeminiService {
                 .clientConnector(new ReactorClientHttpConnector(http))
                 .build();
 
-        log.info("[Gemini] ready. endpoint={}, model={}", endpoint, model);
+        log.info("[Gemini] ready. endpoint={}, models={}", endpoint, router.models());
     }
 
-    public String generateText(String prompt, double temperature) {
-        final String path = "/models/" + model + ":generateContent?key=" + apiKey;
+    // ========= 모델 라우팅 =========
+    // 모델은 요청마다 GeminiModelRouter 가 고른다 (budget: 지연 예산, null 이면 기본값).
+    // 호출이 실패하거나 parser 가 빈 결과를 내면 다음(상위) 모델로 승급. parser 결과가 모델별 파싱 성공률이 된다.
+    // 모두 실패하면 빈 리스트 (블로킹) / empty (Mono). 블로킹 호출 중 인터럽트되면 CancellationException (인터럽트 상태 유지).
+    // 호출마다 서킷 브레이커 → GeminiConcurrencyLimiter 허가가 필요하다. 허가를 못 받으면(서킷 열림/대기열 가득/대기 시간 초과)
+    // 승급하지 않고 GeminiUnavailableException 을 그대로 올린다 → RecipeService 가 로컬 폴백.
+    // 승급은 재시도이므로 GeminiRetryBudget 이 허락할 때만.
+
+    /** 서킷이 열려 있으면 false → 호출하지 말고 바로 폴백 */
+    public boolean isAvailable() {
+        return breaker.isCallPermitted();
+    }
+
+    public <T> List<T> generateText(String prompt, double temperature, Duration budget,
+                                    Function<String, List<T>> parser) {
+        return routed("generateText", prompt, budget, textBody(prompt, temperature), parser);
+    }
+
+    public <T> List<T> generateMeasuredRecipe(String prompt, Duration budget, Function<String, List<T>> parser) {
+        return routed("generateMeasuredRecipe", prompt, budget, measuredRecipeBody(prompt), parser);
+    }
+
+    private <T> List<T> routed(String tag, String prompt, Duration budget, Map<String, Object> body,
+                               Function<String, List<T>> parser) {
+        List<String> models = router.route(prompt.length(), budget).models();
+        for (int i = 0; i < models.size(); i++) {
+            String model = models.get(i);
+            if (i > 0) {
+                if (!retryBudget.tryRetry()) return Collections.emptyList();
+                router.recordEscalation(models.get(i - 1), model);
+            }
+            Admission admission = admit(model);
+            String text;
+            try {
+                text = guarded(admission, model, generateContent(model, body)).block();
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted() || Exceptions.unwrap(e) instanceof InterruptedException) {
+                    log.debug("Gemini 호출 취소({}, {})", tag, model, e);     // 헤징 패자/합류 leader 취소
+                    throw cancelled();
+                }
+                log.error("Gemini 호출 실패({}, {})", tag, model, e);
+                continue;
+            }
+            List<T> parsed = parser.apply(text);
+            boolean ok = parsed != null && !parsed.isEmpty();
+            router.recordParse(model, ok);
+            if (ok) return parsed;
+            if (Thread.currentThread().isInterrupted()) throw cancelled();
+        }
+        return Collections.emptyList();
+    }
+
+    // 빈 결과로 삼키면 호출자(합류 leader 등)가 취소를 성공으로 착각한다
+    private static CancellationException cancelled() {
+        Thread.currentThread().interrupt();
+        return new CancellationException("Gemini 호출 취소됨");
+    }
+
+    // ========= 논블로킹 (Mono) =========
+    // parser 는 jsonParseScheduler 에서 실행 (이벤트 루프에서 파싱하지 않도록)
+    public <T> Mono<List<T>> generateTextReactive(String prompt, double temperature, Duration budget,
+                                                  Function<String, List<T>> parser) {
+        return routedReactive("generateText", prompt, budget, textBody(prompt, temperature), parser);
+    }
+
+    public <T> Mono<List<T>> generateMeasuredRecipeReactive(String prompt, Duration budget,
+                                                            Function<String, List<T>> parser) {
+        return routedReactive("generateMeasuredRecipe", prompt, budget, measuredRecipeBody(prompt), parser);
+    }
+
+    private <T> Mono<List<T>> routedReactive(String tag, String prompt, Duration budget, Map<String, Object> body,
+                                             Function<String, List<T>> parser) {
+        return Mono.defer(() -> attempt(tag, router.route(prompt.length(), budget).models(), 0, body, parser));
+    }
+
+    private <T> Mono<List<T>> attempt(String tag, List<String> models, int i, Map<String, Object> body,
+                                      Function<String, List<T>> parser) {
+        String model = models.get(i);
+        Mono<List<T>> escalate = i + 1 < models.size()
+                ? Mono.defer(() -> {
+                    if (!retryBudget.tryRetry()) return Mono.empty();
+                    router.recordEscalation(model, models.get(i + 1));
+                    return attempt(tag, models, i + 1, body, parser);
+                })
+                : Mono.empty();
+        return admitReactive(model)
+                .flatMap(admission -> guarded(admission, model, generateContent(model, body)))
+                .onErrorResume(e -> !(e instanceof GeminiUnavailableException), e -> {
+                    log.error("Gemini 호출 실패({}, {})", tag, model, e);
+                    return Mono.empty();
+                })
+                .publishOn(parseScheduler)
+                .mapNotNull(parser)
+                .doOnNext(parsed -> router.recordParse(model, !parsed.isEmpty()))
+                .filter(parsed -> !parsed.isEmpty())
+                .switchIfEmpty(escalate);
+    }
+
+    // 응답까지 걸린 시간/호출 실패를 모델별로 기록 (취소는 기록하지 않음)
+    private Mono<String> timed(String model, Mono<String> call) {
+        return Mono.defer(() -> {
+            long t0 = System.nanoTime();
+            return call
+                    .doOnSuccess(text -> router.recordLatency(model, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0)))
+                    .doOnError(e -> router.recordCallError(model));
+        });
+    }
+
+    // 서킷 브레이커 허가 + 동시 호출 한도 허가. 결과(성공/실패/취소)는 둘 다에 한 번씩 보고
+    private record Admission(GeminiCircuitBreaker.Ticket ticket, GeminiConcurrencyLimiter.Permit permit) {
+        void success() {
+            ticket.success();
+            permit.success();
+        }
+
+        void failure(Throwable e) {
+            ticket.failure(e);
+            permit.failure(e);
+        }
+
+        void release() {
+            ticket.release();
+            permit.release();
+        }
+    }
 
-        Map<String, Object> body = Map.of(
+    private Admission admit(String model) {
+        GeminiCircuitBreaker.Ticket ticket = breaker.acquire();
+        try {
+            return new Admission(ticket, limiter.acquire(model));
+        } catch (RuntimeException e) {
+            ticket.release();
+            throw e;
+        }
+    }
+
+    private Mono<Admission> admitReactive(String model) {
+        return Mono.defer(() -> {
+            GeminiCircuitBreaker.Ticket ticket = breaker.acquire();
+            return Mono.fromFuture(() -> limiter.acquireAsync(model))
+                    .map(permit -> new Admission(ticket, permit))
+                    .doOnError(e -> ticket.release())
+                    .doOnCancel(ticket::release);
+        });
+    }
+
+    private Mono<String> guarded(Admission admission, String model, Mono<String> call) {
+        return timed(model, call)
+                .doOnSuccess(text -> admission.success())
+                .doOnError(admission::failure)
+                .doFinally(signal -> admission.release());
+    }
+
+    private Map<String, Object> textBody(String prompt, double temperature) {
+        return Map.of(
                 "contents", List.of(Map.of(
                         "role", "user",
                         "parts", List.of(Map.of("text", prompt))
@@ -59,34 +239,72 @@ public class GeminiService {
                         "response_mime_type", "application/json"
                 )
         );
+    }
 
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = web.post()
+    // 응답 본문은 DataBuffer 그대로 JsonParser 로 읽어 parts[].text 만 뽑는다 (Map/트리 생성 없음)
+    private Mono<String> generateContent(String model, Map<String, Object> body) {
+        final String path = "/models/" + model + ":generateContent?key=" + apiKey;
+
+        return web.post()
+                .uri(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferJson::join)
+                .timeout(Duration.ofSeconds(60))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("응답 null")))
+                .map(response -> DataBufferJson.read(response, GeminiJsonReader::candidateText)) // ← 모든 parts 합치기
+                .map(text -> {
+                    // 코드펜스/설명은 RecipeService 쪽 TolerantJsonReader 가 건너뛴다
+                    if (text.isBlank()) throw new IllegalStateException("parts.text 비어있음");
+                    return text;
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * 스키마 고정 레시피를 streamGenerateContent(SSE)로 받아 텍스트 조각 단위로 흘려보낸다.
+     * 조각을 이어 붙이면 generateMeasuredRecipe 와 같은 JSON 이 된다.
+     * 스트림 도중에는 승급할 수 없으므로 라우터가 고른 첫 모델만 쓴다 (실패 시 호출자가 일반 생성으로 전환).
+     * 서킷/동시 호출 한도 허가는 스트림이 끝날 때(완료/오류/취소) 반환한다.
+     */
+    public Flux<String> streamMeasuredRecipe(String prompt) {
+        final String model = router.route(prompt.length(), null).primary();
+        final String path = "/models/" + model + ":streamGenerateContent?alt=sse&key=" + apiKey;
+
+        return admitReactive(model).flatMapMany(admission -> {
+            long t0 = System.nanoTime();
+            return web.post()
                     .uri(path)
                     .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(measuredRecipeBody(prompt))
                     .retrieve()
-                    .bodyToMono(Map.class)
+                    .bodyToFlux(SSE_CHUNK)
                     .timeout(Duration.ofSeconds(60))
-                    .block();
-
-            if (response == null) throw new IllegalStateException("응답 null");
-            String cleaned = extractAllText(response);                 // ← 모든 parts 합치기
-            return stripCodeFences(cleaned);
-        } catch (Exception e) {
-            log.error("Gemini 호출 실패(generateText)", e);
-            return null;
-        }
+                    .mapNotNull(ServerSentEvent::data)
+                    .map(chunk -> DataBufferJson.read(chunk, GeminiJsonReader::candidateText))
+                    .filter(t -> !t.isEmpty())
+                    .doOnComplete(() -> {
+                        router.recordLatency(model, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+                        admission.success();
+                    })
+                    .doOnError(e -> {
+                        router.recordCallError(model);
+                        admission.failure(e);
+                        log.error("Gemini 호출 실패(streamMeasuredRecipe, {})", model, e);
+                    })
+                    .doFinally(signal -> admission.release());
+        });
     }
 
-    public String generateMeasuredRecipe(String prompt) {
-        final String path = "/models/" + model + ":generateContent?key=" + apiKey;
-
-        Map<String, Object> schema = buildRecipeSchema();
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_CHUNK =
+            new ParameterizedTypeReference<>() {};
 
-        Map<String, Object> body = Map.of(
+    private Map<String, Object> measuredRecipeBody(String prompt) {
+        return Map.of(
                 "contents", List.of(Map.of(
                         "role", "user",
                         "parts", List.of(Map.of("text", prompt))
@@ -97,54 +315,9 @@ public class GeminiService {
                         "topK", 1,
                         "maxOutputTokens", 4096,                       // ↑ 여유 토큰
                         "response_mime_type", "application/json",
-                        "response_schema", schema
+                        "response_schema", buildRecipeSchema()
                 )
         );
-
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = web.post()
-                    .uri(path)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(60))
-                    .block();
-
-            if (response == null) throw new IllegalStateException("응답 null");
-            String json = extractAllText(response);                    // ← 모든 parts 합치기
-            return stripCodeFences(json);
-        } catch (Exception e) {
-            log.error("Gemini 호출 실패(generateMeasuredRecipe)", e);
-            return null;
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private String extractAllText(Map<String, Object> response) {
-        var cands = (List<Map<String, Object>>) response.get("candidates");
-        if (cands == null || cands.isEmpty()) throw new IllegalStateException("candidates 없음");
-        var content = (Map<String, Object>) cands.get(0).get("content");
-        var parts = (List<Map<String, Object>>) content.get("parts");
-        if (parts == null || parts.isEmpty()) throw new IllegalStateException("parts 없음");
-
-        StringBuilder sb = new StringBuilder();
-        for (Map<String, Object> p : parts) {
-            Object t = p.get("text");
-            if (t != null) sb.append(String.valueOf(t));
-        }
-        String out = sb.toString();
-        if (out.isBlank()) throw new IllegalStateException("parts.text 비어있음");
-        return out;
-    }
-
-    private String stripCodeFences(String s) {
-        if (s == null) return null;
-        return s.replaceAll("^```json\\s*", "")
-                .replaceAll("```\\s*$", "")
-                .trim();
     }
 
     private Map<String, Object> buildRecipeSchema() {
@@ -185,7 +358,10 @@ public class GeminiService {
                         "chefNote",  Map.of("type", "STRING"),
                         "tip",       Map.of("type", "STRING")
                 ),
-                "required", List.of("title","category","timeMin","servings","difficulty","ingredients","steps")
+                "required", List.of("title","category","timeMin","servings","difficulty","ingredients","steps"),
+                // 스트리밍 시 title → ingredients → steps 순서로 나오도록 필드 순서 고정
+                "propertyOrdering", List.of("title","category","timeMin","servings","difficulty",
+                        "ingredients","steps","chefNote","tip")
         );
     }
 }
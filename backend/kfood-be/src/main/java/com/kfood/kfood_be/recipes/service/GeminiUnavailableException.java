@@ -0,0 +1,20 @@
+package com.kfood.kfood_be.recipes.service;
+
+/**
+ * Gemini 를 지금 부르지 않기로 한 경우 (동시 호출 한도 초과로 대기열이 가득/대기 시간 초과 등).
+ * 호출 실패와 달리 다음 시도/다른 모델로 넘어가지 않고 바로 로컬 폴백으로 응답한다.
+ */
+public class GeminiUnavailableException extends RuntimeException {
+
+    private final String reason;
+
+    public GeminiUnavailableException(String reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /** 지표용 짧은 사유 (예: "queue-full", "queue-timeout") */
+    public String getReason() {
+        return reason;
+    }
+}
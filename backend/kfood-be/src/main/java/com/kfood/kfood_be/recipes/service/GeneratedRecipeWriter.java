@@ -0,0 +1,287 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.common.metrics.LatencyRecorder;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 생성된 레시피를 GENERATED_RECIPE 에 write-behind 로 저장 (INGREDIENT_KEY 는 StoredRecipeLookup 조회 키).
+ * 요청 경로에서는 제한된 큐에 넣기만 하고(가득 차면 가장 오래된 항목 버림),
+ * 별도 스레드가 모아서 JDBC batch insert 한다. → DB 가 느려도 /prepare 지연에 영향 없음.
+ * 헤더(분류/시간/난이도 + 본문 CLOB)와 재료·단계 행은 한 트랜잭션으로 함께 저장된다.
+ * 헤더 ID 는 GENERATED_RECIPE_SEQ(INCREMENT BY ID_BLOCK)에서 블록으로 미리 받아 직접 넣으므로 헤더도 batch insert.
+ */
+@Slf4j
+@Component
+public class GeneratedRecipeWriter {
+
+    /** GENERATED_RECIPE_SEQ 의 INCREMENT BY. NEXTVAL 값 v 는 ID (v - ID_BLOCK, v] 를 뜻한다 */
+    public static final int ID_BLOCK = 50;
+
+    private static final String NEXT_ID_BLOCK_SQL = "SELECT GENERATED_RECIPE_SEQ.NEXTVAL FROM DUAL";
+    private static final String INSERT_SQL =
+            "INSERT INTO GENERATED_RECIPE (ID, FOOD, INGREDIENT, INGREDIENT_KEY, CATEGORY, TIME_MIN, DIFFICULTY, RECIPE)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_INGREDIENT_SQL =
+            "INSERT INTO GENERATED_RECIPE_INGREDIENT (RECIPE_ID, SEQ, NAME, QTY, UNIT, LABEL) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_STEP_SQL =
+            "INSERT INTO GENERATED_RECIPE_STEP (RECIPE_ID, STEP_ORDER, STEP_TEXT) VALUES (?, ?, ?)";
+    private static final int FOOD_MAX = 255;
+    private static final int INGREDIENT_MAX = 255;
+    private static final int INGREDIENT_KEY_MAX = 1000;
+    private static final int CATEGORY_MAX = 30;
+    private static final int DIFFICULTY_MAX = 10;
+    private static final int NAME_MAX = 255;
+    private static final int UNIT_MAX = 20;
+    private static final int LABEL_MAX = 255;
+    private static final int STEP_TEXT_MAX = 2000;
+    private static final int TIME_MIN_MAX = 99_999;
+    private static final int PAYLOAD_MAX = 1_000_000; // CLOB 이라 한도는 없지만 비정상 응답이 쌓이지 않도록
+
+    private record Pending(String food, String ingredientKey, RecipeResponseDto recipe) {}
+
+    private record Row(String food, String ingredient, String lookupKey, RecipeResponseDto recipe, String json) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final RecipeNameIndex nameIndex;
+    private final IngredientMatchIndex matchIndex;
+    private final ObjectMapper om = new ObjectMapper();
+    private final BlockingQueue<Pending> queue;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private volatile boolean running;
+    private Thread flusher;
+    private long nextId = 1;   // 받아 둔 ID 블록 [nextId, lastId]
+    private long lastId = 0;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder droppedOldest = new LongAdder();
+    private final LongAdder oversize = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+    private final LatencyRecorder flushLatency = new LatencyRecorder(256);
+
+    public GeneratedRecipeWriter(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate tx,
+                                 RecipeNameIndex nameIndex,
+                                 IngredientMatchIndex matchIndex,
+                                 @Value("${recipes.persist.enabled:true}") boolean enabled,
+                                 @Value("${recipes.persist.queue-capacity:2000}") int queueCapacity,
+                                 @Value("${recipes.persist.batch-size:100}") int batchSize,
+                                 @Value("${recipes.persist.flush-interval-ms:500}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = tx;
+        this.nameIndex = nameIndex;
+        this.matchIndex = matchIndex;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        running = true;
+        flusher = new Thread(this::flushLoop, "recipe-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (flusher == null) return;
+        flusher.interrupt();
+        flusher.join(5_000);
+        flushOnce(); // 남은 항목 마지막으로 저장
+    }
+
+    /** 요청 경로용: 절대 블로킹하지 않는다 */
+    public void enqueue(RecipeCacheKey key, List<RecipeResponseDto> recipes) {
+        if (!enabled || recipes == null) return;
+        for (RecipeResponseDto dto : recipes) {
+            if (dto == null || dto.getTitle() == null) continue;
+            Pending p = new Pending(dto.getTitle(), key.ingredientKey(), dto);
+            while (!queue.offer(p)) {
+                // 가득 참 → 가장 오래된 항목 버리고 재시도
+                if (queue.poll() != null) droppedOldest.increment();
+            }
+            enqueued.increment();
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                List<Pending> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("레시피 저장 루프 오류: {}", e.toString());
+            }
+        }
+    }
+
+    // 큐에 남은 항목을 지금 저장 (종료 시, 테스트)
+    void flushOnce() {
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += batchSize) {
+            write(rest.subList(i, Math.min(rest.size(), i + batchSize)));
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<Row> rows = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            String json;
+            try {
+                json = om.writeValueAsString(p.recipe());
+            } catch (Exception e) {
+                failedRows.increment();
+                continue;
+            }
+            if (json.length() > PAYLOAD_MAX) {
+                oversize.increment();
+                continue;
+            }
+            // 조회 키는 잘라 저장하면 오매칭이 되므로 너무 길면 비워둔다
+            String lookupKey = p.ingredientKey().length() <= INGREDIENT_KEY_MAX ? p.ingredientKey() : null;
+            rows.add(new Row(truncate(p.food(), FOOD_MAX), truncate(p.ingredientKey(), INGREDIENT_MAX),
+                    lookupKey, p.recipe(), json));
+        }
+        if (rows.isEmpty()) return;
+
+        long t0 = System.nanoTime();
+        try {
+            tx.executeWithoutResult(status -> insert(rows));
+            written.add(rows.size());
+            // 저장된 것만 이름 검색에 노출 (검색 적중 → DB 본문 조회가 항상 성공하도록)
+            for (Row row : rows) {
+                nameIndex.add(row.food());
+                matchIndex.add(row.lookupKey());
+            }
+        } catch (Exception e) {
+            failedRows.add(rows.size());
+            log.warn("레시피 batch insert 실패({}건): {}", rows.size(), e.toString());
+        } finally {
+            flushLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        }
+    }
+
+    /** 헤더/재료/단계 모두 batch. 헤더 ID 는 미리 받아 둔 블록에서 */
+    private void insert(List<Row> rows) {
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = nextId();
+
+        List<Object[]> ingredientRows = new ArrayList<>();
+        List<Object[]> stepRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            RecipeResponseDto r = rows.get(i).recipe();
+            long id = ids[i];
+            if (r.getIngredients() != null) {
+                int seq = 0;
+                for (RecipeResponseDto.Ingredient ing : r.getIngredients()) {
+                    if (ing == null || ing.getName() == null) continue;
+                    ingredientRows.add(new Object[]{id, ++seq, truncate(ing.getName(), NAME_MAX),
+                            ing.getQty(), truncateOrNull(ing.getUnit(), UNIT_MAX), truncateOrNull(ing.getLabel(), LABEL_MAX)});
+                }
+            }
+            if (r.getSteps() != null) {
+                int order = 0;
+                for (RecipeResponseDto.Step step : r.getSteps()) {
+                    if (step == null || step.getText() == null) continue;
+                    int stepOrder = step.getOrder() != null ? step.getOrder() : order + 1;
+                    order = stepOrder;
+                    stepRows.add(new Object[]{id, stepOrder, truncate(step.getText(), STEP_TEXT_MAX)});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Row row = rows.get(i);
+                RecipeResponseDto r = row.recipe();
+                ps.setLong(1, ids[i]);
+                ps.setString(2, row.food());
+                ps.setString(3, row.ingredient());
+                ps.setString(4, row.lookupKey());
+                ps.setString(5, truncateOrNull(r.getCategory(), CATEGORY_MAX));
+                ps.setObject(6, r.getTimeMin() == null ? null : Math.min(Math.max(r.getTimeMin(), 0), TIME_MIN_MAX));
+                ps.setString(7, truncateOrNull(r.getDifficulty(), DIFFICULTY_MAX));
+                ps.setCharacterStream(8, new StringReader(row.json()), row.json().length());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        if (!ingredientRows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_INGREDIENT_SQL, ingredientRows);
+        if (!stepRows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_STEP_SQL, stepRows);
+    }
+
+    // ID_BLOCK 개마다 시퀀스 한 번 (롤백된 배치의 ID 는 건너뛴다)
+    private synchronized long nextId() {
+        if (nextId > lastId) {
+            Long block = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class);
+            if (block == null) throw new IllegalStateException("GENERATED_RECIPE_SEQ 값을 받지 못했습니다.");
+            lastId = block;
+            nextId = block - ID_BLOCK + 1;
+        }
+        return nextId++;
+    }
+
+    private static String truncateOrNull(String s, int max) {
+        return s == null ? null : truncate(s, max);
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", enabled);
+        out.put("queueDepth", queue.size());
+        out.put("enqueued", enqueued.sum());
+        out.put("written", written.sum());
+        out.put("droppedOldest", droppedOldest.sum());
+        out.put("oversize", oversize.sum());
+        out.put("failedRows", failedRows.sum());
+        out.put("flushLatency", flushLatency.snapshot());
+        return out;
+    }
+}
@@ -0,0 +1,384 @@
+package com.kfood.kfood_be.recipes.service;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+/**
+ * 재료 한 줄("간장 1.5 큰술", "2 tbsp 간장", "물 1 1/2 컵") → 이름/수량/단위.
+ * 예전 정규식 파서(replaceAll 3번 + 큰 alternation 2개 + 호출마다 Pattern.compile)를 대체한다.
+ * - 한 번 훑으며 정리: 불릿/대시 → 공백, 공백 압축, 괄호 주석 제거 (스레드별 char[] 재사용)
+ * - 단위: 모든 별칭을 담은 trie. "이름 수량 단위"는 끝에서 역방향 trie, "수량 단위 이름"은 앞에서 정방향 trie
+ * - 수량: 문자 배열에서 바로 계산 (중간 String 없음, 결과 이름 String 하나만 만든다)
+ */
+final class IngredientLineParser {
+
+    // 첫 칸이 정규 단위, 나머지는 별칭 (대소문자 무시, ASCII)
+    private static final String[][] UNIT_ALIASES = {
+            {"L", "l", "liter", "litre", "liters", "litres", "리터"},
+            {"ml", "ml", "밀리리터", "milliliter", "milliliters"},
+            {"컵", "cup", "cups", "컵"},
+            {"큰술", "tbsp", "tbs", "t", "tablespoon", "tablespoons", "큰 술", "큰술"},
+            {"작은술", "tsp", "teaspoon", "teaspoons", "작은 술", "작은술"},
+            {"g", "g", "그램"},
+            {"kg", "kg", "킬로그램"},
+            {"개", "ea", "pc", "pcs", "piece", "pieces", "개"},
+            {"꼬집", "pinch", "꼬집"},
+    };
+
+    private static final Node FORWARD = new Node();
+    private static final Node REVERSE = new Node();
+    private static final int MAX_ALIAS_LENGTH;
+
+    static {
+        int max = 0;
+        for (String[] group : UNIT_ALIASES) {
+            String unit = group[0];
+            for (int i = 1; i < group.length; i++) {
+                String alias = group[i];
+                Node f = FORWARD;
+                for (int k = 0; k < alias.length(); k++) f = f.add(lower(alias.charAt(k)));
+                f.unit = unit;
+                Node r = REVERSE;
+                for (int k = alias.length() - 1; k >= 0; k--) r = r.add(lower(alias.charAt(k)));
+                r.unit = unit;
+                max = Math.max(max, alias.length());
+            }
+        }
+        MAX_ALIAS_LENGTH = max;
+    }
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    private static final int MAX_EXACT_DIGITS = 15; // 10^15 < 2^53 → long → double 변환이 정확
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private IngredientLineParser() {}
+
+    // ========= 퍼블릭(패키지) API =========
+
+    /** 못 알아보면 이름 = 정리된 줄 전체, 수량/단위 null. kg 은 g 로 환산. */
+    static RecipeResponseDto.Ingredient parse(CharSequence s) {
+        if (s == null) return null;
+        Scratch sc = SCRATCH.get();
+        char[] b = sc.ensure(s.length());
+        int to = clean(s, b);
+        int from = 0;
+        while (from < to && b[from] <= ' ') from++;
+        while (to > from && b[to - 1] <= ' ') to--;
+
+        RecipeResponseDto.Ingredient ing = matchTrailingUnit(sc, b, from, to);
+        if (ing == null) ing = matchLeadingQuantity(b, from, to);
+        if (ing == null) {
+            return RecipeResponseDto.Ingredient.builder().name(new String(b, from, to - from)).qty(null).unit(null).build();
+        }
+        if ("kg".equals(ing.getUnit()) && ing.getQty() != null) {
+            ing.setQty(ing.getQty() * 1000.0);
+            ing.setUnit("g");
+        }
+        return ing;
+    }
+
+    /** 별칭 → 정규 단위. 모르는 값은 그대로 */
+    static String normalizeUnit(String raw) {
+        if (raw == null) return null;
+        int from = 0, to = raw.length();
+        while (from < to && raw.charAt(from) <= ' ') from++;
+        while (to > from && raw.charAt(to - 1) <= ' ') to--;
+        Node n = FORWARD;
+        for (int i = from; i < to && n != null; i++) n = n.child(lower(raw.charAt(i)));
+        return n != null && n.unit != null && to > from ? n.unit : raw;
+    }
+
+    /** "1.5", "1,5", "3/4", "1 1/2", "½" … 형식이 아니면 Double.parseDouble 로 한 번 더 시도, 실패 시 null */
+    static Double parseQuantity(String s) {
+        if (s == null) return null;
+        int from = 0, to = s.length();
+        while (from < to && s.charAt(from) <= ' ') from++;
+        while (to > from && s.charAt(to - 1) <= ' ') to--;
+        if (to > from) {
+            char[] b = SCRATCH.get().ensure(to - from);
+            s.getChars(from, to, b, 0);
+            if (numberStartBackward(b, 0, to - from) == 0) return numberValue(b, 0, to - from);
+        }
+        try {
+            return Double.parseDouble(s.trim().replace(",", "."));
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
+    // ========= 정리 =========
+
+    // 불릿/대시 → 공백, 연속 공백 → 하나, "(…)" 제거. 괄호를 지운 자리의 앞뒤 공백은 그대로 둔다(기존 동작).
+    private static int clean(CharSequence s, char[] b) {
+        int n = 0;
+        boolean lastSpace = false;
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c == '(') {
+                int close = indexOf(s, ')', i + 1);
+                if (close >= 0) {
+                    i = close;
+                    lastSpace = false;
+                    continue;
+                }
+            }
+            if (c == '•' || c == '·' || c == '-' || c == '–' || c == '—') c = ' ';
+            if (isSpace(c)) {
+                if (lastSpace) continue;
+                c = ' ';
+                lastSpace = true;
+            } else {
+                lastSpace = false;
+            }
+            b[n++] = c;
+        }
+        return n;
+    }
+
+    // ========= "이름 수량 단위" =========
+
+    private static RecipeResponseDto.Ingredient matchTrailingUnit(Scratch sc, char[] b, int from, int to) {
+        // 끝에서부터 역방향 trie: 가능한 단위 시작 위치를 짧은 것부터 모은다
+        int[] starts = sc.unitStarts;
+        String[] units = sc.units;
+        int found = 0;
+        Node n = REVERSE;
+        for (int j = to - 1; j >= from; j--) {
+            n = n.child(lower(b[j]));
+            if (n == null) break;
+            if (n.unit != null) {
+                starts[found] = j;
+                units[found++] = n.unit;
+            }
+        }
+        // 긴 별칭부터: 수량이 가장 앞에서 시작하는(이름이 가장 짧은) 해석
+        for (int c = found - 1; c >= 0; c--) {
+            int numEnd = starts[c];
+            while (numEnd > from && isSpace(b[numEnd - 1])) numEnd--;
+            int numStart = numberStartBackward(b, from, numEnd);
+            if (numStart < 0) continue;
+
+            int nameEnd = numStart;
+            while (nameEnd > from && b[nameEnd - 1] <= ' ') nameEnd--;
+            return RecipeResponseDto.Ingredient.builder()
+                    .name(new String(b, from, nameEnd - from))
+                    .qty(numberValue(b, numStart, numEnd))
+                    .unit(units[c])
+                    .build();
+        }
+        return null;
+    }
+
+    // [from, end) 끝에 붙은 수량의 시작 위치 (가장 앞에서 시작하는 해석). 수량이 아니면 -1
+    private static int numberStartBackward(char[] b, int from, int end) {
+        if (end <= from) return -1;
+        char last = b[end - 1];
+        if (vulgarFraction(last) > 0) return end - 1;
+        if (!isDigit(last)) return -1;
+
+        int d2 = end - 1;
+        while (d2 > from && isDigit(b[d2 - 1])) d2--;
+        if (d2 > from && b[d2 - 1] == '/') {
+            int slash = d2 - 1;
+            int d1 = slash;
+            while (d1 > from && isDigit(b[d1 - 1])) d1--;
+            if (d1 == slash) return d2;
+            // "1 1/2"
+            int k = d1;
+            while (k > from && isSpace(b[k - 1])) k--;
+            if (k < d1 && k > from && isDigit(b[k - 1])) {
+                int d0 = k;
+                while (d0 > from && isDigit(b[d0 - 1])) d0--;
+                return d0;
+            }
+            return d1;
+        }
+        if (d2 > from && (b[d2 - 1] == '.' || b[d2 - 1] == ',')) {
+            int sep = d2 - 1;
+            int d1 = sep;
+            while (d1 > from && isDigit(b[d1 - 1])) d1--;
+            if (d1 < sep) return d1;
+        }
+        return d2;
+    }
+
+    // ========= "수량 단위 이름" =========
+
+    private static RecipeResponseDto.Ingredient matchLeadingQuantity(char[] b, int from, int to) {
+        if (from >= to) return null;
+        if (vulgarFraction(b[from]) > 0) return unitThenName(b, from, from + 1, to);
+        if (!isDigit(b[from])) return null;
+
+        int d = from;
+        while (d < to && isDigit(b[d])) d++;
+
+        // 정수/소수 → 정수만 → "1 1/2" → "1/2" 순 (기존 정규식 alternation 순서)
+        if (d + 1 < to && (b[d] == '.' || b[d] == ',') && isDigit(b[d + 1])) {
+            int e = d + 1;
+            while (e < to && isDigit(b[e])) e++;
+            RecipeResponseDto.Ingredient ing = unitThenName(b, from, e, to);
+            if (ing != null) return ing;
+        }
+        RecipeResponseDto.Ingredient ing = unitThenName(b, from, d, to);
+        if (ing != null) return ing;
+
+        int k = d;
+        while (k < to && isSpace(b[k])) k++;
+        if (k > d) {
+            int e = fractionEnd(b, k, to);
+            if (e > 0 && (ing = unitThenName(b, from, e, to)) != null) return ing;
+        }
+        int e = fractionEnd(b, from, to);
+        return e > 0 ? unitThenName(b, from, e, to) : null;
+    }
+
+    // b[at..] 가 "숫자/숫자" 면 끝 위치, 아니면 -1
+    private static int fractionEnd(char[] b, int at, int to) {
+        int i = at;
+        while (i < to && isDigit(b[i])) i++;
+        if (i == at || i >= to || b[i] != '/') return -1;
+        int j = i + 1;
+        while (j < to && isDigit(b[j])) j++;
+        return j > i + 1 ? j : -1;
+    }
+
+    // 수량 [numStart, numEnd) 뒤: 공백* 단위 공백* 이름(1자 이상)
+    private static RecipeResponseDto.Ingredient unitThenName(char[] b, int numStart, int numEnd, int to) {
+        int u = numEnd;
+        while (u < to && isSpace(b[u])) u++;
+
+        String unit = null;
+        int unitEnd = -1;
+        Node n = FORWARD;
+        for (int j = u; j < to; j++) {
+            n = n.child(lower(b[j]));
+            if (n == null) break;
+            // 영문 별칭은 단어 경계에서 끝나야 한다 ("2 tsp" 의 t 를 큰술로 읽지 않도록)
+            if (n.unit != null && !(isAsciiLetter(b[j]) && j + 1 < to && isAsciiLetter(b[j + 1]))) {
+                unit = n.unit;
+                unitEnd = j + 1;
+            }
+        }
+        if (unit == null) return null;
+
+        int nameStart = unitEnd;
+        while (nameStart < to && b[nameStart] <= ' ') nameStart++;
+        if (nameStart >= to) return null;
+        return RecipeResponseDto.Ingredient.builder()
+                .name(new String(b, nameStart, to - nameStart))
+                .qty(numberValue(b, numStart, numEnd))
+                .unit(unit)
+                .build();
+    }
+
+    // ========= 수량 값 =========
+
+    // [s, e) 는 numberStartBackward/matchLeadingQuantity 가 확인한 형식
+    private static double numberValue(char[] b, int s, int e) {
+        if (e - s == 1 && vulgarFraction(b[s]) > 0) return vulgarFraction(b[s]);
+
+        int slash = -1, sep = -1, space = -1;
+        for (int i = s; i < e; i++) {
+            char c = b[i];
+            if (c == '/') slash = i;
+            else if (c == '.' || c == ',') sep = i;
+            else if (space < 0 && isSpace(c)) space = i;
+        }
+        if (slash >= 0) {
+            int numStart = s;
+            double whole = 0;
+            if (space >= 0) {
+                whole = digits(b, s, space);
+                numStart = space;
+                while (isSpace(b[numStart])) numStart++;
+            }
+            double frac = digits(b, numStart, slash) / digits(b, slash + 1, e);
+            return space >= 0 ? whole + frac : frac;
+        }
+        if (sep >= 0) {
+            int intLen = sep - s, fracLen = e - sep - 1;
+            if (intLen + fracLen <= MAX_EXACT_DIGITS) {
+                long m = 0;
+                for (int i = s; i < e; i++) if (i != sep) m = m * 10 + (b[i] - '0');
+                return m / POW10[fracLen]; // 정확한 두 수의 나눗셈 → parseDouble 과 같은 반올림
+            }
+            char[] copy = new char[e - s];
+            System.arraycopy(b, s, copy, 0, copy.length);
+            copy[sep - s] = '.';
+            return Double.parseDouble(new String(copy));
+        }
+        return digits(b, s, e);
+    }
+
+    private static double digits(char[] b, int s, int e) {
+        if (e - s > MAX_EXACT_DIGITS) return Double.parseDouble(new String(b, s, e - s));
+        long v = 0;
+        for (int i = s; i < e; i++) v = v * 10 + (b[i] - '0');
+        return v;
+    }
+
+    private static double vulgarFraction(char c) {
+        return switch (c) {
+            case '½' -> 0.5;
+            case '¼' -> 0.25;
+            case '¾' -> 0.75;
+            case '⅓' -> 1.0 / 3.0;
+            case '⅔' -> 2.0 / 3.0;
+            default -> -1;
+        };
+    }
+
+    // ========= 문자 =========
+
+    private static boolean isDigit(char c) { return c >= '0' && c <= '9'; }
+
+    private static boolean isAsciiLetter(char c) { return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'); }
+
+    // 정규식 \s 와 같은 집합
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static char lower(char c) { return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c; }
+
+    private static int indexOf(CharSequence s, char c, int from) {
+        for (int i = from, n = s.length(); i < n; i++) if (s.charAt(i) == c) return i;
+        return -1;
+    }
+
+    // ========= trie / scratch =========
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] next = new Node[0];
+        private String unit; // 여기서 끝나는 별칭의 정규 단위
+
+        Node child(char c) {
+            for (int i = 0; i < keys.length; i++) if (keys[i] == c) return next[i];
+            return null;
+        }
+
+        Node add(char c) {
+            Node existing = child(c);
+            if (existing != null) return existing;
+            keys = java.util.Arrays.copyOf(keys, keys.length + 1);
+            next = java.util.Arrays.copyOf(next, next.length + 1);
+            keys[keys.length - 1] = c;
+            return next[next.length - 1] = new Node();
+        }
+    }
+
+    private static final class Scratch {
+        private char[] buf = new char[128];
+        private final int[] unitStarts = new int[MAX_ALIAS_LENGTH];
+        private final String[] units = new String[MAX_ALIAS_LENGTH];
+
+        char[] ensure(int n) {
+            if (buf.length < n) buf = new char[Math.max(n, buf.length * 2)];
+            return buf;
+        }
+    }
+}
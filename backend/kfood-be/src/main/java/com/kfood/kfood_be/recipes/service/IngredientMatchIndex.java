@@ -0,0 +1,250 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 재료 키(INGREDIENT_KEY)들의 부분집합/상위집합 매칭 인덱스.
+ * 재료명마다 정수 id, 레시피마다 재료 집합을 희소 bitset(단어 번호 + 64bit 단어)으로 평평한 배열에 보관.
+ * 요청 집합 Q 와 저장 집합 R 에 대해
+ *   coverage = |R∩Q| / |R|  (저장 레시피 재료 중 사용자가 가진 비율, R⊆Q 면 1)
+ *   jaccard  = |R∩Q| / |R∪Q|
+ * 로 전수 스캔 후 상위 k 개. 레시피당 단어 몇 개 AND + popcount 라 100만 건도 수십 ms.
+ */
+@Slf4j
+@Component
+public class IngredientMatchIndex {
+
+    public record Match(List<String> ingredients, double coverage, double jaccard) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final double minCoverage;
+    private final double minJaccard;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아래 필드는 lock 으로 보호
+    private final Map<String, Integer> vocab = new HashMap<>();
+    private final List<String> names = new ArrayList<>();   // id → 재료명
+    private final Set<String> keys = new HashSet<>();        // 이미 들어온 재료 집합 (정렬 후 ',' 결합) — 같은 키가 여러 번 저장돼도 행은 하나
+    private int rows;
+    private int[] rowStart = new int[1025];                 // 레시피 r 의 단어: [rowStart[r], rowStart[r+1])
+    private byte[] cardinality = new byte[1024];
+    private int[] wordIndex = new int[4096];                // 단어 번호 (id >>> 6)
+    private long[] words = new long[4096];
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder scanNanos = new LongAdder();
+    private final LongAccumulator maxScanNanos = new LongAccumulator(Long::max, 0);
+
+    public IngredientMatchIndex(JdbcTemplate jdbcTemplate,
+                                @Value("${recipes.match.enabled:true}") boolean enabled,
+                                @Value("${recipes.match.min-coverage:1.0}") double minCoverage,
+                                @Value("${recipes.match.min-jaccard:0.4}") double minJaccard) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.minCoverage = minCoverage;
+        this.minJaccard = minJaccard;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void loadFromDatabase() {
+        if (!enabled) return;
+        long t0 = System.nanoTime();
+        try {
+            jdbcTemplate.query(
+                    "SELECT DISTINCT INGREDIENT_KEY FROM GENERATED_RECIPE WHERE INGREDIENT_KEY IS NOT NULL",
+                    rs -> { add(rs.getString(1)); });
+            log.info("재료 매칭 인덱스 적재: {}건 ({} ms)", size(), (System.nanoTime() - t0) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("재료 매칭 인덱스 적재 실패(빈 인덱스로 시작): {}", e.toString());
+        }
+    }
+
+    /** 정규화 재료 키("김치,두부,양파") 추가. 같은 재료 집합이 이미 있으면 무시 */
+    public void add(String ingredientKey) {
+        if (!enabled || ingredientKey == null || ingredientKey.isBlank()) return;
+        Set<String> parts = new TreeSet<>(Arrays.asList(ingredientKey.split(",")));
+        parts.removeIf(String::isBlank);
+        if (parts.isEmpty() || parts.size() > Byte.MAX_VALUE) return;
+        String canonical = String.join(",", parts);
+
+        lock.writeLock().lock();
+        try {
+            if (!keys.add(canonical)) return;
+            int[] ids = new int[parts.size()];
+            int n = 0;
+            for (String name : parts) {
+                ids[n++] = vocab.computeIfAbsent(name, k -> {
+                    names.add(k);
+                    return names.size() - 1;
+                });
+            }
+            Arrays.sort(ids);
+
+            ensureRowCapacity(rows + 1);
+            ensureWordCapacity(rowStart[rows] + ids.length);
+            int w = rowStart[rows];
+            int lastWord = -1;
+            for (int id : ids) {
+                int wi = id >>> 6;
+                if (wi != lastWord) {
+                    wordIndex[w] = wi;
+                    words[w] = 0L;
+                    w++;
+                    lastWord = wi;
+                }
+                words[w - 1] |= 1L << (id & 63);
+            }
+            cardinality[rows] = (byte) ids.length;
+            rowStart[++rows] = w;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** coverage 내림차순, 같으면 jaccard 내림차순으로 상위 limit 개 */
+    public List<Match> match(List<String> ingredients, int limit) {
+        if (!enabled || ingredients == null || ingredients.isEmpty() || limit <= 0) return List.of();
+        long t0 = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            // 요청 집합: 모르는 재료는 bit 는 없지만 |Q| 에는 포함
+            int qSize = ingredients.size();
+            long[] q = new long[(names.size() >>> 6) + 1];
+            boolean anyKnown = false;
+            for (String name : ingredients) {
+                Integer id = vocab.get(name);
+                if (id == null) continue;
+                q[id >>> 6] |= 1L << (id & 63);
+                anyKnown = true;
+            }
+            if (!anyKnown) return List.of();
+
+            int[] topRow = new int[limit];
+            double[] topCov = new double[limit];
+            double[] topJac = new double[limit];
+            int found = 0;
+
+            for (int r = 0; r < rows; r++) {
+                int inter = 0;
+                for (int w = rowStart[r], end = rowStart[r + 1]; w < end; w++) {
+                    inter += Long.bitCount(words[w] & q[wordIndex[w]]);
+                }
+                if (inter == 0) continue;
+                int card = cardinality[r];
+                double cov = (double) inter / card;
+                if (cov < minCoverage) continue;
+                double jac = (double) inter / (card + qSize - inter);
+                if (jac < minJaccard) continue;
+
+                // 작은 k 라 삽입 정렬
+                int pos = found < limit ? found : limit;
+                while (pos > 0 && better(cov, jac, topCov[pos - 1], topJac[pos - 1])) pos--;
+                if (pos >= limit) continue;
+                int last = Math.min(found, limit - 1);
+                for (int i = last; i > pos; i--) {
+                    topRow[i] = topRow[i - 1];
+                    topCov[i] = topCov[i - 1];
+                    topJac[i] = topJac[i - 1];
+                }
+                topRow[pos] = r;
+                topCov[pos] = cov;
+                topJac[pos] = jac;
+                if (found < limit) found++;
+            }
+
+            List<Match> out = new ArrayList<>(found);
+            for (int i = 0; i < found; i++) out.add(new Match(ingredientsOf(topRow[i]), topCov[i], topJac[i]));
+            if (found > 0) matched.increment();
+            return out;
+        } finally {
+            lock.readLock().unlock();
+            long took = System.nanoTime() - t0;
+            queries.increment();
+            scanNanos.add(took);
+            maxScanNanos.accumulate(took);
+        }
+    }
+
+    private static boolean better(double cov, double jac, double otherCov, double otherJac) {
+        return cov > otherCov || (cov == otherCov && jac > otherJac);
+    }
+
+    // bitset → 정렬된 재료명 (RecipeCacheKey 와 같은 순서)
+    private List<String> ingredientsOf(int r) {
+        List<String> out = new ArrayList<>(cardinality[r]);
+        for (int w = rowStart[r], end = rowStart[r + 1]; w < end; w++) {
+            long bits = words[w];
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                out.add(names.get((wordIndex[w] << 6) + bit));
+                bits &= bits - 1;
+            }
+        }
+        out.sort(null);
+        return out;
+    }
+
+    private void ensureRowCapacity(int needed) {
+        if (needed < cardinality.length) return;
+        int cap = Math.max(needed + 1, cardinality.length * 2);
+        cardinality = Arrays.copyOf(cardinality, cap);
+        rowStart = Arrays.copyOf(rowStart, cap + 1);
+    }
+
+    private void ensureWordCapacity(int needed) {
+        if (needed <= words.length) return;
+        int cap = Math.max(needed, words.length * 2);
+        words = Arrays.copyOf(words, cap);
+        wordIndex = Arrays.copyOf(wordIndex, cap);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long n = queries.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", enabled);
+        out.put("minCoverage", minCoverage);
+        out.put("minJaccard", minJaccard);
+        lock.readLock().lock();
+        try {
+            out.put("recipes", rows);
+            out.put("vocabulary", names.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        out.put("queries", n);
+        out.put("matched", matched.sum());
+        out.put("meanScanUs", n == 0 ? 0.0 : scanNanos.sum() / 1_000.0 / n);
+        out.put("maxScanUs", maxScanNanos.get() / 1_000);
+        return out;
+    }
+}
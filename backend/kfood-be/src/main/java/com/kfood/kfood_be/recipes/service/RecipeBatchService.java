@@ -0,0 +1,204 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.kfood.kfood_be.common.error.ApiException;
+import com.kfood.kfood_be.recipes.dto.RecipeBatchItemDto;
+import com.kfood.kfood_be.recipes.dto.RecipeRequestDto;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 여러 재료 조합을 한 번에 준비.
+ * - 정규화 키(RecipeCacheKey)와 인분이 같은 요청은 묶어서 한 번만 처리 (인분만 다르면 1인분 생성/캐시를 공유하고 환산만 따로)
+ * - 캐시/DB 계층 적중은 바로 내보내고, 나머지만 배치당 concurrency 개씩 생성 (전역 한도/서킷은 GeminiService 에서)
+ * - 끝나는 순서대로 흘려보내고, 배치 timeout 이 지나면 남은 조합은 로컬 폴백으로 마감 (진행 중인 생성은 끊지 않고 뒤에서 마저 저장)
+ */
+@Slf4j
+@Service
+public class RecipeBatchService {
+
+    private static final int LOOKUP_CONCURRENCY = 8;
+    private static final Executor DETACHED = task -> Schedulers.boundedElastic().schedule(task);
+
+    private final RecipeService recipeService;
+    private final int maxItems;
+    private final int concurrency;
+    private final Duration timeout;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder deduped = new LongAdder();
+    private final LongAdder ready = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public RecipeBatchService(RecipeService recipeService,
+                              @Value("${recipes.batch.max-items:30}") int maxItems,
+                              @Value("${recipes.batch.concurrency:4}") int concurrency,
+                              @Value("${recipes.batch.timeout:120s}") Duration timeout) {
+        this.recipeService = recipeService;
+        this.maxItems = maxItems;
+        this.concurrency = Math.max(1, concurrency);
+        this.timeout = timeout;
+    }
+
+    public Flux<RecipeBatchItemDto> prepare(List<RecipeRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) throw ApiException.badRequest("요청 목록이 비어 있습니다.");
+        if (requests.size() > maxItems) {
+            throw ApiException.badRequest("한 번에 최대 " + maxItems + "개까지 요청할 수 있습니다.");
+        }
+        batches.increment();
+        requested.add(requests.size());
+
+        Map<GroupKey, Group> groups = new LinkedHashMap<>();
+        List<RecipeBatchItemDto> invalid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RecipeRequestDto r = requests.get(i);
+            RecipeCacheKey key = r == null ? null : RecipeService.cacheKeyOf(r.getIngredients(), r.getTimeMax());
+            if (key == null || key.ingredients().isEmpty()) {
+                invalid.add(failedItem(List.of(i), List.of(), "재료가 비어 있습니다."));
+                continue;
+            }
+            int servings = RecipeScaler.normalize(r.getServings());
+            Group g = groups.computeIfAbsent(new GroupKey(key, servings), k -> new Group(key, servings));
+            if (!g.indexes.isEmpty()) deduped.increment();
+            g.indexes.add(i);
+        }
+
+        Flux<RecipeBatchItemDto> resolved = Flux.fromIterable(groups.values())
+                .flatMap(this::lookup, LOOKUP_CONCURRENCY)
+                .publish(looked -> Flux.merge(
+                        looked.filter(Lookup::hit).map(l -> {
+                            ready.increment();
+                            return new Answer(l.group(), doneItem(l.group(), "READY", l.recipes()));
+                        }),
+                        looked.filter(l -> !l.hit()).flatMap(l -> generate(l.group()), concurrency)))
+                .take(timeout)
+                .doOnNext(a -> a.group().answered = true)   // 실제로 내보낸 것만 (시간 초과 뒤 끝난 생성은 제외)
+                .map(Answer::item)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(groups.values())
+                        .filter(g -> !g.answered)
+                        .map(this::timeoutItem)));
+
+        return Flux.fromIterable(invalid).concatWith(resolved);
+    }
+
+    // 캐시 → DB → 부분집합 매칭 (JPA 조회라 boundedElastic 에서). 실패는 miss 로 보고 생성으로 넘긴다
+    private Mono<Lookup> lookup(Group g) {
+        return Mono.fromCallable(() -> recipeService.findReady(g.key)
+                        .map(found -> RecipeScaler.scale(found, g.servings)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("일괄 준비 조회 실패 {}: {}", g.key.ingredients(), e.toString());
+                    return Mono.just(Optional.<List<RecipeResponseDto>>empty());
+                })
+                .map(found -> new Lookup(g, found.orElse(null)));
+    }
+
+    // 생성은 같은 키의 다른 요청과 공유(coalescer 리더)될 수 있어, 배치 timeout 으로 구독이 끊겨도 취소/인터럽트하지 않는다.
+    // 늦게 끝난 결과는 generateMissing 안에서 캐시/DB 에 저장되어 다음 요청이 쓰고, 이 배치에는 폴백만 나간다
+    private Mono<Answer> generate(Group g) {
+        return Mono.fromFuture(() -> CompletableFuture.supplyAsync(
+                                () -> recipeService.generateMissing(g.key, null), DETACHED), true)
+                .map(recipes -> RecipeScaler.scale(recipes, g.servings))
+                .map(recipes -> {
+                    if (recipes.isEmpty()) return new Answer(g, failedItem(g, "레시피 생성 실패"));
+                    generated.increment();
+                    return new Answer(g, doneItem(g, "GENERATED", recipes));
+                })
+                .onErrorResume(e -> {
+                    log.warn("일괄 준비 생성 실패 {}: {}", g.key.ingredients(), e.toString());
+                    return Mono.just(new Answer(g, failedItem(g, "레시피 생성 실패")));
+                });
+    }
+
+    private RecipeBatchItemDto timeoutItem(Group g) {
+        timedOut.increment();
+        return RecipeBatchItemDto.builder()
+                .indexes(g.indexes)
+                .ingredients(g.key.ingredients())
+                .status("DONE")
+                .source("FALLBACK")
+                .recipes(RecipeScaler.scale(List.of(recipeService.fallbackRecipe(g.key.ingredients())), g.servings))
+                .build();
+    }
+
+    private RecipeBatchItemDto doneItem(Group g, String source, List<RecipeResponseDto> recipes) {
+        return RecipeBatchItemDto.builder()
+                .indexes(g.indexes)
+                .ingredients(g.key.ingredients())
+                .status("DONE")
+                .source(source)
+                .recipes(recipes)
+                .build();
+    }
+
+    private RecipeBatchItemDto failedItem(Group g, String error) {
+        return failedItem(g.indexes, g.key.ingredients(), error);
+    }
+
+    private RecipeBatchItemDto failedItem(List<Integer> indexes, List<String> ingredients, String error) {
+        failed.increment();
+        return RecipeBatchItemDto.builder()
+                .indexes(indexes)
+                .ingredients(ingredients)
+                .status("FAILED")
+                .error(error)
+                .build();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("maxItems", maxItems);
+        out.put("concurrency", concurrency);
+        out.put("timeoutMs", timeout.toMillis());
+        out.put("batches", batches.sum());
+        out.put("requested", requested.sum());
+        out.put("deduped", deduped.sum());
+        out.put("ready", ready.sum());
+        out.put("generated", generated.sum());
+        out.put("failed", failed.sum());
+        out.put("timedOut", timedOut.sum());
+        return out;
+    }
+
+    private record GroupKey(RecipeCacheKey key, int servings) {}
+
+    /** 같은 정규화 키 + 인분의 요청들 */
+    private static final class Group {
+        final RecipeCacheKey key;
+        final int servings;
+        final List<Integer> indexes = new ArrayList<>(1);
+        volatile boolean answered;
+
+        Group(RecipeCacheKey key, int servings) {
+            this.key = key;
+            this.servings = servings;
+        }
+    }
+
+    private record Answer(Group group, RecipeBatchItemDto item) {}
+
+    private record Lookup(Group group, List<RecipeResponseDto> recipes) {
+        boolean hit() {
+            return recipes != null;
+        }
+    }
+}
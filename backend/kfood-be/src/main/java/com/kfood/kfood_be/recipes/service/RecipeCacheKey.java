@@ -0,0 +1,24 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.List;
+
+/**
+ * 레시피 결과 캐시 키.
+ * ingredients 는 정규화(수량/단위 제거, 소문자, 공백 정리) → 정렬 → 중복제거 된 재료명 목록.
+ */
+public record RecipeCacheKey(List<String> ingredients, Integer timeMax) {
+
+    public RecipeCacheKey {
+        ingredients = List.copyOf(ingredients);
+    }
+
+    /** "김치,돼지고기,두부" 형태의 정규화 재료 키 */
+    public String ingredientKey() {
+        return String.join(",", ingredients);
+    }
+
+    @Override
+    public String toString() {
+        return ingredientKey() + "|timeMax=" + (timeMax == null ? "-" : timeMax);
+    }
+}
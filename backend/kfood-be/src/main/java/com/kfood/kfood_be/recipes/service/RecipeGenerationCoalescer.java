@@ -0,0 +1,216 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 동일 프롬프트에 대한 동시 생성 요청 합치기(single-flight).
+ * 첫 요청(leader)만 실제로 Gemini 를 호출하고, 같은 키로 들어온 나머지(follower)는 같은 future 결과를 공유한다.
+ * - follower 대기 한도 = 생성 전체 타임아웃(recipes.generation.overall-timeout) + 여유(recipes.coalesce.wait-margin).
+ *   leader 가 아직 성공할 수 있는 동안 follower 가 먼저 포기하지 않는다
+ * - follower 타임아웃: GeminiUnavailableException("coalesce-timeout") → 호출자는 로컬 폴백 (빈 결과를 주지 않음)
+ * - follower 인터럽트: 해당 follower 만 빠지고 공유 작업은 계속 진행
+ * - leader 인터럽트(취소): future 를 cancel → 대기 중인 follower 중 하나가 새 leader 로 이어받음
+ *   (생성이 CancellationException 을 던지거나, 인터럽트된 채 빈 결과를 돌려준 경우. leader 에게는 CancellationException)
+ * 블로킹(execute)과 논블로킹(executeReactive) 요청이 같은 키면 서로 합류한다.
+ * 스트리밍 생성은 tryLead 로 자리만 잡고 결과를 직접 채운다 (같은 키가 진행 중이면 새 스트림 대신 합류).
+ */
+@Slf4j
+@Component
+public class RecipeGenerationCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<List<RecipeResponseDto>>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder waitTimeouts = new LongAdder();
+    private final LongAdder leaderCancels = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public RecipeGenerationCoalescer(@Value("${recipes.generation.overall-timeout:90s}") Duration generationTimeout,
+                                     @Value("${recipes.coalesce.wait-margin:10s}") Duration waitMargin) {
+        this.waitTimeout = generationTimeout.plus(waitMargin);
+    }
+
+    public List<RecipeResponseDto> execute(String key, Supplier<List<RecipeResponseDto>> generation) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        boolean joined = false;
+        while (true) {
+            CompletableFuture<List<RecipeResponseDto>> mine = new CompletableFuture<>();
+            CompletableFuture<List<RecipeResponseDto>> shared = inFlight.putIfAbsent(key, mine);
+            if (shared == null) return lead(key, mine, generation);
+
+            if (!joined) {
+                joined = true;
+                deduplicated.increment();
+            }
+            try {
+                return await(shared, deadline);
+            } catch (CancellationException e) {
+                // leader 가 취소됨 → 남은 시간 안에서 다시 leader 자리를 노린다
+                inFlight.remove(key, shared);
+                if (System.nanoTime() >= deadline) throw waitTimedOut();
+            }
+        }
+    }
+
+    private List<RecipeResponseDto> lead(String key,
+                                         CompletableFuture<List<RecipeResponseDto>> mine,
+                                         Supplier<List<RecipeResponseDto>> generation) {
+        leaders.increment();
+        List<RecipeResponseDto> result;
+        try {
+            result = generation.get();
+        } catch (RuntimeException | Error e) {
+            // 맵에서 먼저 빼야 깨어난 follower 가 같은 future 에 다시 붙지 않는다
+            inFlight.remove(key, mine);
+            if (e instanceof CancellationException || Thread.currentThread().isInterrupted()) {
+                leaderCancels.increment();
+                mine.cancel(false);
+            } else {
+                failures.increment();
+                mine.completeExceptionally(e);
+            }
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        if ((result == null || result.isEmpty()) && Thread.currentThread().isInterrupted()) {
+            // 취소를 빈 결과로 삼킨 생성: follower 에게 빈 결과를 나눠주지 않고 새 leader 를 뽑게 한다
+            leaderCancels.increment();
+            mine.cancel(false);
+            throw new CancellationException("레시피 생성 취소됨");
+        }
+        mine.complete(result == null ? Collections.emptyList() : result);
+        return result;
+    }
+
+    /** execute 의 논블로킹판. leader 구독이 취소되면 follower 중 하나가 이어받는다 */
+    public Mono<List<RecipeResponseDto>> executeReactive(String key, Supplier<Mono<List<RecipeResponseDto>>> generation) {
+        return Mono.defer(() -> joinOrLead(key, generation, System.nanoTime() + waitTimeout.toNanos(), false));
+    }
+
+    private Mono<List<RecipeResponseDto>> joinOrLead(String key, Supplier<Mono<List<RecipeResponseDto>>> generation,
+                                                     long deadline, boolean joined) {
+        CompletableFuture<List<RecipeResponseDto>> mine = new CompletableFuture<>();
+        CompletableFuture<List<RecipeResponseDto>> shared = inFlight.putIfAbsent(key, mine);
+        if (shared == null) return leadReactive(key, mine, generation);
+
+        if (!joined) deduplicated.increment();
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) return Mono.error(waitTimedOut());
+        // follower 가 떠나도 공유 작업은 계속 (suppressCancel)
+        return Mono.fromFuture(shared, true)
+                .timeout(Duration.ofNanos(remaining))
+                .onErrorMap(TimeoutException.class, e -> waitTimedOut())
+                .onErrorResume(CancellationException.class, e -> {
+                    inFlight.remove(key, shared);
+                    return Mono.defer(() -> joinOrLead(key, generation, deadline, true));
+                });
+    }
+
+    private Mono<List<RecipeResponseDto>> leadReactive(String key,
+                                                       CompletableFuture<List<RecipeResponseDto>> mine,
+                                                       Supplier<Mono<List<RecipeResponseDto>>> generation) {
+        leaders.increment();
+        return Mono.defer(generation)
+                .defaultIfEmpty(Collections.emptyList())
+                .doOnNext(result -> {
+                    inFlight.remove(key, mine);
+                    mine.complete(result);
+                })
+                .doOnError(e -> {
+                    inFlight.remove(key, mine);
+                    failures.increment();
+                    mine.completeExceptionally(e);
+                })
+                .doOnCancel(() -> {
+                    inFlight.remove(key, mine);
+                    if (mine.cancel(false)) leaderCancels.increment();
+                });
+    }
+
+    /** 결과를 직접 채우는 leader 자리. 같은 키가 이미 진행 중이면 null → execute/executeReactive 로 합류할 것 */
+    public Lead tryLead(String key) {
+        CompletableFuture<List<RecipeResponseDto>> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) return null;
+        leaders.increment();
+        return new Lead(key, mine);
+    }
+
+    /** tryLead 로 잡은 자리. complete 나 cancel 로 반드시 끝낸다 (첫 호출만 유효) */
+    public final class Lead {
+        private final String key;
+        private final CompletableFuture<List<RecipeResponseDto>> future;
+
+        private Lead(String key, CompletableFuture<List<RecipeResponseDto>> future) {
+            this.key = key;
+            this.future = future;
+        }
+
+        public void complete(List<RecipeResponseDto> result) {
+            inFlight.remove(key, future);
+            future.complete(result == null ? Collections.emptyList() : result);
+        }
+
+        /** 결과 없이 물러남: 대기 중인 follower 중 하나가 새 leader 로 이어받는다 */
+        public void cancel() {
+            inFlight.remove(key, future);
+            if (future.cancel(false)) leaderCancels.increment();
+        }
+    }
+
+    private List<RecipeResponseDto> await(CompletableFuture<List<RecipeResponseDto>> shared, long deadline) {
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            return shared.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw waitTimedOut();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private GeminiUnavailableException waitTimedOut() {
+        waitTimeouts.increment();
+        log.warn("레시피 생성 합류 대기 타임아웃({}ms)", waitTimeout.toMillis());
+        return new GeminiUnavailableException("coalesce-timeout", "같은 프롬프트의 생성 대기 시간이 지났습니다.");
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("waitTimeoutMs", waitTimeout.toMillis());
+        out.put("inFlight", inFlight.size());
+        out.put("leaders", leaders.sum());
+        out.put("deduplicated", deduplicated.sum());
+        out.put("waitTimeouts", waitTimeouts.sum());
+        out.put("leaderCancels", leaderCancels.sum());
+        out.put("failures", failures.sum());
+        return out;
+    }
+}
@@ -0,0 +1,290 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kfood.kfood_be.common.metrics.LatencyRecorder;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레시피 생성 시도(스키마 고정 → 자유 텍스트 0.2 → 0.7) 실행 전략.
+ * - sequential: 기존처럼 하나씩 순서대로
+ * - hedged: 스키마 호출 시작 → 그 모델의 최근 p95 경과 or 실패 즉시 다음 시도 출발, 먼저 파싱 성공한 응답 채택 후 나머지 취소
+ *           (p95 표본이 없으면 hedge-delay)
+ * 두 번째 시도부터는 재시도라서 GeminiRetryBudget 이 허락할 때만 출발한다.
+ * 동시 호출 한도/서킷에 막힌 시도(GeminiUnavailableException)가 있으면 더 띄우지 않고, 진행 중인 시도가 없으면 그 예외를 던진다.
+ * 호출 스레드가 인터럽트되면 빈 결과가 아니라 CancellationException (합류 중인 요청이 새 leader 를 뽑도록).
+ */
+@Slf4j
+@Component
+public class RecipeGenerationExecutor {
+
+    public enum Strategy { SEQUENTIAL, HEDGED }
+
+    public enum Attempt { MEASURED, TEXT_LOW, TEXT_HIGH }
+
+    private final GeminiService geminiService;
+    private final GeminiModelRouter router;
+    private final GeminiRetryBudget retryBudget;
+    private final ExecutorService executor;
+    private final Strategy strategy;
+    private final Duration hedgeDelay;
+    private final Duration overallTimeout;
+
+    private final Map<Attempt, AttemptMetrics> metrics = new EnumMap<>(Attempt.class);
+    private final LatencyRecorder hedgeDelays = new LatencyRecorder(512);   // 실제로 쓴 헤징 지연
+    private final LongAdder hedgeDelayFallbacks = new LongAdder();
+
+    public RecipeGenerationExecutor(GeminiService geminiService,
+                                    GeminiModelRouter router,
+                                    GeminiRetryBudget retryBudget,
+                                    @Qualifier("geminiExecutor") ExecutorService executor,
+                                    @Value("${recipes.generation.strategy:hedged}") String strategy,
+                                    @Value("${recipes.generation.hedge-delay:8s}") Duration hedgeDelay,
+                                    @Value("${recipes.generation.overall-timeout:90s}") Duration overallTimeout) {
+        this.geminiService = geminiService;
+        this.router = router;
+        this.retryBudget = retryBudget;
+        this.executor = executor;
+        this.strategy = Strategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT));
+        this.hedgeDelay = hedgeDelay;
+        this.overallTimeout = overallTimeout;
+        for (Attempt a : Attempt.values()) metrics.put(a, new AttemptMetrics());
+    }
+
+    /**
+     * 파싱 성공(비어있지 않은 결과)한 첫 응답을 반환. 전부 실패하면 빈 리스트, 한도에 막혔으면 GeminiUnavailableException.
+     * budget: 모델 선택에 쓰는 지연 예산 (null 이면 gemini.routing.latency-budget)
+     */
+    public List<RecipeResponseDto> generate(String prompt, Duration budget,
+                                            Function<String, List<RecipeResponseDto>> parser) {
+        retryBudget.onRequest();
+        return strategy == Strategy.HEDGED ? hedged(prompt, budget, parser) : sequential(prompt, budget, parser);
+    }
+
+    private List<RecipeResponseDto> sequential(String prompt, Duration budget,
+                                               Function<String, List<RecipeResponseDto>> parser) {
+        for (Attempt a : Attempt.values()) {
+            if (a != Attempt.MEASURED && !retryBudget.tryRetry()) {
+                metrics.get(a).budgetDenied.increment();
+                break;
+            }
+            metrics.get(a).launched.increment();
+            List<RecipeResponseDto> parsed;
+            try {
+                parsed = runAttempt(a, prompt, budget, parser);
+            } catch (GeminiUnavailableException e) {
+                metrics.get(a).shed.increment();
+                throw e;
+            }
+            if (!parsed.isEmpty()) {
+                metrics.get(a).wins.increment();
+                return parsed;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private List<RecipeResponseDto> hedged(String prompt, Duration budget,
+                                           Function<String, List<RecipeResponseDto>> parser) {
+        HedgedRun run = new HedgedRun(prompt, budget, parser);
+        run.launch(Attempt.MEASURED);
+        CompletableFuture.delayedExecutor(hedgeDelayMs(prompt, budget), TimeUnit.MILLISECONDS)
+                .execute(() -> run.launch(Attempt.TEXT_LOW));
+        try {
+            return run.winner.get(overallTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("레시피 생성 전체 타임아웃({}ms)", overallTimeout.toMillis());
+            return Collections.emptyList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("레시피 생성 취소됨");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GeminiUnavailableException unavailable) throw unavailable;
+            log.warn("레시피 생성 실패: {}", e.getCause().toString());
+            return Collections.emptyList();
+        } finally {
+            run.cancelAll();
+        }
+    }
+
+    // 스키마 호출이 갈 모델의 최근 p95: 그보다 늦으면 꼬리 지연이라 보고 다음 시도를 겹친다
+    long hedgeDelayMs(String prompt, Duration budget) {
+        long p95 = router.p95Ms(router.expectedPrimary(prompt.length(), budget));
+        if (p95 < 0) {
+            hedgeDelayFallbacks.increment();
+            p95 = hedgeDelay.toMillis();
+        }
+        hedgeDelays.record(p95);
+        return p95;
+    }
+
+    // 파싱은 GeminiService 안에서 (모델별 파싱 성공률 집계 + 실패 시 상위 모델 승급)
+    private List<RecipeResponseDto> runAttempt(Attempt a, String prompt, Duration budget,
+                                               Function<String, List<RecipeResponseDto>> parser) {
+        AttemptMetrics m = metrics.get(a);
+        long t0 = System.nanoTime();
+        List<RecipeResponseDto> parsed;
+        try {
+            parsed = switch (a) {
+                case MEASURED -> geminiService.generateMeasuredRecipe(prompt, budget, parser);
+                case TEXT_LOW -> geminiService.generateText(prompt, 0.2, budget, parser);
+                case TEXT_HIGH -> geminiService.generateText(prompt, 0.7, budget, parser);
+            };
+        } catch (CancellationException e) {
+            m.cancelled.increment();
+            throw e;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            m.cancelled.increment();
+            throw new CancellationException("레시피 생성 시도 취소됨");
+        }
+        m.latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        if (parsed == null || parsed.isEmpty()) {
+            m.failed.increment();
+            return Collections.emptyList();
+        }
+        m.succeeded.increment();
+        return parsed;
+    }
+
+    /** 헤징 1회 실행 상태 */
+    private final class HedgedRun {
+        final CompletableFuture<List<RecipeResponseDto>> winner = new CompletableFuture<>();
+        final String prompt;
+        final Duration budget;
+        final Function<String, List<RecipeResponseDto>> parser;
+        final Map<Attempt, Future<?>> running = new EnumMap<>(Attempt.class);
+        int finished;
+        GeminiUnavailableException unavailable;   // 한도에 막힌 시도가 있었음
+
+        HedgedRun(String prompt, Duration budget, Function<String, List<RecipeResponseDto>> parser) {
+            this.prompt = prompt;
+            this.budget = budget;
+            this.parser = parser;
+        }
+
+        synchronized void launch(Attempt a) {
+            if (winner.isDone() || running.containsKey(a) || unavailable != null) return;
+            if (a != Attempt.MEASURED && !retryBudget.tryRetry()) {
+                metrics.get(a).budgetDenied.increment();
+                running.put(a, CompletableFuture.completedFuture(null));
+                onFailure();
+                return;
+            }
+            metrics.get(a).launched.increment();
+            try {
+                running.put(a, executor.submit(() -> execute(a)));
+            } catch (RejectedExecutionException e) {
+                metrics.get(a).rejected.increment();
+                running.put(a, CompletableFuture.completedFuture(null));
+                onFailure();
+            }
+        }
+
+        private void execute(Attempt a) {
+            List<RecipeResponseDto> parsed;
+            try {
+                parsed = runAttempt(a, prompt, budget, parser);
+            } catch (GeminiUnavailableException e) {
+                metrics.get(a).shed.increment();
+                synchronized (this) {
+                    if (unavailable == null) unavailable = e;
+                    onFailure();
+                }
+                return;
+            } catch (CancellationException e) {
+                return;     // cancelAll: 이미 승자가 있거나 호출자가 떠남
+            } catch (RuntimeException e) {
+                log.warn("레시피 생성 시도 실패({}): {}", a, e.toString());
+                parsed = Collections.emptyList();
+            }
+            if (!parsed.isEmpty()) {
+                if (winner.complete(parsed)) metrics.get(a).wins.increment();
+                return;
+            }
+            synchronized (this) {
+                onFailure();
+            }
+        }
+
+        // 실패 시: 아직 안 띄운 다음 시도를 즉시 출발, 모두 끝났으면 빈 결과로 종료
+        // 한도에 막힌 뒤로는 새로 띄우지 않고, 진행 중인 시도가 다 끝나면 GeminiUnavailableException 으로 종료
+        private void onFailure() {
+            finished++;
+            if (unavailable != null) {
+                if (finished >= running.size()) winner.completeExceptionally(unavailable);
+                return;
+            }
+            for (Attempt next : Attempt.values()) {
+                if (!running.containsKey(next)) {
+                    launch(next);
+                    return;
+                }
+            }
+            if (finished >= Attempt.values().length) winner.complete(Collections.emptyList());
+        }
+
+        synchronized void cancelAll() {
+            winner.complete(Collections.emptyList()); // 이후 지연 출발 차단
+            running.values().forEach(f -> f.cancel(true));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("strategy", strategy.name().toLowerCase(Locale.ROOT));
+        out.put("fallbackHedgeDelayMs", hedgeDelay.toMillis());
+        out.put("hedgeDelayFallbacks", hedgeDelayFallbacks.sum());
+        out.put("hedgeDelayMs", hedgeDelays.snapshot());
+        long totalWins = metrics.values().stream().mapToLong(m -> m.wins.sum()).sum();
+        metrics.forEach((a, m) -> {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("launched", m.launched.sum());
+            s.put("succeeded", m.succeeded.sum());
+            s.put("failed", m.failed.sum());
+            s.put("cancelled", m.cancelled.sum());
+            s.put("rejected", m.rejected.sum());
+            s.put("shed", m.shed.sum());
+            s.put("budgetDenied", m.budgetDenied.sum());
+            s.put("wins", m.wins.sum());
+            s.put("winRate", totalWins == 0 ? 0.0 : (double) m.wins.sum() / totalWins);
+            s.put("latency", m.latency.snapshot());
+            out.put(a.name().toLowerCase(Locale.ROOT), s);
+        });
+        return out;
+    }
+
+    private static final class AttemptMetrics {
+        final LongAdder launched = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder cancelled = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        final LongAdder budgetDenied = new LongAdder();
+        final LongAdder wins = new LongAdder();
+        final LatencyRecorder latency = new LatencyRecorder(512);
+    }
+}
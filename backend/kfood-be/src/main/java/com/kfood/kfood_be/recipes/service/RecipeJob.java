@@ -0,0 +1,60 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.kfood.kfood_be.recipes.dto.RecipeJobResponseDto;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import lombok.Getter;
+
+/** 비동기 레시피 생성 작업 1건 */
+@Getter
+public class RecipeJob {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final RecipeCacheKey key;
+    private final Integer servings;
+    private final long createdAt = System.currentTimeMillis();
+    private final CompletableFuture<List<RecipeResponseDto>> result = new CompletableFuture<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile String error;
+
+    RecipeJob(String id, RecipeCacheKey key, Integer servings) {
+        this.id = id;
+        this.key = key;
+        this.servings = servings;
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    void complete(List<RecipeResponseDto> recipes) {
+        status = Status.DONE;
+        result.complete(recipes);
+    }
+
+    void fail(String message) {
+        error = message;
+        status = Status.FAILED;
+        result.complete(List.of());
+    }
+
+    public boolean isFinished() {
+        return result.isDone();
+    }
+
+    public RecipeJobResponseDto toResponse() {
+        Status s = status;   // DONE 은 result 완료 직전에 기록되므로 join 은 즉시 반환
+        return RecipeJobResponseDto.builder()
+                .jobId(id)
+                .status(s.name())
+                .recipes(s == Status.DONE ? result.join() : null)
+                .error(error)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kfood.kfood_be.common.error.ApiException;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 레시피 생성 작업 관리.
+ * - 제출 즉시 jobId 반환, 생성은 제한된 풀(recipeJobExecutor)에서 실행
+ * - 같은 정규화 재료 키 + 인분으로 진행 중/완료된 작업이 있으면 그 작업을 그대로 돌려줌(재접속 시 재생성 없음).
+ *   인분이 다르면 작업은 따로지만 생성은 RecipeService 캐시/합류로 1인분 한 번만.
+ * - 작업/결과는 크기·TTL 제한 저장소에 보관
+ */
+@Slf4j
+@Service
+public class RecipeJobService {
+
+    /** 작업 재사용 키: 결과가 인분으로 환산되어 저장되므로 인분까지 같아야 같은 작업 */
+    private record JobKey(RecipeCacheKey key, int servings) {}
+
+    private final RecipeService recipeService;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, RecipeJob> jobs;
+    private final Cache<JobKey, String> jobIdByKey;
+    private final Duration latencyBudget; // 결과를 폴링하므로 동기 요청보다 넉넉하게 → 상위 모델 선택 여지
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public RecipeJobService(RecipeService recipeService,
+                            @Qualifier("recipeJobExecutor") ThreadPoolExecutor executor,
+                            @Value("${recipes.jobs.max-stored:10000}") long maxStored,
+                            @Value("${recipes.jobs.ttl:30m}") Duration ttl,
+                            @Value("${recipes.jobs.latency-budget:60s}") Duration latencyBudget) {
+        this.recipeService = recipeService;
+        this.executor = executor;
+        this.latencyBudget = latencyBudget;
+        this.jobs = Caffeine.newBuilder().maximumSize(maxStored).expireAfterWrite(ttl).build();
+        this.jobIdByKey = Caffeine.newBuilder().maximumSize(maxStored).expireAfterWrite(ttl).build();
+    }
+
+    public RecipeJob submit(List<String> ingredients, Integer timeMax, Integer servings) {
+        RecipeCacheKey key = RecipeService.cacheKeyOf(ingredients, timeMax);
+        if (key.ingredients().isEmpty()) throw ApiException.badRequest("재료가 비어 있습니다.");
+
+        // 같은 키·인분의 살아있는(실패하지 않은) 작업 재사용.
+        // 확인과 등록을 키 단위로 원자적으로 해서 동시에 들어온 같은 제출이 작업을 둘 만들지 않게 한다
+        JobKey jobKey = new JobKey(key, RecipeScaler.normalize(servings));
+        AtomicReference<RecipeJob> existing = new AtomicReference<>();
+        AtomicReference<RecipeJob> created = new AtomicReference<>();
+        jobIdByKey.asMap().compute(jobKey, (k, existingId) -> {
+            RecipeJob alive = existingId == null ? null : jobs.getIfPresent(existingId);
+            if (alive != null && alive.getStatus() != RecipeJob.Status.FAILED) {
+                existing.set(alive);
+                return existingId;
+            }
+            RecipeJob job = start(key, servings);
+            created.set(job);
+            return job.getId();
+        });
+        if (existing.get() != null) {
+            reused.increment();
+            return existing.get();
+        }
+        submitted.increment();
+        return created.get();
+    }
+
+    // 거절되면 예외가 compute 밖으로 나가 키 매핑은 그대로 남는다
+    private RecipeJob start(RecipeCacheKey key, Integer servings) {
+        RecipeJob job = new RecipeJob(UUID.randomUUID().toString(), key, servings);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            rejected.increment();
+            throw ApiException.unavailable("생성 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+        return job;
+    }
+
+    public Optional<RecipeJob> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    private void run(RecipeJob job) {
+        job.markRunning();
+        try {
+            RecipeCacheKey key = job.getKey();
+            List<RecipeResponseDto> recipes = recipeService.generateRecipes(key.ingredients(), key.timeMax(), job.getServings(), latencyBudget);
+            if (recipes.isEmpty()) job.fail("레시피 생성 실패");
+            else job.complete(recipes);
+        } catch (Exception e) {
+            log.warn("레시피 생성 작업 실패(jobId={}): {}", job.getId(), e.toString());
+            job.fail("레시피 생성 실패");
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("stored", jobs.estimatedSize());
+        out.put("submitted", submitted.sum());
+        out.put("reused", reused.sum());
+        out.put("rejected", rejected.sum());
+        out.put("active", executor.getActiveCount());
+        out.put("queued", executor.getQueue().size());
+        return out;
+    }
+}
@@ -0,0 +1,223 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 레시피 제목(FOOD) 이름 검색용 메모리 인덱스.
+ * 음절 단위 bigram/trigram 역색인(앞에 '^' 경계 표시) + 정렬 맵 접두어 검색.
+ * 점수는 Dice 계수(2·공통 gram / 양쪽 gram 수 합) → "김치찌게" 같은 오타도 "김치찌개"에 걸린다.
+ * 기동 시 DB 에서 한 번 적재하고, 이후는 GeneratedRecipeWriter 가 저장할 때마다 add().
+ */
+@Slf4j
+@Component
+public class RecipeNameIndex {
+
+    public record Hit(String title, double score) {}
+
+    private static final char BOUNDARY = '^';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double minScore;
+    private final int prefixScanLimit;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아래 필드는 lock 으로 보호
+    private final List<String> titles = new ArrayList<>();          // id → 원래 제목
+    private final Map<String, Integer> idByNormalized = new HashMap<>();
+    private final NavigableMap<String, Integer> sorted = new TreeMap<>(); // 정규화 제목 → id (접두어)
+    private final Map<String, IntList> postings = new HashMap<>();  // gram → 제목 id 목록(오름차순)
+    private int[] gramCounts = new int[1024];                       // id → 제목 gram 수
+
+    // 검색 스레드별 작업 버퍼 (읽기 락은 여럿이 동시에 잡으므로 공유하지 않는다). 쓴 칸만 0 으로 되돌려 재사용
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+    private final LongAccumulator maxSearchNanos = new LongAccumulator(Long::max, 0);
+
+    public RecipeNameIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${recipes.search.min-score:0.45}") double minScore,
+                           @Value("${recipes.search.prefix-scan-limit:200}") int prefixScanLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minScore = minScore;
+        this.prefixScanLimit = prefixScanLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void loadFromDatabase() {
+        long t0 = System.nanoTime();
+        try {
+            List<String> stored = jdbcTemplate.queryForList("SELECT DISTINCT FOOD FROM GENERATED_RECIPE", String.class);
+            stored.forEach(this::add);
+            log.info("레시피 이름 인덱스 적재: {}건 ({} ms)", size(), (System.nanoTime() - t0) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("레시피 이름 인덱스 적재 실패(빈 인덱스로 시작): {}", e.toString());
+        }
+    }
+
+    /** 새 제목 추가 (이미 있으면 무시) */
+    public void add(String title) {
+        if (title == null) return;
+        String norm = normalize(title);
+        if (norm.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            if (idByNormalized.containsKey(norm)) return;
+            int id = titles.size();
+            titles.add(title.strip());
+            idByNormalized.put(norm, id);
+            sorted.put(norm, id);
+
+            Set<String> grams = grams(norm);
+            for (String g : grams) postings.computeIfAbsent(g, k -> new IntList()).add(id);
+            if (id >= gramCounts.length) gramCounts = Arrays.copyOf(gramCounts, gramCounts.length * 2);
+            gramCounts[id] = grams.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 정확 일치 > 접두어 > n-gram 유사도 순. minScore 미만은 버린다. */
+    public List<Hit> search(String query, int limit) {
+        String q = normalize(query == null ? "" : query);
+        if (q.isEmpty() || limit <= 0) return List.of();
+
+        long t0 = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scores = new HashMap<>();
+
+            Set<String> qGrams = grams(q);
+            Scratch s = scratch.get();
+            int[] common = s.common(titles.size());
+            IntList touched = s.touched;
+            touched.size = 0;
+            try {
+                for (String g : qGrams) {
+                    IntList ids = postings.get(g);
+                    if (ids == null) continue;
+                    for (int i = 0; i < ids.size; i++) {
+                        int id = ids.values[i];
+                        if (common[id]++ == 0) touched.add(id);
+                    }
+                }
+                for (int i = 0; i < touched.size; i++) {
+                    int id = touched.values[i];
+                    double dice = 2.0 * common[id] / (qGrams.size() + gramCounts[id]);
+                    if (dice >= minScore) scores.put(id, dice);
+                }
+            } finally {
+                for (int i = 0; i < touched.size; i++) common[touched.values[i]] = 0;
+            }
+
+            // 접두어 일치는 유사도와 무관하게 포함 (+1), 정확 일치는 +2
+            int scanned = 0;
+            for (Integer id : sorted.subMap(q, true, q + Character.MAX_VALUE, false).values()) {
+                if (++scanned > prefixScanLimit) break;
+                scores.merge(id, 1.0, Double::sum);
+            }
+            Integer exact = idByNormalized.get(q);
+            if (exact != null) scores.merge(exact, 2.0, Double::sum);
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(titles.get(id), score)));
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparingInt(h -> h.title().length()));
+            return hits.size() <= limit ? hits : List.copyOf(hits.subList(0, limit));
+        } finally {
+            lock.readLock().unlock();
+            long took = System.nanoTime() - t0;
+            searches.increment();
+            searchNanos.add(took);
+            maxSearchNanos.accumulate(took);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long n = searches.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            out.put("titles", titles.size());
+            out.put("grams", postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        out.put("searches", n);
+        out.put("meanUs", n == 0 ? 0.0 : searchNanos.sum() / 1_000.0 / n);
+        out.put("maxUs", maxSearchNanos.get() / 1_000);
+        return out;
+    }
+
+    // 소문자 + 공백/기호 제거 ("김치 찌개!" → "김치찌개")
+    static String normalize(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        s.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    // "^김치찌개" → bigram {^김, 김치, 치찌, 찌개} + trigram {김치찌, 치찌개}
+    static Set<String> grams(String norm) {
+        Set<String> out = new LinkedHashSet<>();
+        String padded = BOUNDARY + norm;
+        for (int i = 0; i + 2 <= padded.length(); i++) out.add(padded.substring(i, i + 2));
+        for (int i = 0; i + 3 <= norm.length(); i++) out.add(norm.substring(i, i + 3));
+        return out;
+    }
+
+    private static final class Scratch {
+        int[] common = new int[1024];
+        final IntList touched = new IntList();
+
+        // 항상 0 으로 채워진 상태로 돌려준다 (search 가 쓴 칸을 되돌림)
+        int[] common(int size) {
+            if (common.length < size) common = new int[Math.max(size, common.length * 2)];
+            return common;
+        }
+    }
+
+    // id 는 증가 순으로만 들어오므로 정렬된 상태 유지
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정규화 재료 집합 기준 레시피 생성 결과 캐시 (Caffeine, CacheConfig 에서 크기/TTL 설정).
+ * DTO 가 가변이라 넣을 때도 꺼낼 때도 깊은 복사 → 호출자가 받은 목록/레시피를 고쳐도 캐시 항목은 그대로.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeResultCache {
+
+    private final Cache<RecipeCacheKey, List<RecipeResponseDto>> recipeResultCache;
+
+    public Optional<List<RecipeResponseDto>> get(RecipeCacheKey key) {
+        return Optional.ofNullable(recipeResultCache.getIfPresent(key)).map(RecipeScaler::copy);
+    }
+
+    public void put(RecipeCacheKey key, List<RecipeResponseDto> recipes) {
+        if (recipes == null || recipes.isEmpty()) return; // 실패 결과는 캐시하지 않음
+        recipeResultCache.put(key, List.copyOf(RecipeScaler.copy(recipes)));
+    }
+
+    public boolean invalidate(RecipeCacheKey key) {
+        // getIfPresent 로 확인하면 hit/miss 통계에 잡히므로 맵에서 바로 제거
+        return recipeResultCache.asMap().remove(key) != null;
+    }
+
+    public long invalidateAll() {
+        long size = recipeResultCache.estimatedSize();
+        recipeResultCache.invalidateAll();
+        return size;
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats s = recipeResultCache.stats();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", recipeResultCache.estimatedSize());
+        out.put("hitCount", s.hitCount());
+        out.put("missCount", s.missCount());
+        out.put("hitRate", s.hitRate());
+        out.put("evictionCount", s.evictionCount());
+        out.put("evictionWeight", s.evictionWeight());
+        return out;
+    }
+
+    public List<Map<String, Object>> entries() {
+        var expiry = recipeResultCache.policy().expireAfterWrite();
+        List<Map<String, Object>> out = new ArrayList<>();
+        recipeResultCache.asMap().forEach((key, recipes) -> {
+            Map<String, Object> e = new LinkedHashMap<>();
+            e.put("ingredients", key.ingredients());
+            e.put("timeMax", key.timeMax());
+            e.put("titles", recipes.stream().map(RecipeResponseDto::getTitle).toList());
+            expiry.flatMap(p -> p.ageOf(key)).ifPresent(age -> e.put("ageSec", age.toSeconds()));
+            out.add(e);
+        });
+        return out;
+    }
+}
@@ -0,0 +1,96 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+/**
+ * 1인분 정규화 레시피 → 요청 인분. 캐시/DB 에는 1인분만 두고 응답 직전에 환산한다 (모델 호출 없음).
+ * - qty × 인분 (소수 첫째 자리 반올림)
+ * - 단위 올림/내림: 작은술 3 이상 → 큰술, 1 큰술 미만 → 작은술 (ml→L, g→kg 은 label 표기에서)
+ * - label 은 RecipeService.buildLabel 로 다시 만든다
+ * 원본(캐시 객체)은 건드리지 않고 항상 깊은 복사본을 만든다. 1인분/미지정이어도 복사 (DTO 가 가변이라
+ * 호출자가 응답을 고치면 캐시에 든 레시피가 바뀌므로).
+ */
+final class RecipeScaler {
+
+    static final int MAX_SERVINGS = 50;
+
+    private RecipeScaler() {}
+
+    /** null/0 이하 → 1, 상한 MAX_SERVINGS */
+    static int normalize(Integer servings) {
+        if (servings == null || servings < 1) return 1;
+        return Math.min(servings, MAX_SERVINGS);
+    }
+
+    static List<RecipeResponseDto> scale(List<RecipeResponseDto> recipes, Integer servings) {
+        if (recipes == null) return null;
+        int n = normalize(servings);
+        List<RecipeResponseDto> out = new ArrayList<>(recipes.size());
+        for (RecipeResponseDto r : recipes) out.add(scale(r, n));
+        return out;
+    }
+
+    /** 인분 환산 없는 깊은 복사 */
+    static List<RecipeResponseDto> copy(List<RecipeResponseDto> recipes) {
+        return scale(recipes, 1);
+    }
+
+    static RecipeResponseDto scale(RecipeResponseDto r, int n) {
+        if (r == null) return null;
+        List<RecipeResponseDto.Ingredient> ings = null;
+        if (r.getIngredients() != null) {
+            ings = new ArrayList<>(r.getIngredients().size());
+            for (RecipeResponseDto.Ingredient ing : r.getIngredients()) {
+                if (ing != null) ings.add(scale(ing, n));
+            }
+        }
+        List<RecipeResponseDto.Step> steps = null;
+        if (r.getSteps() != null) {
+            // 단계 문장은 1인분 기준 그대로
+            steps = new ArrayList<>(r.getSteps().size());
+            for (RecipeResponseDto.Step s : r.getSteps()) {
+                if (s != null) steps.add(RecipeResponseDto.Step.builder().order(s.getOrder()).text(s.getText()).build());
+            }
+        }
+        return RecipeResponseDto.builder()
+                .title(r.getTitle())
+                .category(r.getCategory())
+                .timeMin(r.getTimeMin())
+                .servings(n > 1 ? Integer.valueOf(n) : r.getServings())
+                .difficulty(r.getDifficulty())
+                .ingredients(ings)
+                .steps(steps)
+                .chefNote(r.getChefNote())
+                .tip(r.getTip())
+                .build();
+    }
+
+    static RecipeResponseDto.Ingredient scale(RecipeResponseDto.Ingredient ing, int n) {
+        if (ing == null) return null;
+        Double qty = ing.getQty();
+        String unit = ing.getUnit();
+        if (qty == null || n <= 1) {
+            // 1인분 복사, 수량 없는 재료(약간/적당량)는 label 도 그대로
+            return RecipeResponseDto.Ingredient.builder()
+                    .name(ing.getName()).qty(qty).unit(unit).label(ing.getLabel()).build();
+        }
+        double q = qty * n;
+        if ("작은술".equals(unit) && q >= 3.0) {
+            q = q / 3.0;
+            unit = "큰술";
+        } else if ("큰술".equals(unit) && q < 1.0) {
+            q = q * 3.0;
+            unit = "작은술";
+        }
+        q = Math.round(q * 10.0) / 10.0;
+        return RecipeResponseDto.Ingredient.builder()
+                .name(ing.getName())
+                .qty(q)
+                .unit(unit)
+                .label(RecipeService.buildLabel(ing.getName(), q, unit))
+                .build();
+    }
+}
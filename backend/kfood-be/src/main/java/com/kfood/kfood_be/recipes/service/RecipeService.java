@@ -1,13 +1,13 @@
 package com.kfood.kfood_be.recipes.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -18,64 +18,32 @@ import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecipeService {
 
+    private final RecipeGenerationExecutor generationExecutor;
     private final GeminiService geminiService;
+    private final GeminiRetryBudget retryBudget;
     private final PromptFactory promptFactory; // 기존 의존성 유지
+    private final RecipeResultCache resultCache;
+    private final RecipeGenerationCoalescer coalescer;
+    private final GeneratedRecipeWriter recipeWriter;
+    private final StoredRecipeLookup storedLookup;
+    private final RecipeNameIndex nameIndex;
+    private final IngredientMatchIndex matchIndex;
     private final ObjectMapper om = new ObjectMapper();
 
-    private static final String NUM =
-            "(?:\\d+(?:[.,]\\d+)?|\\d+\\s+\\d+/\\d+|\\d+/\\d+|[½¼¾⅓⅔])";
-    private static final String UNIT =
-            "(L|l|리터|ml|밀리리터|컵|cups?|cup|큰\\s*술|큰술|tbsp|tbs|T|작은\\s*술|작은술|tsp|teaspoons?|teaspoon|g|그램|kg|킬로그램|ea|pcs?|piece|pieces|개|pinch|꼬집)";
-    private static final Pattern P_NAME_NUM_UNIT_END =
-            Pattern.compile("^(.*?)\\s*(" + NUM + ")\\s*" + UNIT + "\\s*$", Pattern.CASE_INSENSITIVE);
-    private static final Pattern P_NUM_UNIT_NAME_START =
-            Pattern.compile("^(" + NUM + ")\\s*" + UNIT + "\\s*(.+)$", Pattern.CASE_INSENSITIVE);
-
-    private static Double fractionToDouble(String s) {
-        if (s == null) return null;
-        s = s.trim();
-        switch (s) {
-            case "½": return 0.5;
-            case "¼": return 0.25;
-            case "¾": return 0.75;
-            case "⅓": return 1.0/3.0;
-            case "⅔": return 2.0/3.0;
-        }
-        Matcher mix = Pattern.compile("^(\\d+)\\s+(\\d+)/(\\d+)$").matcher(s);
-        if (mix.find()) return Double.parseDouble(mix.group(1))
-                + Double.parseDouble(mix.group(2)) / Double.parseDouble(mix.group(3));
-        Matcher frac = Pattern.compile("^(\\d+)/(\\d+)$").matcher(s);
-        if (frac.find()) return Double.parseDouble(frac.group(1)) / Double.parseDouble(frac.group(2));
-        try { return Double.parseDouble(s.replace(",", ".")); } catch (Exception ignore) {}
-        return null;
-    }
-
-    private static String normalizeUnit(String unitRaw) {
-        if (unitRaw == null) return null;
-        String u = unitRaw.trim().toLowerCase(Locale.ROOT);
-        switch (u) {
-            case "l": case "liter": case "litre": case "liters": case "litres": case "리터": return "L";
-            case "ml": case "밀리리터": case "milliliter": case "milliliters": return "ml";
-            case "cup": case "cups": case "컵": return "컵";
-            case "tbsp": case "tbs": case "t": case "tablespoon": case "tablespoons": case "큰 술": case "큰술": return "큰술";
-            case "tsp": case "teaspoon": case "teaspoons": case "작은 술": case "작은술": return "작은술";
-            case "g": case "그램": return "g";
-            case "kg": case "킬로그램": return "kg";
-            case "ea": case "pc": case "pcs": case "piece": case "pieces": case "개": return "개";
-            case "pinch": case "꼬집": return "꼬집";
-        }
-        return unitRaw;
-    }
+    private static final int SEARCH_LIMIT = 5;
+    private static final int MATCH_CANDIDATES = 3;
 
     private static RecipeResponseDto.Ingredient normalizeQtyUnit(RecipeResponseDto.Ingredient ing) {
         if (ing == null) return null;
-        String unit = normalizeUnit(ing.getUnit());
+        String unit = IngredientLineParser.normalizeUnit(ing.getUnit());
         Double qty = ing.getQty();
         if (qty != null && "kg".equals(unit)) { qty = qty * 1000.0; unit = "g"; }
         ing.setQty(qty);
@@ -83,38 +51,12 @@ public class RecipeService {
         return ing;
     }
 
-    private static RecipeResponseDto.Ingredient parseIngredientText(String s) {
-        if (s == null) return null;
-        String line = s.replaceAll("[•·\\-–—]", " ")
-                       .replaceAll("\\s+", " ")
-                       .replaceAll("\\([^)]*\\)", "")
-                       .trim();
-
-        Matcher m1 = P_NAME_NUM_UNIT_END.matcher(line);
-        if (m1.find()) {
-            String name = m1.group(1).trim();
-            Double qty = fractionToDouble(m1.group(2));
-            String unit = normalizeUnit(m1.group(3));
-            return normalizeQtyUnit(RecipeResponseDto.Ingredient.builder()
-                    .name(name).qty(qty).unit(unit).build());
-        }
-        Matcher m2 = P_NUM_UNIT_NAME_START.matcher(line);
-        if (m2.find()) {
-            Double qty = fractionToDouble(m2.group(1));
-            String unit = normalizeUnit(m2.group(2));
-            String name = m2.group(3).trim();
-            return normalizeQtyUnit(RecipeResponseDto.Ingredient.builder()
-                    .name(name).qty(qty).unit(unit).build());
-        }
-        return RecipeResponseDto.Ingredient.builder().name(line).qty(null).unit(null).build();
-    }
-
     private static double roundSmart(double v) { return Math.round(v * 10.0) / 10.0; }
     private static String fmt1(double v){ return String.format(java.util.Locale.US, "%.1f", v); }
 
     private static String formatQtyAndUnit(Double qty, String unit){
         if(qty == null || unit == null || unit.isBlank()) return "";
-        String u = normalizeUnit(unit);
+        String u = IngredientLineParser.normalizeUnit(unit);
         double q = qty;
         if ("kg".equals(u)) { q *= 1000.0; u = "g"; }
         if ("컵".equals(u)) {
@@ -122,10 +64,11 @@ public class RecipeService {
             return ml >= 1000.0 ? fmt1(ml/1000.0) + " L" : fmt1(ml) + " ml";
         }
         if ("ml".equals(u)) return q >= 1000.0 ? fmt1(q/1000.0) + " L" : fmt1(q) + " ml";
+        if ("g".equals(u))  return q >= 1000.0 ? fmt1(q/1000.0) + " kg" : fmt1(q) + " g";
         if ("L".equals(u))  return fmt1(q) + " L";
         return fmt1(q) + " " + u;
     }
-    private static String buildLabel(String name, Double qty, String unit){
+    static String buildLabel(String name, Double qty, String unit){
         String base = name == null ? "" : name.trim();
         String tail = formatQtyAndUnit(qty, unit);
         return tail.isEmpty() ? base : (base.isEmpty() ? tail : base + " " + tail);
@@ -137,52 +80,238 @@ public class RecipeService {
     }
 
     public List<RecipeResponseDto> generateRecipes(List<String> ingredients, Integer timeMax, Integer servings) {
+        return generateRecipes(ingredients, timeMax, servings, null);
+    }
+
+    /**
+     * latencyBudget: 모델 선택용 지연 예산 (null 이면 기본값, 비동기 작업처럼 여유가 있으면 길게)
+     * 생성/캐시/저장은 항상 1인분 기준이고 servings 는 응답 직전에 RecipeScaler 로 환산한다.
+     */
+    public List<RecipeResponseDto> generateRecipes(List<String> ingredients, Integer timeMax, Integer servings,
+                                                   Duration latencyBudget) {
         if (ingredients == null || ingredients.isEmpty()) return Collections.emptyList();
-        final String prompt = promptFactory.buildRecipePrompt(ingredients, timeMax, servings);
+        final RecipeCacheKey key = cacheKeyOf(ingredients, timeMax);
+        if (key.ingredients().isEmpty()) return Collections.emptyList();
+
+        Optional<List<RecipeResponseDto>> ready = findReady(key);
+        List<RecipeResponseDto> canonical = ready.isPresent() ? ready.get() : generateMissing(key, latencyBudget);
+        return RecipeScaler.scale(canonical, servings);
+    }
+
+    // 캐시/DB 계층에서 못 찾은 키를 1인분으로 생성 (서킷 열림/한도 초과면 로컬 폴백)
+    List<RecipeResponseDto> generateMissing(RecipeCacheKey key, Duration latencyBudget) {
+        if (!geminiService.isAvailable()) return unavailableFallback(key, "circuit-open");
+
+        // 같은 프롬프트로 진행 중인 생성이 있으면 합류 (leader 만 캐시에 적재). 인분과 무관하게 같은 프롬프트
+        final String prompt = promptFactory.buildRecipePrompt(key.ingredients(), key.timeMax(), 1);
+        try {
+            return coalescer.execute(prompt, () -> {
+                List<RecipeResponseDto> generated = generateUncached(prompt, latencyBudget);
+                storeGenerated(key, generated);
+                return generated;
+            });
+        } catch (GeminiUnavailableException e) {
+            return unavailableFallback(key, e.getReason());
+        }
+    }
 
-        String jsonStrict = geminiService.generateMeasuredRecipe(prompt);
-        List<RecipeResponseDto> parsed = coerceOneServing(parseAny(jsonStrict));
-        if (parsed != null && !parsed.isEmpty()) return parsed;
+    // Gemini 를 부를 수 없을 때(서킷 열림/동시 호출 한도 초과): 기다리지 않고 로컬 폴백 (캐시/DB 에는 남기지 않는다)
+    private List<RecipeResponseDto> unavailableFallback(RecipeCacheKey key, String reason) {
+        log.info("Gemini 사용 불가({}) → 로컬 폴백: {}", reason, key.ingredients());
+        return List.of(fallbackRecipe(key.ingredients()));
+    }
 
-        String text = geminiService.generateText(prompt, 0.2);
-        parsed = coerceOneServing(parseAny(text));
-        if (parsed != null && !parsed.isEmpty()) return parsed;
+    // 캐시 → DB(INGREDIENT_KEY 정확 일치) → 부분집합 매칭. 적중은 캐시에 올려 다음 요청은 메모리에서.
+    Optional<List<RecipeResponseDto>> findReady(RecipeCacheKey key) {
+        Optional<List<RecipeResponseDto>> cached = resultCache.get(key);
+        if (cached.isPresent()) return cached;
 
-        text = geminiService.generateText(prompt, 0.7);
-        parsed = coerceOneServing(parseAny(text));
-        if (parsed != null && !parsed.isEmpty()) return parsed;
+        Optional<List<RecipeResponseDto>> stored = storedLookup.find(key);
+        if (stored.isEmpty()) stored = findPartialMatch(key);
+        stored.ifPresent(recipes -> resultCache.put(key, recipes));
+        return stored;
+    }
+
+    // 가진 재료로 만들 수 있는 저장 레시피 (coverage/jaccard 순 후보를 차례로 DB 조회)
+    private Optional<List<RecipeResponseDto>> findPartialMatch(RecipeCacheKey key) {
+        for (IngredientMatchIndex.Match match : matchIndex.match(key.ingredients(), MATCH_CANDIDATES)) {
+            Optional<List<RecipeResponseDto>> stored =
+                    storedLookup.find(new RecipeCacheKey(match.ingredients(), key.timeMax()));
+            if (stored.isPresent()) return stored;
+        }
+        return Optional.empty();
+    }
+
+    // 새로 생성된 결과: 캐시 적재 + DB write-behind (요청 경로 지연 없음)
+    // 잘린 응답에서 복구한 결과는 이번 응답에만 쓰고 남기지 않는다 (다음 요청이 온전한 결과를 다시 받도록)
+    void storeGenerated(RecipeCacheKey key, List<RecipeResponseDto> recipes) {
+        if (recipes == null || recipes.isEmpty()) return;
+        if (recipes instanceof TruncatedRecipes) {
+            log.info("잘린 응답에서 복구한 결과는 저장하지 않음: {}", key.ingredients());
+            return;
+        }
+        resultCache.put(key, recipes);
+        recipeWriter.enqueue(key, recipes);
+    }
+
+    private List<RecipeResponseDto> generateUncached(String prompt, Duration latencyBudget) {
+        // 시도 순서/헤징은 RecipeGenerationExecutor 전략에, 모델 선택은 GeminiModelRouter 에 위임
+        List<RecipeResponseDto> parsed = generationExecutor.generate(prompt, latencyBudget, this::parseRecipes);
+        if (!parsed.isEmpty()) return parsed;
 
         log.warn("레시피 생성 실패: 모델 응답 파싱 불가");
         return Collections.emptyList();
     }
 
-    // 이름 검색 (스토리지 없으면 임시로 빈 리스트)
+    // ========= 논블로킹 생성 =========
+    // 캐시 → DB(정확 일치·부분 집합 매칭) → 스키마 고정 → 자유 텍스트(0.2) → 자유 텍스트(0.7). 파싱은 GeminiService 가 jsonParseScheduler 에서.
+    // 같은 프롬프트는 블로킹 경로와 같은 coalescer 로 합류. 두 번째 시도부터는 재시도 예산 안에서만, 서킷이 열려 있으면 로컬 폴백.
+    public Mono<List<RecipeResponseDto>> generateRecipesReactive(List<String> ingredients, Integer timeMax, Integer servings) {
+        if (ingredients == null || ingredients.isEmpty()) return Mono.just(Collections.emptyList());
+        final RecipeCacheKey key = cacheKeyOf(ingredients, timeMax);
+        if (key.ingredients().isEmpty()) return Mono.just(Collections.emptyList());
+
+        Optional<List<RecipeResponseDto>> cached = resultCache.get(key);
+        if (cached.isPresent()) return Mono.just(RecipeScaler.scale(cached.get(), servings));
+
+        // JPA 조회·매칭 인덱스는 블로킹이므로 boundedElastic 에서
+        return Mono.fromCallable(() -> findReady(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(Mono.defer(() -> generateMissingReactive(key)))
+                .map(recipes -> RecipeScaler.scale(recipes, servings));
+    }
+
+    private Mono<List<RecipeResponseDto>> generateMissingReactive(RecipeCacheKey key) {
+        if (!geminiService.isAvailable()) return Mono.just(unavailableFallback(key, "circuit-open"));
+
+        final String prompt = promptFactory.buildRecipePrompt(key.ingredients(), key.timeMax(), 1);
+        return coalescer.executeReactive(prompt, () -> generateUncachedReactive(prompt)
+                        .doOnNext(recipes -> storeGenerated(key, recipes)))
+                .onErrorResume(GeminiUnavailableException.class, e -> Mono.just(unavailableFallback(key, e.getReason())));
+    }
+
+    private Mono<List<RecipeResponseDto>> generateUncachedReactive(String prompt) {
+        retryBudget.onRequest();
+        return geminiService.generateMeasuredRecipeReactive(prompt, null, this::parseRecipes)
+                .switchIfEmpty(Mono.defer(() -> !retryBudget.tryRetry() ? Mono.empty()
+                        : geminiService.generateTextReactive(prompt, 0.2, null, this::parseRecipes)))
+                .switchIfEmpty(Mono.defer(() -> !retryBudget.tryRetry() ? Mono.empty()
+                        : geminiService.generateTextReactive(prompt, 0.7, null, this::parseRecipes)))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("레시피 생성 실패: 모델 응답 파싱 불가");
+                    return Collections.<RecipeResponseDto>emptyList();
+                }));
+    }
+
+    // ========= 캐시 키 정규화 =========
+    // 재료명만 남기고(수량/단위 제거, 공백 정리) 소문자 → 정렬 + 중복제거
+    public static RecipeCacheKey cacheKeyOf(List<String> ingredients, Integer timeMax) {
+        TreeSet<String> names = new TreeSet<>();
+        if (ingredients != null) {
+            for (String raw : ingredients) {
+                if (raw == null || raw.isBlank()) continue;
+                String name = IngredientLineParser.parse(raw).getName().toLowerCase(Locale.ROOT);
+                if (!name.isEmpty()) names.add(name);
+            }
+        }
+        return new RecipeCacheKey(new ArrayList<>(names), timeMax);
+    }
+
+    // 이름 검색: n-gram 인덱스 → 저장 본문. 없으면 이름으로 생성 후 저장 (인덱스는 저장 시점에 갱신)
     public List<RecipeResponseDto> searchRecipeByName(String query) {
-        return Collections.emptyList();
+        if (query == null || query.isBlank()) return Collections.emptyList();
+
+        List<String> titles = nameIndex.search(query, SEARCH_LIMIT).stream()
+                .map(RecipeNameIndex.Hit::title)
+                .toList();
+        List<RecipeResponseDto> stored = storedLookup.findByTitles(titles);
+        if (!stored.isEmpty()) return stored;
+        if (!geminiService.isAvailable()) return Collections.emptyList();
+
+        final String prompt = promptFactory.buildRecipeSearchPrompt(query.strip());
+        try {
+            return coalescer.execute(prompt, () -> {
+                List<RecipeResponseDto> generated = generateUncached(prompt, null);
+                if (generated instanceof TruncatedRecipes) return generated;
+                for (RecipeResponseDto dto : generated) {
+                    // 재료 키로도 저장 → 같은 재료 조합의 /prepare 요청도 DB 계층에서 적중
+                    RecipeCacheKey key = cacheKeyOf(ingredientNames(dto), null);
+                    if (!key.ingredients().isEmpty()) storeGenerated(key, List.of(dto));
+                }
+                return generated;
+            });
+        } catch (GeminiUnavailableException e) {
+            // 이름만으로는 폴백 레시피를 만들 재료가 없다 → 결과 없음
+            log.info("Gemini 사용 불가({}) → 이름 검색 결과 없음: {}", e.getReason(), query);
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<String> ingredientNames(RecipeResponseDto dto) {
+        if (dto.getIngredients() == null) return List.of();
+        return dto.getIngredients().stream()
+                .map(RecipeResponseDto.Ingredient::getName)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // ========= 스트리밍용 (부분 결과 정규화) =========
+    List<RecipeResponseDto> parseRecipes(String text) {
+        return coerceOneServing(parseAny(text));
+    }
+
+    // 확정(done) 결과와 같은 기본 수량/단위·라벨 → 스트림 도중 보인 재료가 최종 재료와 어긋나지 않게
+    RecipeResponseDto.Ingredient toIngredient(JsonNode node) {
+        List<RecipeResponseDto.Ingredient> one = parseIngredients(om.createArrayNode().add(node));
+        if (one.isEmpty()) return null;
+        RecipeResponseDto holder = RecipeResponseDto.builder().ingredients(one).build();
+        enforceMeasuredDefaults(holder);
+        return holder.getIngredients().get(0);
+    }
+
+    RecipeResponseDto.Step toStep(JsonNode node, int fallbackOrder) {
+        List<RecipeResponseDto.Step> one = parseSteps(om.createArrayNode().add(node));
+        if (one.isEmpty()) return null;
+        RecipeResponseDto.Step step = one.get(0);
+        if (!(node.isObject() && node.hasNonNull("order"))) step.setOrder(fallbackOrder);
+        return step;
     }
 
     // ========= 파싱 =========
+    // 펜스/설명 건너뛰기와 잘린 응답 복구는 TolerantJsonReader 한 번으로.
+    // 잘린 응답은 재료·단계가 하나 이상 남은 레시피만 채택 (나머지는 비워서 다음 시도로)
     private List<RecipeResponseDto> parseAny(String text) {
+        if (text == null || text.isBlank()) return Collections.emptyList();
+        TolerantJsonReader.Result json = TolerantJsonReader.read(text);
+        if (json == null) {
+            log.warn("모델 응답에 JSON 없음");
+            return Collections.emptyList();
+        }
+        List<RecipeResponseDto> list;
         try {
-            if (text == null || text.isBlank()) return Collections.emptyList();
-            String cleaned = text.replaceAll("```json\\s*", "")
-                                 .replaceAll("```\\s*", "")
-                                 .trim();
-            JsonNode node = om.readTree(cleaned);
-            return nodeToList(node);
+            list = nodeToList(om.readTree(json.json()));
         } catch (Exception e) {
-            log.warn("모델 JSON 파싱 실패(1차): {}", e.toString());
-            String fixed = tryBalanceJson(text); // ← 복구 시도
-            if (fixed != null) {
-                try {
-                    JsonNode node = om.readTree(fixed);
-                    return nodeToList(node);
-                } catch (Exception e2) {
-                    log.warn("모델 JSON 파싱 실패(2차): {}", e2.toString());
-                }
-            }
+            log.warn("모델 JSON 파싱 실패: {}", e.toString());
+            return Collections.emptyList();
         }
-        return Collections.emptyList();
+        if (!json.truncated()) return list;
+
+        TruncatedRecipes usable = new TruncatedRecipes();
+        for (RecipeResponseDto dto : list) {
+            if (isUsablePartial(dto)) usable.add(dto);
+        }
+        log.info("잘린 모델 응답 복구: 레시피 {}건 중 {}건 사용", list.size(), usable.size());
+        return usable;
+    }
+
+    /** 잘린 응답에서 복구한 결과 표시. storeGenerated 가 캐시/DB 에 남기지 않는다 */
+    static final class TruncatedRecipes extends ArrayList<RecipeResponseDto> {
+    }
+
+    private static boolean isUsablePartial(RecipeResponseDto dto) {
+        return dto.getIngredients() != null && !dto.getIngredients().isEmpty()
+                && dto.getSteps() != null && !dto.getSteps().isEmpty();
     }
 
     private List<RecipeResponseDto> nodeToList(JsonNode node) {
@@ -197,26 +326,6 @@ public class RecipeService {
         return Collections.emptyList();
     }
 
-    private String tryBalanceJson(String raw) {
-        if (raw == null) return null;
-        String s = raw.replaceAll("```json\\s*", "")
-                      .replaceAll("```\\s*", "")
-                      .trim();
-        int start = s.indexOf('{');
-        int end   = s.lastIndexOf('}');
-        if (start < 0 || end < 0 || end <= start) return null;
-        s = s.substring(start, end + 1);
-
-        int bal = 0, lastPos = -1;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (c == '{') bal++;
-            else if (c == '}') { bal--; if (bal == 0) lastPos = i; }
-        }
-        if (lastPos >= 0) return s.substring(0, lastPos + 1);
-        return null;
-    }
-
     private RecipeResponseDto fromNode(JsonNode n) {
         if (n == null || !n.isObject()) return null;
 
@@ -261,16 +370,16 @@ public class RecipeService {
                 if (x.hasNonNull("qty")) {
                     JsonNode qn = x.get("qty");
                     if (qn.isNumber()) qty = qn.asDouble();
-                    else if (qn.isTextual()) qty = fractionToDouble(qn.asText());
+                    else if (qn.isTextual()) qty = IngredientLineParser.parseQuantity(qn.asText());
                 }
-                String unit  = normalizeUnit(x.path("unit").asText(null));
+                String unit  = IngredientLineParser.normalizeUnit(x.path("unit").asText(null));
                 String label = x.path("label").asText(null);
 
                 RecipeResponseDto.Ingredient ing = RecipeResponseDto.Ingredient.builder()
                         .name(name).qty(qty).unit(unit).label(label).build();
 
                 if (ing.getQty() == null || ing.getUnit() == null || ing.getUnit().isBlank()) {
-                    RecipeResponseDto.Ingredient parsed = parseIngredientText(name);
+                    RecipeResponseDto.Ingredient parsed = IngredientLineParser.parse(name);
                     if (parsed.getQty() != null && parsed.getUnit() != null) {
                         ing.setQty(parsed.getQty());
                         ing.setUnit(parsed.getUnit());
@@ -287,7 +396,7 @@ public class RecipeService {
             }
 
             if (x.isTextual()) {
-                RecipeResponseDto.Ingredient p = normalizeQtyUnit(parseIngredientText(x.asText()));
+                RecipeResponseDto.Ingredient p = normalizeQtyUnit(IngredientLineParser.parse(x.asText()));
                 if (p.getLabel() == null || p.getLabel().isBlank()) {
                     p.setLabel(buildLabel(p.getName(), p.getQty(), p.getUnit()));
                 }
@@ -304,7 +413,7 @@ public class RecipeService {
         for (String s : lines) {
             String t = s.trim();
             if (t.isEmpty()) continue;
-            RecipeResponseDto.Ingredient p = normalizeQtyUnit(parseIngredientText(t));
+            RecipeResponseDto.Ingredient p = normalizeQtyUnit(IngredientLineParser.parse(t));
             if (p.getLabel() == null || p.getLabel().isBlank()) {
                 p.setLabel(buildLabel(p.getName(), p.getQty(), p.getUnit()));
             }
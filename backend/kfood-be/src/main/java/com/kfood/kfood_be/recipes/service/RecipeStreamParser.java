@@ -0,0 +1,140 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 출력 JSON 조각을 받아 점진적으로 파싱 (Jackson non-blocking parser).
+ * 루트 객체의 필드 값, 루트 배열 필드(ingredients/steps)의 원소가 완성되는 즉시 Listener 로 넘긴다.
+ * 루트 '{' 이전(코드펜스/설명)과 루트가 닫힌 뒤의 텍스트는 파서에 넣지 않고 raw 에만 쌓는다.
+ */
+@Slf4j
+class RecipeStreamParser {
+
+    interface Listener {
+        /** 루트 필드 값 완성 (title, category, timeMin ...) */
+        void onField(String name, JsonNode value);
+
+        /** 루트 배열 필드의 원소 완성 (ingredients[i], steps[i]) */
+        void onElement(String arrayName, JsonNode element);
+    }
+
+    private final ObjectMapper om;
+    private final Listener listener;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final StringBuilder raw = new StringBuilder();
+
+    private boolean started;
+    private boolean closed;
+    private int depth;            // 0: 루트 밖, 1: 루트 객체, 2: 루트 배열 필드 내부
+    private String rootField;
+    private TokenBuffer capture;
+    private int captureDepth;
+    private boolean captureIsElement;
+
+    RecipeStreamParser(ObjectMapper om, Listener listener) {
+        this.om = om;
+        this.listener = listener;
+        try {
+            this.parser = om.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /** 지금까지 받은 원문 전체 (최종 파싱용) */
+    String raw() {
+        return raw.toString();
+    }
+
+    void feed(String chunk) {
+        if (chunk == null || chunk.isEmpty()) return;
+        raw.append(chunk);
+        if (closed) return;
+
+        String part = chunk;
+        if (!started) {
+            int start = indexOfRoot(chunk);
+            if (start < 0) return;             // 아직 코드펜스/설명 구간
+            started = true;
+            part = chunk.substring(start);
+        }
+        byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            // 점진 파싱만 포기하고 최종 파싱은 raw 로 진행
+            log.debug("스트림 점진 파싱 중단: {}", e.toString());
+            closed = true;
+        }
+    }
+
+    private static int indexOfRoot(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '{' || c == '[') return i;
+        }
+        return -1;
+    }
+
+    private void drain() throws IOException {
+        JsonToken t;
+        while (!closed && (t = parser.nextToken()) != null && t != JsonToken.NOT_AVAILABLE) {
+            if (capture != null) {
+                capture.copyCurrentEvent(parser);
+                if (t.isStructStart()) captureDepth++;
+                else if (t.isStructEnd()) captureDepth--;
+                if (captureDepth == 0) finishCapture();
+                continue;
+            }
+            switch (depth) {
+                case 0 -> {
+                    // 루트가 배열(여러 레시피)이면 점진 이벤트 없이 최종 파싱에 맡긴다
+                    if (t == JsonToken.START_OBJECT) depth = 1;
+                    else closed = true;
+                }
+                case 1 -> {
+                    if (t == JsonToken.FIELD_NAME) rootField = parser.currentName();
+                    else if (t == JsonToken.END_OBJECT) closed = true;
+                    else if (t == JsonToken.START_ARRAY) depth = 2;
+                    else beginCapture(t, false);
+                }
+                default -> {
+                    if (t == JsonToken.END_ARRAY) depth = 1;
+                    else beginCapture(t, true);
+                }
+            }
+        }
+    }
+
+    private void beginCapture(JsonToken t, boolean element) throws IOException {
+        capture = new TokenBuffer(parser, null);
+        capture.copyCurrentEvent(parser);
+        captureDepth = t.isStructStart() ? 1 : 0;
+        captureIsElement = element;
+        if (captureDepth == 0) finishCapture();
+    }
+
+    private void finishCapture() throws IOException {
+        JsonNode node;
+        try (JsonParser p = capture.asParser(om)) {
+            node = om.readTree(p);
+        }
+        capture = null;
+        if (node == null) return;
+        if (captureIsElement) listener.onElement(rootField, node);
+        else listener.onField(rootField, node);
+    }
+}
@@ -0,0 +1,165 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.dto.RecipeStreamEventDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 스트리밍 레시피 생성: streamGenerateContent 조각을 점진 파싱해 title → ingredients → steps 순으로 흘려보내고,
+ * 마지막에 전체 응답을 기존 파서로 확정(done)한다. 확정 결과는 캐시/DB 에 적재.
+ * 부분 이벤트를 내보낸 뒤 스트림이 실패하거나 확정 파싱이 안 되면 reset 이벤트 후 일반 생성 결과로 done.
+ * 스트림은 RecipeGenerationCoalescer 의 leader 로 등록된다: 같은 프롬프트의 생성(스트림/일반)이 진행 중이면
+ * 새 스트림을 열지 않고 그 결과를 재생하고, 스트림이 진행 중일 때 들어온 일반 요청은 스트림 결과를 받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeStreamService {
+
+    private final GeminiService geminiService;
+    private final PromptFactory promptFactory;
+    private final RecipeService recipeService;
+    private final RecipeGenerationCoalescer coalescer;
+    private final ObjectMapper om = new ObjectMapper();
+
+    public Flux<RecipeStreamEventDto> stream(List<String> ingredients, Integer timeMax, Integer servings) {
+        final RecipeCacheKey key = RecipeService.cacheKeyOf(ingredients, timeMax);
+        if (key.ingredients().isEmpty()) return Flux.just(RecipeStreamEventDto.of("error", "재료가 비어 있습니다."));
+
+        Optional<List<RecipeResponseDto>> ready = recipeService.findReady(key);
+        if (ready.isPresent()) return replay(RecipeScaler.scale(ready.get(), servings));
+        // 서킷이 열려 있으면 스트림을 열지 않고 로컬 폴백을 바로 재생
+        if (!geminiService.isAvailable()) {
+            return replay(RecipeScaler.scale(List.of(recipeService.fallbackRecipe(key.ingredients())), servings));
+        }
+
+        // 모델은 1인분으로 생성, 재료 이벤트/최종 결과는 요청 인분으로 환산해서 내보낸다
+        final String prompt = promptFactory.buildRecipePrompt(key.ingredients(), key.timeMax(), 1);
+        final int target = RecipeScaler.normalize(servings);
+        return Flux.defer(() -> {
+            RecipeGenerationCoalescer.Lead lead = coalescer.tryLead(prompt);
+            return lead == null ? follow(key, servings) : leadStream(key, servings, prompt, target, lead);
+        });
+    }
+
+    private Flux<RecipeStreamEventDto> leadStream(RecipeCacheKey key, Integer servings, String prompt, int target,
+                                                  RecipeGenerationCoalescer.Lead lead) {
+        List<RecipeStreamEventDto> pending = new ArrayList<>();
+        RecipeStreamParser parser = new RecipeStreamParser(om, new PartialListener(pending, target));
+        AtomicBoolean partialSent = new AtomicBoolean();
+
+        return geminiService.streamMeasuredRecipe(prompt)
+                .concatMapIterable(chunk -> {
+                    parser.feed(chunk);
+                    List<RecipeStreamEventDto> out = new ArrayList<>(pending);
+                    pending.clear();
+                    if (!out.isEmpty()) partialSent.set(true);
+                    return out;
+                })
+                .concatWith(Mono.fromCallable(() -> finish(key, servings, parser.raw(), partialSent.get(), lead))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMapIterable(events -> events))
+                .onErrorResume(e -> {
+                    log.warn("스트리밍 생성 실패 → 일반 생성으로 전환: {}", e.toString());
+                    lead.cancel();
+                    return Mono.fromCallable(() -> fallback(key, servings, partialSent.get(), "stream-failed"))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMapIterable(events -> events);
+                })
+                // 클라이언트가 끊는 등 결과 없이 끝나면 자리를 넘긴다 (complete 뒤에는 무시됨)
+                .doFinally(signal -> lead.cancel());
+    }
+
+    // 같은 프롬프트 생성이 진행 중: 그 결과(또는 이어받은 생성 결과)를 같은 이벤트 순서로 재생
+    private Flux<RecipeStreamEventDto> follow(RecipeCacheKey key, Integer servings) {
+        return recipeService.generateRecipesReactive(key.ingredients(), key.timeMax(), servings)
+                .flatMapMany(recipes -> recipes.isEmpty()
+                        ? Flux.just(RecipeStreamEventDto.of("error", "레시피 생성 실패"))
+                        : replay(recipes));
+    }
+
+    private List<RecipeStreamEventDto> finish(RecipeCacheKey key, Integer servings, String raw, boolean partialSent,
+                                              RecipeGenerationCoalescer.Lead lead) {
+        List<RecipeResponseDto> recipes = recipeService.parseRecipes(raw);
+        if (recipes.isEmpty()) {
+            // 일반 생성이 이 자리에 합류해 자기 자신을 기다리지 않도록 먼저 물러난다
+            lead.cancel();
+            return fallback(key, servings, partialSent, "parse-failed");
+        }
+        recipeService.storeGenerated(key, recipes);
+        lead.complete(recipes);
+        return List.of(RecipeStreamEventDto.of("done", RecipeScaler.scale(recipes, servings)));
+    }
+
+    // 스트림 결과를 못 쓰면 기존 경로(합류/헤징 포함)로 확정.
+    // 이미 부분 이벤트가 나갔으면 reset 먼저 → 클라이언트가 반쯤 그린 레시피와 다른 결과를 섞지 않게
+    private List<RecipeStreamEventDto> fallback(RecipeCacheKey key, Integer servings, boolean partialSent, String reason) {
+        List<RecipeStreamEventDto> events = new ArrayList<>(2);
+        if (partialSent) events.add(RecipeStreamEventDto.of("reset", Map.of("reason", reason)));
+        List<RecipeResponseDto> recipes = recipeService.generateRecipes(key.ingredients(), key.timeMax(), servings);
+        events.add(recipes.isEmpty()
+                ? RecipeStreamEventDto.of("error", "레시피 생성 실패")
+                : RecipeStreamEventDto.of("done", recipes));
+        return events;
+    }
+
+    // 캐시 적중 시에도 같은 이벤트 순서로 즉시 재생
+    private Flux<RecipeStreamEventDto> replay(List<RecipeResponseDto> recipes) {
+        List<RecipeStreamEventDto> events = new ArrayList<>();
+        RecipeResponseDto first = recipes.get(0);
+        events.add(RecipeStreamEventDto.of("title", first.getTitle()));
+        if (first.getIngredients() != null) {
+            first.getIngredients().forEach(i -> events.add(RecipeStreamEventDto.of("ingredient", i)));
+        }
+        if (first.getSteps() != null) {
+            first.getSteps().forEach(s -> events.add(RecipeStreamEventDto.of("step", s)));
+        }
+        events.add(RecipeStreamEventDto.of("done", recipes));
+        return Flux.fromIterable(events);
+    }
+
+    /** 점진 파서 콜백 → 부분 이벤트 */
+    private final class PartialListener implements RecipeStreamParser.Listener {
+        private final List<RecipeStreamEventDto> sink;
+        private final int servings;
+        private int stepNo;
+
+        PartialListener(List<RecipeStreamEventDto> sink, int servings) {
+            this.sink = sink;
+            this.servings = servings;
+        }
+
+        @Override
+        public void onField(String name, JsonNode value) {
+            if ("title".equals(name)) sink.add(RecipeStreamEventDto.of("title", value.asText()));
+            else if ("servings".equals(name) && servings > 1) sink.add(RecipeStreamEventDto.of("meta", Map.of("field", name, "value", servings)));
+            else sink.add(RecipeStreamEventDto.of("meta", Map.of("field", name, "value", value)));
+        }
+
+        @Override
+        public void onElement(String arrayName, JsonNode element) {
+            if ("ingredients".equals(arrayName)) {
+                RecipeResponseDto.Ingredient ing = recipeService.toIngredient(element);
+                if (ing != null) sink.add(RecipeStreamEventDto.of("ingredient", RecipeScaler.scale(ing, servings)));
+            } else if ("steps".equals(arrayName)) {
+                RecipeResponseDto.Step step = recipeService.toStep(element, ++stepNo);
+                if (step != null) sink.add(RecipeStreamEventDto.of("step", step));
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.kfood.kfood_be.recipes.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.common.metrics.LatencyRecorder;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.dto.StoredRecipeSummaryDto;
+import com.kfood.kfood_be.recipes.entity.GeneratedRecipeEntity;
+import com.kfood.kfood_be.recipes.repository.GeneratedRecipeIngredientRepository;
+import com.kfood.kfood_be.recipes.repository.GeneratedRecipeRepository;
+import com.kfood.kfood_be.recipes.repository.RecipeBodyView;
+import com.kfood.kfood_be.recipes.repository.RecipeHeaderView;
+import com.kfood.kfood_be.recipes.repository.RecipeIngredientView;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 우선 조회 계층: 모델 호출 전에 GENERATED_RECIPE 에서 정규화 재료 키 정확 일치를 찾는다.
+ * INGREDIENT_KEY 인덱스 equality 조회라 테이블 크기와 무관하게 수 ms.
+ * 목록은 헤더 컬럼 + 재료 행만 읽는다 (본문 CLOB 없이, 재료는 IN 조회 한 번).
+ */
+@Slf4j
+@Component
+public class StoredRecipeLookup {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final GeneratedRecipeRepository repository;
+    private final GeneratedRecipeIngredientRepository ingredientRepository;
+    private final ObjectMapper om = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyRecorder latency = new LatencyRecorder(1024);
+
+    public StoredRecipeLookup(GeneratedRecipeRepository repository,
+                              GeneratedRecipeIngredientRepository ingredientRepository,
+                              @Value("${recipes.db-lookup.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.ingredientRepository = ingredientRepository;
+        this.enabled = enabled;
+    }
+
+    /** timeMax 가 있으면 timeMin 이 그 이하인 레시피만 */
+    public Optional<List<RecipeResponseDto>> find(RecipeCacheKey key) {
+        if (!enabled) return Optional.empty();
+        long t0 = System.nanoTime();
+        List<GeneratedRecipeEntity> rows;
+        try {
+            rows = repository.findLatestByIngredientKey(key.ingredientKey(), key.timeMax(), Limit.of(5));
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("저장 레시피 조회 실패: {}", e.toString());
+            return Optional.empty();
+        } finally {
+            latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        }
+
+        for (GeneratedRecipeEntity row : rows) {
+            RecipeResponseDto dto = readRecipe(row);
+            if (dto == null) continue;
+            if (key.timeMax() != null && dto.getTimeMin() != null && dto.getTimeMin() > key.timeMax()) continue;
+            hits.increment();
+            return Optional.of(List.of(dto));
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /** 제목별 최신 1건, titles 순서 유지. 조회 실패 시 빈 리스트 */
+    public List<RecipeResponseDto> findByTitles(List<String> titles) {
+        if (titles.isEmpty()) return List.of();
+        List<RecipeBodyView> rows;
+        try {
+            rows = repository.findLatestBodiesByFoodIn(titles);
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("제목 레시피 조회 실패: {}", e.toString());
+            return List.of();
+        }
+        Map<String, RecipeResponseDto> latest = new HashMap<>();
+        for (RecipeBodyView row : rows) {
+            RecipeResponseDto dto = readRecipe(row.getId(), row.getRecipe());
+            if (dto != null) latest.put(row.getFood(), dto);
+        }
+        List<RecipeResponseDto> out = new ArrayList<>(latest.size());
+        for (String title : titles) {
+            RecipeResponseDto dto = latest.get(title);
+            if (dto != null) out.add(dto);
+        }
+        return out;
+    }
+
+    /** 최신순 목록. category 가 있으면 그 분류만 */
+    public List<StoredRecipeSummaryDto> list(String category, int page, int size) {
+        PageRequest pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        List<RecipeHeaderView> headers = category == null || category.isBlank()
+                ? repository.findAllByOrderByIdDesc(pageable)
+                : repository.findByCategoryOrderByIdDesc(category.strip(), pageable);
+        if (headers.isEmpty()) return List.of();
+
+        Map<Long, List<RecipeResponseDto.Ingredient>> ingredients = new HashMap<>();
+        List<Long> ids = headers.stream().map(RecipeHeaderView::getId).toList();
+        for (RecipeIngredientView row : ingredientRepository.findViewsByRecipeIds(ids)) {
+            ingredients.computeIfAbsent(row.getRecipeId(), k -> new ArrayList<>())
+                    .add(RecipeResponseDto.Ingredient.builder()
+                            .name(row.getName()).qty(row.getQty()).unit(row.getUnit()).build());
+        }
+
+        List<StoredRecipeSummaryDto> out = new ArrayList<>(headers.size());
+        for (RecipeHeaderView h : headers) {
+            out.add(StoredRecipeSummaryDto.builder()
+                    .id(h.getId())
+                    .title(h.getFood())
+                    .category(h.getCategory())
+                    .timeMin(h.getTimeMin())
+                    .difficulty(h.getDifficulty())
+                    .ingredients(ingredients.getOrDefault(h.getId(), List.of()))
+                    .build());
+        }
+        return out;
+    }
+
+    private RecipeResponseDto readRecipe(GeneratedRecipeEntity row) {
+        return readRecipe(row.getId(), row.getRecipe());
+    }
+
+    private RecipeResponseDto readRecipe(Long id, String json) {
+        try {
+            return om.readValue(json, RecipeResponseDto.class);
+        } catch (Exception e) {
+            log.debug("저장 레시피 역직렬화 실패(id={}): {}", id, e.toString());
+            return null;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long h = hits.sum(), m = misses.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", enabled);
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("hitRatio", h + m == 0 ? 0.0 : (double) h / (h + m));
+        out.put("errors", errors.sum());
+        out.put("latency", latency.snapshot());
+        return out;
+    }
+}
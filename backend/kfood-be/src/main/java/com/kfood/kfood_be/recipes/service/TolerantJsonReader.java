@@ -0,0 +1,151 @@
+package com.kfood.kfood_be.recipes.service;
+
+/**
+ * 모델 출력 → 파싱 가능한 JSON 문자열. 한 번 훑으면서(문자열/이스케이프 인식):
+ * - 루트는 ```json 펜스 안에서(없으면 처음부터) JSON 값이 이어지는 첫 '{' / '[' 로 잡는다.
+ *   "재료 [참고]" 처럼 설명 문장 속 괄호는 루트가 아니다. 루트 이전과 루트가 닫힌 뒤의 텍스트는 버린다
+ * - 문자열 안의 날 줄바꿈/탭은 이스케이프, 닫기 직전의 군더더기 ',' 는 제거
+ * - 끝까지 닫히지 않으면(maxOutputTokens 도달) 마지막으로 완성된 값까지만 남기고 열린 괄호를 닫는다.
+ *   ingredients/steps 원소처럼 배열 안의 객체는 통째로만 남긴다(반쪽 재료/단계 없음).
+ */
+final class TolerantJsonReader {
+
+    /** truncated: 입력이 루트를 닫지 못해 뒤를 잘라내고 닫았음 */
+    record Result(String json, boolean truncated) {}
+
+    private TolerantJsonReader() {}
+
+    /** JSON 루트가 없으면 null */
+    static Result read(CharSequence text) {
+        if (text == null) return null;
+        int len = text.length();
+        int fence = fenceEnd(text);
+        int i = fence < 0 ? -1 : rootStart(text, fence);
+        if (i < 0) i = rootStart(text, 0);
+        if (i < 0) return null;
+
+        StringBuilder out = new StringBuilder(len - i + 8);
+        char[] stack = new char[16];     // 열린 괄호의 짝 ('}' / ']')
+        boolean[] atomic = new boolean[16];
+        int depth = 0;
+        int atomicOpen = 0;              // 통째로만 남길 컨테이너가 몇 겹 열려 있는지
+        boolean inString = false;
+        boolean escape = false;
+
+        int safeLength = 0;              // 여기까지 자르면 값이 온전하다
+        int safeDepth = 0;
+
+        for (; i < len; i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                    out.append(c);
+                } else if (c == '\\') {
+                    escape = true;
+                    out.append(c);
+                } else if (c == '"') {
+                    inString = false;
+                    out.append(c);
+                } else if (c == '\n') {
+                    out.append("\\n");
+                } else if (c == '\r') {
+                    out.append("\\r");
+                } else if (c == '\t') {
+                    out.append("\\t");
+                } else {
+                    out.append(c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    out.append(c);
+                }
+                case '{', '[' -> {
+                    if (depth == stack.length) {
+                        stack = java.util.Arrays.copyOf(stack, depth * 2);
+                        atomic = java.util.Arrays.copyOf(atomic, depth * 2);
+                    }
+                    // 배열 원소인 컨테이너는 통째로 (단, 루트 배열의 원소 = 레시피 하나는 필드 단위로 살린다)
+                    boolean whole = depth > 1 && stack[depth - 1] == ']'
+                            || depth == 1 && stack[0] == ']' && c == '[';
+                    stack[depth] = c == '{' ? '}' : ']';
+                    atomic[depth] = whole;
+                    depth++;
+                    if (whole) atomicOpen++;
+                    out.append(c);
+                    if (atomicOpen == 0) {
+                        safeLength = out.length();
+                        safeDepth = depth;
+                    }
+                }
+                case '}', ']' -> {
+                    if (depth == 0) continue;
+                    dropTrailingComma(out);
+                    depth--;
+                    if (atomic[depth]) atomicOpen--;
+                    out.append(stack[depth]); // 짝이 안 맞아도 열린 쪽 기준으로 닫는다
+                    if (depth == 0) return new Result(out.toString(), false);
+                    if (atomicOpen == 0) {
+                        safeLength = out.length();
+                        safeDepth = depth;
+                    }
+                }
+                case ',' -> {
+                    if (atomicOpen == 0) {
+                        safeLength = out.length();
+                        safeDepth = depth;
+                    }
+                    out.append(c);
+                }
+                case ' ', '\n', '\r', '\t' -> { }
+                default -> out.append(c);
+            }
+        }
+
+        // 잘린 응답: 마지막 온전한 지점까지 남기고 그때 열려 있던 괄호를 닫는다
+        out.setLength(safeLength);
+        dropTrailingComma(out);
+        for (int d = safeDepth - 1; d >= 0; d--) out.append(stack[d]);
+        return new Result(out.toString(), true);
+    }
+
+    // 첫 ``` 펜스 여는 줄의 끝 (```json 의 언어 표시까지 건너뜀). 펜스가 없으면 -1
+    private static int fenceEnd(CharSequence text) {
+        int len = text.length();
+        for (int i = 0; i + 2 < len; i++) {
+            if (text.charAt(i) == '`' && text.charAt(i + 1) == '`' && text.charAt(i + 2) == '`') {
+                int j = i + 3;
+                while (j < len && Character.isLetter(text.charAt(j))) j++;
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    // from 이후 JSON 루트로 보이는 첫 '{' / '[' (다음 글자가 키/값의 시작이거나 입력 끝). 없으면 -1
+    private static int rootStart(CharSequence text, int from) {
+        int len = text.length();
+        for (int i = from; i < len; i++) {
+            char c = text.charAt(i);
+            if (c != '{' && c != '[') continue;
+            int j = i + 1;
+            while (j < len && Character.isWhitespace(text.charAt(j))) j++;
+            if (j == len) return i;
+            char next = text.charAt(j);
+            boolean value = c == '{'
+                    ? next == '"' || next == '}'
+                    : next == '{' || next == '[' || next == '"' || next == ']' || next == '-' || Character.isDigit(next);
+            if (value) return i;
+        }
+        return -1;
+    }
+
+    private static void dropTrailingComma(StringBuilder out) {
+        int last = out.length() - 1;
+        if (last >= 0 && out.charAt(last) == ',') out.setLength(last);
+    }
+}
@@ -0,0 +1,31 @@
+package com.kfood.kfood_be.youtube.controller;
+
+import com.kfood.kfood_be.youtube.dto.YoutubeVideoResponseDto;
+import com.kfood.kfood_be.youtube.service.YoutubeService;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/** YoutubeController 의 논블로킹 버전 (search.list → videos.list 를 block 없이 연결) */
+@RestController
+@RequestMapping({"/youtube/rx", "/api/rx/youtube"})
+@CrossOrigin(origins = "*") // 개발용(배포 시 제한 권장)
+public class ReactiveYoutubeController {
+
+    private final YoutubeService youtubeService;
+
+    public ReactiveYoutubeController(YoutubeService youtubeService) {
+        this.youtubeService = youtubeService;
+    }
+
+    @GetMapping("/search")
+    public Mono<List<YoutubeVideoResponseDto>> searchYoutube(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "query", required = false) String query
+    ) {
+        String raw = (q != null && !q.trim().isEmpty()) ? q : (query != null ? query : "");
+        if (raw == null || raw.trim().isEmpty()) return Mono.just(List.of());
+        return youtubeService.searchVideosReactive(raw.trim());
+    }
+}
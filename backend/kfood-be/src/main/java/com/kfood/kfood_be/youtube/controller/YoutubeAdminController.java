@@ -0,0 +1,40 @@
+package com.kfood.kfood_be.youtube.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.kfood.kfood_be.youtube.service.YoutubeQuotaBudget;
+import com.kfood.kfood_be.youtube.service.YoutubeSearchCache;
+import com.kfood.kfood_be.youtube.service.YoutubeVideoStatsCache;
+
+import lombok.RequiredArgsConstructor;
+
+/** 운영용: YouTube 검색/영상 통계 캐시 적중, 할당량 사용·절약 현황 */
+@RestController
+@RequestMapping("/api/admin/youtube")
+@RequiredArgsConstructor
+public class YoutubeAdminController {
+
+    private final YoutubeSearchCache searchCache;
+    private final YoutubeQuotaBudget quotaBudget;
+    private final YoutubeVideoStatsCache videoStatsCache;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> metrics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("searchCache", searchCache.stats());
+        body.put("videoStatsCache", videoStatsCache.stats());
+        body.put("quota", quotaBudget.stats());
+        return ResponseEntity.ok(body);
+    }
+
+    @DeleteMapping("/cache")
+    public ResponseEntity<Map<String, Object>> purgeAll() {
+        return ResponseEntity.ok(Map.of(
+                "purged", searchCache.invalidateAll(),
+                "purgedVideoStats", videoStatsCache.invalidateAll()));
+    }
+}
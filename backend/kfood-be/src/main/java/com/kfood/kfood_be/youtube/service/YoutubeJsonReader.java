@@ -0,0 +1,140 @@
+package com.kfood.kfood_be.youtube.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kfood.kfood_be.youtube.dto.YoutubeVideoResponseDto;
+
+/**
+ * search.list / videos.list 응답에서 쓰는 필드만 스트리밍으로 읽는다 (트리 생성 없음).
+ * search: items[].id.videoId, snippet.{title, channelTitle, publishedAt, thumbnails.medium.url}
+ * videos: items[].id, snippet.categoryId, statistics.viewCount
+ */
+public final class YoutubeJsonReader {
+
+    private YoutubeJsonReader() {}
+
+    public static List<YoutubeVideoResponseDto> searchItems(JsonParser p) throws IOException {
+        List<YoutubeVideoResponseDto> list = new ArrayList<>();
+        if (!enterItems(p)) return list;
+
+        while (nextItem(p)) {
+            String vid = "", title = "", channelTitle = "", thumbnail = "", publishedAt = "";
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken t = p.nextToken();
+                if ("id".equals(field) && t == JsonToken.START_OBJECT) {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String f = p.currentName();
+                        p.nextToken();
+                        if ("videoId".equals(f)) vid = p.getValueAsString("");
+                        else p.skipChildren();
+                    }
+                } else if ("snippet".equals(field) && t == JsonToken.START_OBJECT) {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String f = p.currentName();
+                        JsonToken st = p.nextToken();
+                        switch (f) {
+                            case "title" -> title = p.getValueAsString("");
+                            case "channelTitle" -> channelTitle = p.getValueAsString("");
+                            case "publishedAt" -> publishedAt = p.getValueAsString("");
+                            case "thumbnails" -> {
+                                if (st == JsonToken.START_OBJECT) thumbnail = mediumThumbnail(p);
+                                else p.skipChildren();
+                            }
+                            default -> p.skipChildren();
+                        }
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+            if (vid.isEmpty()) continue;
+            list.add(YoutubeVideoResponseDto.of(
+                    vid,
+                    title,
+                    channelTitle,
+                    thumbnail,
+                    publishedAt,
+                    "0" // 조회수는 videos.list 에서 병합
+            ));
+        }
+        return list;
+    }
+
+    /** videoId → 통계 (응답에 있는 것만) */
+    public static Map<String, YoutubeVideoStatsCache.VideoStats> videoStats(JsonParser p, long fetchedAtMillis) throws IOException {
+        Map<String, YoutubeVideoStatsCache.VideoStats> out = new HashMap<>();
+        if (!enterItems(p)) return out;
+
+        while (nextItem(p)) {
+            String id = "", viewCount = "0", categoryId = "";
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken t = p.nextToken();
+                if ("id".equals(field)) {
+                    id = t == JsonToken.VALUE_STRING ? p.getText() : "";
+                    p.skipChildren();
+                } else if ("snippet".equals(field) && t == JsonToken.START_OBJECT) {
+                    categoryId = readField(p, "categoryId", categoryId);
+                } else if ("statistics".equals(field) && t == JsonToken.START_OBJECT) {
+                    viewCount = readField(p, "viewCount", viewCount);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            if (!id.isEmpty()) out.put(id, new YoutubeVideoStatsCache.VideoStats(viewCount, categoryId, fetchedAtMillis));
+        }
+        return out;
+    }
+
+    // 루트 객체에서 items 배열 시작까지 이동. 없으면 false
+    private static boolean enterItems(JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) return false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken t = p.nextToken();
+            if ("items".equals(field) && t == JsonToken.START_ARRAY) return true;
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    // items 의 다음 객체 원소로 이동 (객체가 아닌 원소는 건너뜀). 배열 끝이면 false
+    private static boolean nextItem(JsonParser p) throws IOException {
+        JsonToken t;
+        while ((t = p.nextToken()) != null && t != JsonToken.END_ARRAY) {
+            if (t == JsonToken.START_OBJECT) return true;
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    // 현재 객체에서 name 필드 값(문자열/숫자 모두 문자열로)만 읽고 나머지는 건너뜀
+    private static String readField(JsonParser p, String name, String fallback) throws IOException {
+        String value = fallback;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String f = p.currentName();
+            p.nextToken();
+            if (name.equals(f)) value = p.getValueAsString(fallback);
+            else p.skipChildren();
+        }
+        return value;
+    }
+
+    private static String mediumThumbnail(JsonParser p) throws IOException {
+        String url = "";
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String size = p.currentName();
+            JsonToken t = p.nextToken();
+            if ("medium".equals(size) && t == JsonToken.START_OBJECT) url = readField(p, "url", url);
+            else p.skipChildren();
+        }
+        return url;
+    }
+}
@@ -0,0 +1,124 @@
+package com.kfood.kfood_be.youtube.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * YouTube Data API 일일 할당량 추적 (태평양 시간 자정에 초기화 — API 쪽 기준과 동일).
+ * search.list 100 units, videos.list 1 unit. 남은 양이 reserve 이하로 떨어지면 low:
+ * 캐시는 백그라운드 갱신을 멈추고 stale 응답만 한다.
+ */
+@Component
+public class YoutubeQuotaBudget {
+
+    public static final int SEARCH_COST = 100;
+    public static final int VIDEOS_COST = 1;
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+    private static final int HISTORY_DAYS = 7;
+
+    private final long dailyLimit;
+    private final long reserve;
+    private final Clock clock;
+
+    // 아래는 this 로 동기화 (호출 빈도가 낮아 단순 synchronized 로 충분)
+    private LocalDate day;
+    private DayUsage today;
+    private final LinkedHashMap<LocalDate, DayUsage> history = new LinkedHashMap<>();
+
+    private static final class DayUsage {
+        long used;
+        long saved;
+        long cacheHits;
+        boolean exhausted; // API 가 quotaExceeded 를 돌려준 날
+    }
+
+    @Autowired
+    public YoutubeQuotaBudget(@Value("${youtube.quota.daily-limit:10000}") long dailyLimit,
+                              @Value("${youtube.quota.reserve:1500}") long reserve) {
+        this(dailyLimit, reserve, Clock.system(QUOTA_ZONE));
+    }
+
+    // 테스트용: 날짜 경계를 시계로 움직인다 (zone 은 태평양 시간이어야 API 초기화 시점과 맞다)
+    YoutubeQuotaBudget(long dailyLimit, long reserve, Clock clock) {
+        this.dailyLimit = dailyLimit;
+        this.reserve = reserve;
+        this.clock = clock;
+        roll();
+    }
+
+    /** 실제로 호출한 units */
+    public synchronized void spend(int units) {
+        roll();
+        today.used += units;
+    }
+
+    /** 캐시가 대신 응답해서 아낀 units */
+    public synchronized void saved(int units) {
+        roll();
+        today.saved += units;
+        today.cacheHits++;
+    }
+
+    public synchronized void markExhausted() {
+        roll();
+        today.exhausted = true;
+    }
+
+    public synchronized long remaining() {
+        roll();
+        return today.exhausted ? 0 : Math.max(0, dailyLimit - today.used);
+    }
+
+    /** 백그라운드 갱신 중단 기준 */
+    public boolean isLow() {
+        return remaining() <= reserve;
+    }
+
+    /** 새 검색(search + videos) 한 번 할 여유가 있는지 */
+    public boolean canAffordSearch() {
+        return remaining() >= SEARCH_COST + VIDEOS_COST;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        roll();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("day", day.toString());
+        out.put("dailyLimit", dailyLimit);
+        out.put("reserve", reserve);
+        out.put("used", today.used);
+        out.put("remaining", today.exhausted ? 0 : Math.max(0, dailyLimit - today.used));
+        out.put("low", (today.exhausted ? 0 : dailyLimit - today.used) <= reserve);
+        out.put("exhausted", today.exhausted);
+
+        List<Map<String, Object>> days = new ArrayList<>();
+        history.forEach((d, u) -> {
+            Map<String, Object> e = new LinkedHashMap<>();
+            e.put("day", d.toString());
+            e.put("usedUnits", u.used);
+            e.put("savedUnits", u.saved);
+            e.put("cacheHits", u.cacheHits);
+            days.add(e);
+        });
+        out.put("daily", days);
+        return out;
+    }
+
+    private void roll() {
+        LocalDate now = LocalDate.now(clock);
+        if (now.equals(day)) return;
+        day = now;
+        today = new DayUsage();
+        history.put(now, today);
+        while (history.size() > HISTORY_DAYS) history.remove(history.keySet().iterator().next());
+    }
+}
@@ -0,0 +1,154 @@
+package com.kfood.kfood_be.youtube.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kfood.kfood_be.youtube.dto.YoutubeVideoResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * YouTube 검색 결과 캐시 (키: 최종 쿼리 + lang). 값은 search.list 스니펫(조회수 병합 전) —
+ * 조회수/카테고리는 YoutubeVideoStatsCache 가 따로 관리.
+ * fresh-ttl 이내면 그대로, 지나면 stale 을 바로 돌려주고 키당 하나의 백그라운드 갱신만 띄운다(stale-while-revalidate).
+ * miss 도 키당 한 번만 호출: 같은 키로 동시에 들어온 miss 는 진행 중인 search.list(100 units)에 합류한다.
+ * 할당량이 부족하면(YoutubeQuotaBudget.isLow) 갱신 없이 stale 만 응답.
+ * Caffeine 쪽 만료(CacheConfig, youtube.cache.max-stale)는 stale 허용 한계.
+ */
+@Slf4j
+@Component
+public class YoutubeSearchCache {
+
+    public record CachedSearch(List<YoutubeVideoResponseDto> videos, long fetchedAtMillis) {}
+
+    private final Cache<String, CachedSearch> youtubeSearchCache;
+    private final YoutubeQuotaBudget budget;
+    private final long freshTtlMillis;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Mono<List<YoutubeVideoResponseDto>>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder freshHits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder missesCoalesced = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder refreshSkippedLowQuota = new LongAdder();
+    private final LongAdder quotaRejected = new LongAdder();
+
+    public YoutubeSearchCache(Cache<String, CachedSearch> youtubeSearchCache,
+                              YoutubeQuotaBudget budget,
+                              @Value("${youtube.cache.fresh-ttl:30m}") Duration freshTtl) {
+        this.youtubeSearchCache = youtubeSearchCache;
+        this.budget = budget;
+        this.freshTtlMillis = freshTtl.toMillis();
+    }
+
+    public static String keyOf(String finalQuery, String lang) {
+        return finalQuery + "|" + lang;
+    }
+
+    /**
+     * 캐시 우선 조회. fetch 는 실제 API 호출(실패 시 error 또는 empty, 성공 시에만 적재).
+     * cost 는 fetch 한 번에 드는 units (캐시 적중 시 절약분으로 기록).
+     */
+    public Mono<List<YoutubeVideoResponseDto>> get(String key, int cost, Supplier<Mono<List<YoutubeVideoResponseDto>>> fetch) {
+        CachedSearch cached = youtubeSearchCache.getIfPresent(key);
+        if (cached != null) {
+            budget.saved(cost);
+            if (System.currentTimeMillis() - cached.fetchedAtMillis() <= freshTtlMillis) {
+                freshHits.increment();
+            } else {
+                staleHits.increment();
+                refreshInBackground(key, fetch);
+            }
+            return Mono.just(cached.videos());
+        }
+
+        misses.increment();
+        Mono<List<YoutubeVideoResponseDto>> inFlight = loading.get(key);
+        if (inFlight != null) {
+            missesCoalesced.increment();
+            return inFlight;
+        }
+        if (!budget.canAffordSearch()) {
+            quotaRejected.increment();
+            return Mono.just(List.of());
+        }
+        return load(key, fetch);
+    }
+
+    // 첫 구독자가 호출을 시작하고, 끝날 때까지 들어온 같은 키의 miss 는 같은 결과(오류 포함)를 받는다.
+    // 끝나면 맵에서 빠지므로 실패는 캐시되지 않는다.
+    private Mono<List<YoutubeVideoResponseDto>> load(String key, Supplier<Mono<List<YoutubeVideoResponseDto>>> fetch) {
+        Mono<List<YoutubeVideoResponseDto>> mine = Mono.defer(fetch)
+                .doOnNext(videos -> store(key, videos))
+                .doFinally(signal -> loading.remove(key))
+                .cache();
+        Mono<List<YoutubeVideoResponseDto>> shared = loading.putIfAbsent(key, mine);
+        if (shared != null) {
+            missesCoalesced.increment();
+            return shared;
+        }
+        return mine;
+    }
+
+    private void refreshInBackground(String key, Supplier<Mono<List<YoutubeVideoResponseDto>>> fetch) {
+        if (budget.isLow()) {
+            refreshSkippedLowQuota.increment();
+            return;
+        }
+        if (!refreshing.add(key)) return; // 이미 갱신 중
+        refreshes.increment();
+        fetch.get()
+                .doOnNext(videos -> store(key, videos))
+                .doOnError(e -> {
+                    refreshFailures.increment();
+                    log.debug("YouTube 캐시 갱신 실패({}): {}", key, e.toString());
+                })
+                .doFinally(signal -> refreshing.remove(key))
+                .subscribe(videos -> { }, e -> { });
+    }
+
+    // 빈 결과는 일시 오류일 수 있어 적재하지 않음
+    private void store(String key, List<YoutubeVideoResponseDto> videos) {
+        if (videos == null || videos.isEmpty()) return;
+        youtubeSearchCache.put(key, new CachedSearch(List.copyOf(videos), System.currentTimeMillis()));
+    }
+
+    public long invalidateAll() {
+        long size = youtubeSearchCache.estimatedSize();
+        youtubeSearchCache.invalidateAll();
+        return size;
+    }
+
+    public Map<String, Object> stats() {
+        long fresh = freshHits.sum(), stale = staleHits.sum(), miss = misses.sum();
+        long total = fresh + stale + miss;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", youtubeSearchCache.estimatedSize());
+        out.put("freshHits", fresh);
+        out.put("staleHits", stale);
+        out.put("misses", miss);
+        out.put("missesCoalesced", missesCoalesced.sum());
+        out.put("loadInFlight", loading.size());
+        out.put("hitRate", total == 0 ? 0.0 : (double) (fresh + stale) / total);
+        out.put("refreshes", refreshes.sum());
+        out.put("refreshInFlight", refreshing.size());
+        out.put("refreshFailures", refreshFailures.sum());
+        out.put("refreshSkippedLowQuota", refreshSkippedLowQuota.sum());
+        out.put("quotaRejected", quotaRejected.sum());
+        return out;
+    }
+}
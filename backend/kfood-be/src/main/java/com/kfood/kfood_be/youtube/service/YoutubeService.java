@@ -1,39 +1,57 @@
 package com.kfood.kfood_be.youtube.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Locale;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.common.json.DataBufferJson;
 import com.kfood.kfood_be.youtube.dto.YoutubeVideoResponseDto;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
 @Service
 public class YoutubeService {
 
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
     private final String apiKey;
-
-    private static final String SEARCH_API = "https://www.googleapis.com/youtube/v3/search";
-    private static final String VIDEOS_API = "https://www.googleapis.com/youtube/v3/videos";
+    private final String searchApi;
+    private final String videosApi;
+    private final Scheduler parseScheduler;
+    private final YoutubeSearchCache searchCache;
+    private final YoutubeQuotaBudget quotaBudget;
+    private final YoutubeVideoStatsCache videoStatsCache;
 
     // 게임류 음수 키워드(다국어)
     private static final String NEGATIVE_GAMING = "-game -게임 -gaming -実況 -プレイ -게임방송 -게임플레이 -live -스트리밍";
 
     public YoutubeService(WebClient.Builder webClientBuilder,
-                          ObjectMapper objectMapper,
-                          @Value("${youtube.api-key}") String apiKey) {
+                          @Value("${youtube.api-key}") String apiKey,
+                          @Value("${youtube.endpoint:https://www.googleapis.com/youtube/v3}") String endpoint,
+                          @Qualifier("jsonParseScheduler") Scheduler parseScheduler,
+                          YoutubeSearchCache searchCache,
+                          YoutubeQuotaBudget quotaBudget,
+                          YoutubeVideoStatsCache videoStatsCache) {
         this.webClient = webClientBuilder.build();
-        this.objectMapper = objectMapper;
         this.apiKey = apiKey;
+        // 로컬 부하 측정 시 스텁 서버로 교체 (application-stub.yml)
+        String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+        this.searchApi = base + "/search";
+        this.videosApi = base + "/videos";
+        this.parseScheduler = parseScheduler;
+        this.searchCache = searchCache;
+        this.quotaBudget = quotaBudget;
+        this.videoStatsCache = videoStatsCache;
     }
 
     /** 하위호환: lang 미지정 시 ko */
@@ -43,105 +61,116 @@ public class YoutubeService {
 
     /** 먹방 자동 접미 + 게임류 차단(음수키워드 + Gaming 카테고리 필터) + 언어 가중치 */
     public List<YoutubeVideoResponseDto> searchVideos(String query, String lang) {
-        try {
-            final String finalQuery = buildQueryWithMukbangAndNegative(query, lang);
-
-            // 1) search.list 호출 (snippet)
-            String searchUri = UriComponentsBuilder.fromUriString(SEARCH_API)
-                    .queryParam("part", "snippet")
-                    .queryParam("q", finalQuery)
-                    .queryParam("type", "video")
-                    .queryParam("maxResults", 10)
-                    .queryParam("relevanceLanguage", (lang == null || lang.isBlank()) ? "ko" : lang)
-                    .queryParam("regionCode", "KR")
-                    .queryParam("order", "relevance")
-                    .queryParam("key", apiKey)
-                    .toUriString();
-
-            String searchResponse = webClient.get()
-                    .uri(searchUri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode root = objectMapper.readTree(searchResponse);
-            JsonNode items = root.path("items");
-
-            List<YoutubeVideoResponseDto> list = new ArrayList<>();
-            List<String> ids = new ArrayList<>();
-
-            if (items.isArray()) {
-                for (JsonNode item : items) {
-                    String vid = item.path("id").path("videoId").asText("");
-                    if (vid.isEmpty()) continue;
-                    ids.add(vid);
-
-                    JsonNode sn = item.path("snippet");
-                    String title = sn.path("title").asText("");
-                    String channelTitle = sn.path("channelTitle").asText("");
-                    String thumbnail = sn.path("thumbnails").path("medium").path("url").asText("");
-                    String publishedAt = sn.path("publishedAt").asText("");
-
-                    list.add(YoutubeVideoResponseDto.of(
-                            vid,
-                            title,
-                            channelTitle,
-                            thumbnail,
-                            publishedAt,
-                            "0" // 조회수는 아래 videos.list에서 병합
-                    ));
-                }
-            }
+        return searchVideosReactive(query, lang).block();
+    }
 
-            if (ids.isEmpty()) return list;
-
-            // 2) videos.list 호출 (snippet,statistics) — 조회수 + 카테고리 동시 취득
-            String videosUri = UriComponentsBuilder.fromUriString(VIDEOS_API)
-                    .queryParam("part", "snippet,statistics")
-                    .queryParam("id", String.join(",", ids))
-                    .queryParam("key", apiKey)
-                    .toUriString();
-
-            String videosResponse = webClient.get()
-                    .uri(videosUri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode vRoot = objectMapper.readTree(videosResponse);
-            JsonNode vItems = vRoot.path("items");
-
-            Map<String, String> viewCountMap = new HashMap<>();
-            Map<String, String> categoryMap  = new HashMap<>();
-            if (vItems.isArray()) {
-                for (JsonNode vItem : vItems) {
-                    String id = vItem.path("id").asText("");
-                    String vc = vItem.path("statistics").path("viewCount").asText("0");
-                    String cat = vItem.path("snippet").path("categoryId").asText("");
-                    if (!id.isEmpty()) {
-                        viewCountMap.put(id, vc);
-                        categoryMap.put(id, cat);
-                    }
-                }
-            }
+    /** 하위호환: lang 미지정 시 ko */
+    public Mono<List<YoutubeVideoResponseDto>> searchVideosReactive(String query) {
+        return searchVideosReactive(query, "ko");
+    }
 
-            // 3) Gaming(20) 제거 + 제목/채널에 게임 키워드 있으면 제거 + 조회수 병합
-            List<YoutubeVideoResponseDto> filtered = new ArrayList<>();
-            for (YoutubeVideoResponseDto dto : list) {
-                String cat = categoryMap.getOrDefault(dto.getVideoId(), "");
-                if ("20".equals(cat)) continue; // YouTube Gaming 카테고리
-                if (looksLikeGaming(dto.getTitle(), dto.getChannelTitle())) continue; // 추가 방어
-                dto.setViewCount(viewCountMap.getOrDefault(dto.getVideoId(), "0"));
-                filtered.add(dto);
-            }
+    /**
+     * 논블로킹 버전: 검색 캐시(search.list 스니펫) → videoId 별 통계 캐시(없거나 만료된 것만 videos.list)
+     * → 필터/병합. 파싱은 parseScheduler 에서.
+     */
+    public Mono<List<YoutubeVideoResponseDto>> searchVideosReactive(String query, String lang) {
+        final String finalQuery = buildQueryWithMukbangAndNegative(query, lang);
+        final String relevanceLang = (lang == null || lang.isBlank()) ? "ko" : lang;
+
+        return searchCache.get(YoutubeSearchCache.keyOf(finalQuery, relevanceLang),
+                        YoutubeQuotaBudget.SEARCH_COST,
+                        () -> fetchSearchItems(finalQuery, relevanceLang))
+                .flatMap(list -> list.isEmpty()
+                        ? Mono.just(List.<YoutubeVideoResponseDto>of())
+                        : videoStatsCache.resolve(videoIds(list), this::fetchVideoStats)
+                                .map(stats -> filterAndMerge(list, stats)))
+                .defaultIfEmpty(List.of())
+                .onErrorResume(e -> {
+                    System.err.println("===== YouTube Service Error =====");
+                    e.printStackTrace();
+                    return Mono.just(List.of());
+                });
+    }
 
-            return filtered;
+    // 1) search.list 호출 (snippet) — 캐시 miss 또는 백그라운드 갱신 시
+    private Mono<List<YoutubeVideoResponseDto>> fetchSearchItems(String finalQuery, String relevanceLang) {
+        String searchUri = UriComponentsBuilder.fromUriString(searchApi)
+                .queryParam("part", "snippet")
+                .queryParam("q", finalQuery)
+                .queryParam("type", "video")
+                .queryParam("maxResults", 10)
+                .queryParam("relevanceLanguage", relevanceLang)
+                .queryParam("regionCode", "KR")
+                .queryParam("order", "relevance")
+                .queryParam("key", apiKey)
+                .toUriString();
+
+        return webClient.get()
+                .uri(searchUri)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferJson::join)
+                .doOnSubscribe(s -> quotaBudget.spend(YoutubeQuotaBudget.SEARCH_COST))
+                .doOnError(this::checkQuotaExceeded)
+                .publishOn(parseScheduler)
+                .map(body -> DataBufferJson.read(body, YoutubeJsonReader::searchItems))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private static List<String> videoIds(List<YoutubeVideoResponseDto> list) {
+        return list.stream().map(YoutubeVideoResponseDto::getVideoId).distinct().toList();
+    }
+
+    // 403 quotaExceeded → 오늘은 더 호출하지 않음 (캐시는 stale 만 응답)
+    private void checkQuotaExceeded(Throwable e) {
+        if (e instanceof WebClientResponseException we
+                && we.getStatusCode().value() == 403
+                && we.getResponseBodyAsString().contains("quotaExceeded")) {
+            quotaBudget.markExhausted();
+        }
+    }
+
+    // 2) videos.list 호출 (snippet,statistics) — 조회수 + 카테고리 동시 취득, ids 는 최대 50개
+    private Mono<Map<String, YoutubeVideoStatsCache.VideoStats>> fetchVideoStats(List<String> ids) {
+        String videosUri = UriComponentsBuilder.fromUriString(videosApi)
+                .queryParam("part", "snippet,statistics")
+                .queryParam("id", String.join(",", ids))
+                .queryParam("key", apiKey)
+                .toUriString();
+
+        return webClient.get()
+                .uri(videosUri)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferJson::join)
+                .doOnSubscribe(s -> quotaBudget.spend(YoutubeQuotaBudget.VIDEOS_COST))
+                .doOnError(this::checkQuotaExceeded)
+                .publishOn(parseScheduler)
+                .map(body -> DataBufferJson.read(body,
+                        p -> YoutubeJsonReader.videoStats(p, System.currentTimeMillis())))
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
 
-        } catch (Exception e) {
-            System.err.println("===== YouTube Service Error =====");
-            e.printStackTrace();
-            return List.of();
+    // 3) Gaming(20) 제거 + 제목/채널에 게임 키워드 있으면 제거 + 조회수 병합
+    //    캐시된 스니펫은 공유되므로 새 DTO 로 만든다
+    private List<YoutubeVideoResponseDto> filterAndMerge(List<YoutubeVideoResponseDto> list,
+                                                         Map<String, YoutubeVideoStatsCache.VideoStats> stats) {
+        List<YoutubeVideoResponseDto> filtered = new ArrayList<>();
+        for (YoutubeVideoResponseDto dto : list) {
+            YoutubeVideoStatsCache.VideoStats st = stats.get(dto.getVideoId());
+            String cat = st == null ? "" : st.categoryId();
+            if ("20".equals(cat)) continue; // YouTube Gaming 카테고리
+            if (looksLikeGaming(dto.getTitle(), dto.getChannelTitle())) continue; // 추가 방어
+            filtered.add(YoutubeVideoResponseDto.of(
+                    dto.getVideoId(),
+                    dto.getTitle(),
+                    dto.getChannelTitle(),
+                    dto.getThumbnailUrl(),
+                    dto.getPublishedAt(),
+                    st == null ? "0" : st.viewCount()
+            ));
         }
+        return filtered;
     }
 
     // ===== 내부 유틸 =====
@@ -0,0 +1,151 @@
+package com.kfood.kfood_be.youtube.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * videoId 별 조회수/카테고리 캐시. 인기 영상은 여러 검색어에 반복해서 나오므로 검색 결과와 따로 둔다.
+ * - 없는 ID 만 videos.list 로 즉시 조회 (최대 50개씩 — API 한도)
+ * - 응답에 없는 ID(삭제/비공개)도 빈 통계로 기록해 매번 다시 묻지 않게
+ * - ttl 이 지난 ID 는 기존 값으로 응답하고 백그라운드에서 묶어서 갱신 (할당량 부족 시 생략)
+ */
+@Slf4j
+@Component
+public class YoutubeVideoStatsCache {
+
+    public record VideoStats(String viewCount, String categoryId, long fetchedAtMillis) {}
+
+    static final int MAX_IDS_PER_CALL = 50;
+
+    private final Cache<String, VideoStats> youtubeVideoStatsCache;
+    private final YoutubeQuotaBudget budget;
+    private final long ttlMillis;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fetchCalls = new LongAdder();
+    private final LongAdder fetchFailures = new LongAdder();
+    private final LongAdder backgroundRefreshed = new LongAdder();
+
+    public YoutubeVideoStatsCache(Cache<String, VideoStats> youtubeVideoStatsCache,
+                                  YoutubeQuotaBudget budget,
+                                  @Value("${youtube.stats.ttl:15m}") Duration ttl) {
+        this.youtubeVideoStatsCache = youtubeVideoStatsCache;
+        this.budget = budget;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /** ids 전체의 통계. fetchBatch 는 50개 이하 ID 에 대한 videos.list 호출 */
+    public Mono<Map<String, VideoStats>> resolve(List<String> ids,
+                                                 Function<List<String>, Mono<Map<String, VideoStats>>> fetchBatch) {
+        Map<String, VideoStats> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        List<String> stale = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (String id : ids) {
+            VideoStats v = youtubeVideoStatsCache.getIfPresent(id);
+            if (v == null) {
+                missing.add(id);
+                continue;
+            }
+            found.put(id, v);
+            if (now - v.fetchedAtMillis() > ttlMillis) {
+                expired.increment();
+                stale.add(id);
+            } else {
+                hits.increment();
+            }
+        }
+        misses.add(missing.size());
+        if (!stale.isEmpty()) refreshInBackground(stale, fetchBatch);
+        if (missing.isEmpty()) return Mono.just(found);
+
+        // 조회 실패한 배치는 통계 없이 진행 (검색 결과 자체는 살린다)
+        return fetchAll(missing, fetchBatch)
+                .doOnNext(found::putAll)
+                .then(Mono.fromSupplier(() -> found));
+    }
+
+    private void refreshInBackground(List<String> stale, Function<List<String>, Mono<Map<String, VideoStats>>> fetchBatch) {
+        if (budget.isLow()) return;
+        List<String> claimed = new ArrayList<>(stale.size());
+        for (String id : stale) {
+            if (refreshing.add(id)) claimed.add(id);
+        }
+        if (claimed.isEmpty()) return;
+
+        fetchAll(claimed, fetchBatch)
+                .doOnNext(m -> backgroundRefreshed.add(m.size()))
+                .doFinally(signal -> claimed.forEach(refreshing::remove))
+                .subscribe(m -> { }, e -> { });
+    }
+
+    private Flux<Map<String, VideoStats>> fetchAll(List<String> ids,
+                                                   Function<List<String>, Mono<Map<String, VideoStats>>> fetchBatch) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += MAX_IDS_PER_CALL) {
+            batches.add(ids.subList(i, Math.min(ids.size(), i + MAX_IDS_PER_CALL)));
+        }
+        return Flux.fromIterable(batches)
+                .concatMap(batch -> {
+                    fetchCalls.increment();
+                    return fetchBatch.apply(batch)
+                            .map(found -> withAbsentIds(batch, found))
+                            .doOnNext(youtubeVideoStatsCache::putAll)
+                            .onErrorResume(e -> {
+                                fetchFailures.increment();
+                                log.debug("videos.list 조회 실패({}건): {}", batch.size(), e.toString());
+                                return Mono.empty();
+                            });
+                });
+    }
+
+    private static Map<String, VideoStats> withAbsentIds(List<String> batch, Map<String, VideoStats> found) {
+        Map<String, VideoStats> out = new HashMap<>(found);
+        long now = System.currentTimeMillis();
+        for (String id : batch) out.putIfAbsent(id, new VideoStats("0", "", now));
+        return out;
+    }
+
+    public long invalidateAll() {
+        long size = youtubeVideoStatsCache.estimatedSize();
+        youtubeVideoStatsCache.invalidateAll();
+        return size;
+    }
+
+    public Map<String, Object> stats() {
+        long h = hits.sum(), x = expired.sum(), m = misses.sum();
+        long total = h + x + m;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", youtubeVideoStatsCache.estimatedSize());
+        out.put("hits", h);
+        out.put("expiredServed", x);
+        out.put("misses", m);
+        out.put("hitRate", total == 0 ? 0.0 : (double) (h + x) / total);
+        out.put("fetchCalls", fetchCalls.sum());
+        out.put("fetchFailures", fetchFailures.sum());
+        out.put("backgroundRefreshed", backgroundRefreshed.sum());
+        out.put("refreshInFlight", refreshing.size());
+        return out;
+    }
+}
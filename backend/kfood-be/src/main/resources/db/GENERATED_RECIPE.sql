@@ -1,11 +1,51 @@
 -- 테이블 생성
+-- 헤더 ID: GeneratedRecipeWriter 가 NEXTVAL 한 번에 50개씩 받아(값 v → v-49..v) 헤더도 batch insert 한다
+CREATE SEQUENCE GENERATED_RECIPE_SEQ START WITH 50 INCREMENT BY 50;
+
+-- 헤더: 목록/검색/매칭에 필요한 컬럼 + 전체 DTO(JSON) 는 CLOB
 CREATE TABLE GENERATED_RECIPE (
+  ID             NUMBER(19) PRIMARY KEY,
+  FOOD           VARCHAR2(255 CHAR)   NOT NULL,
+  INGREDIENT     VARCHAR2(255 CHAR)   NOT NULL,
+  INGREDIENT_KEY VARCHAR2(1000 CHAR),
+  CATEGORY       VARCHAR2(30 CHAR),
+  TIME_MIN       NUMBER(5),
+  DIFFICULTY     VARCHAR2(10 CHAR),
+  RECIPE         CLOB                 NOT NULL
+);
+
+-- 재료 행 (1인분 기준)
+CREATE TABLE GENERATED_RECIPE_INGREDIENT (
+  ID        NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  RECIPE_ID NUMBER(19)          NOT NULL REFERENCES GENERATED_RECIPE (ID) ON DELETE CASCADE,
+  SEQ       NUMBER(5)           NOT NULL,
+  NAME      VARCHAR2(255 CHAR)  NOT NULL,
+  QTY       NUMBER(12, 2),
+  UNIT      VARCHAR2(20 CHAR),
+  LABEL     VARCHAR2(255 CHAR)
+);
+
+-- 조리 단계 행
+CREATE TABLE GENERATED_RECIPE_STEP (
   ID         NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
-  FOOD       VARCHAR2(255 CHAR)   NOT NULL,
-  INGREDIENT VARCHAR2(255 CHAR)   NOT NULL,
-  RECIPE     VARCHAR2(4000 CHAR)  NOT NULL
+  RECIPE_ID  NUMBER(19)           NOT NULL REFERENCES GENERATED_RECIPE (ID) ON DELETE CASCADE,
+  STEP_ORDER NUMBER(5)            NOT NULL,
+  STEP_TEXT  VARCHAR2(2000 CHAR)  NOT NULL
 );
 
+-- 정규화 재료 키 정확 일치 + 최신순 조회 (DB 우선 조회 계층)
+CREATE INDEX IX_GENERATED_RECIPE_IKEY ON GENERATED_RECIPE (INGREDIENT_KEY, ID);
+-- 이름 검색 적중 제목 → 본문 조회
+CREATE INDEX IX_GENERATED_RECIPE_FOOD ON GENERATED_RECIPE (FOOD);
+-- 분류별 최신순 목록 (WHERE CATEGORY = ? ORDER BY ID DESC)
+CREATE INDEX IX_GENERATED_RECIPE_CATEGORY ON GENERATED_RECIPE (CATEGORY, ID);
+-- 레시피별 재료/단계 일괄 조회 (목록의 IN (...) 조회)
+CREATE INDEX IX_GR_INGREDIENT_RECIPE ON GENERATED_RECIPE_INGREDIENT (RECIPE_ID, SEQ);
+CREATE INDEX IX_GR_STEP_RECIPE ON GENERATED_RECIPE_STEP (RECIPE_ID, STEP_ORDER);
+
 -- 확인
 SELECT COUNT(*) AS CNT FROM GENERATED_RECIPE;
+-- DROP TABLE GENERATED_RECIPE_STEP;
+-- DROP TABLE GENERATED_RECIPE_INGREDIENT;
 -- DROP TABLE GENERATED_RECIPE;
+-- DROP SEQUENCE GENERATED_RECIPE_SEQ;
@@ -0,0 +1,14 @@
+-- 기존 테이블 마이그레이션: INGREDIENT_KEY 컬럼 + 인덱스
+ALTER TABLE GENERATED_RECIPE ADD (INGREDIENT_KEY VARCHAR2(1000 CHAR));
+
+-- 기존 행은 채우지 않는다(NULL → DB 조회 계층에서 적중하지 않음).
+-- 정규화 키는 앱의 RecipeService.cacheKeyOf(재료명만 추출 → 소문자 → 정렬/중복제거)로만 만들 수 있고,
+-- INGREDIENT 는 255자로 잘려 있거나 수량/단위가 섞인 값이라 LOWER(INGREDIENT) 는 틀린 키가 된다.
+-- 새로 저장되는 행부터 GeneratedRecipeWriter 가 정규화 키를 넣는다.
+
+-- 키 일치 + 최신순(ORDER BY ID DESC) 을 인덱스만으로
+CREATE INDEX IX_GENERATED_RECIPE_IKEY ON GENERATED_RECIPE (INGREDIENT_KEY, ID);
+
+-- 확인: 실행 계획이 INDEX RANGE SCAN (DESCENDING) 인지
+-- EXPLAIN PLAN FOR SELECT * FROM GENERATED_RECIPE WHERE INGREDIENT_KEY = '김치,두부' ORDER BY ID DESC;
+-- SELECT * FROM TABLE(DBMS_XPLAN.DISPLAY);
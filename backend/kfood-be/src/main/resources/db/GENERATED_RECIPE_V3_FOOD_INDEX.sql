@@ -0,0 +1,2 @@
+-- 이름 검색(RecipeNameIndex) 적중 제목 → 본문 조회용
+CREATE INDEX IX_GENERATED_RECIPE_FOOD ON GENERATED_RECIPE (FOOD);
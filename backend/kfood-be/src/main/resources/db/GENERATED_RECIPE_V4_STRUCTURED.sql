@@ -0,0 +1,73 @@
+-- 기존 테이블 마이그레이션: RECIPE VARCHAR2(4000) → CLOB, 헤더 컬럼 + 재료/단계 행 테이블
+-- (Oracle 은 VARCHAR2 → CLOB MODIFY 가 안 되므로 새 컬럼으로 옮긴 뒤 이름을 바꾼다)
+ALTER TABLE GENERATED_RECIPE ADD (
+  RECIPE_CLOB CLOB,
+  CATEGORY    VARCHAR2(30 CHAR),
+  TIME_MIN    NUMBER(5),
+  DIFFICULTY  VARCHAR2(10 CHAR)
+);
+UPDATE GENERATED_RECIPE SET RECIPE_CLOB = RECIPE;
+COMMIT;
+ALTER TABLE GENERATED_RECIPE DROP COLUMN RECIPE;
+ALTER TABLE GENERATED_RECIPE RENAME COLUMN RECIPE_CLOB TO RECIPE;
+ALTER TABLE GENERATED_RECIPE MODIFY (RECIPE NOT NULL);
+
+CREATE TABLE GENERATED_RECIPE_INGREDIENT (
+  ID        NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  RECIPE_ID NUMBER(19)          NOT NULL REFERENCES GENERATED_RECIPE (ID) ON DELETE CASCADE,
+  SEQ       NUMBER(5)           NOT NULL,
+  NAME      VARCHAR2(255 CHAR)  NOT NULL,
+  QTY       NUMBER(12, 2),
+  UNIT      VARCHAR2(20 CHAR),
+  LABEL     VARCHAR2(255 CHAR)
+);
+CREATE TABLE GENERATED_RECIPE_STEP (
+  ID         NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  RECIPE_ID  NUMBER(19)           NOT NULL REFERENCES GENERATED_RECIPE (ID) ON DELETE CASCADE,
+  STEP_ORDER NUMBER(5)            NOT NULL,
+  STEP_TEXT  VARCHAR2(2000 CHAR)  NOT NULL
+);
+CREATE INDEX IX_GR_INGREDIENT_RECIPE ON GENERATED_RECIPE_INGREDIENT (RECIPE_ID, SEQ);
+CREATE INDEX IX_GR_STEP_RECIPE ON GENERATED_RECIPE_STEP (RECIPE_ID, STEP_ORDER);
+CREATE INDEX IX_GENERATED_RECIPE_CATEGORY ON GENERATED_RECIPE (CATEGORY, ID);
+
+-- 헤더 ID: IDENTITY → 시퀀스 블록(50개). 기존 최대 ID 다음 블록부터 시작
+ALTER TABLE GENERATED_RECIPE MODIFY (ID DROP IDENTITY);
+DECLARE
+  v_start NUMBER;
+BEGIN
+  SELECT NVL(MAX(ID), 0) + 50 INTO v_start FROM GENERATED_RECIPE;
+  EXECUTE IMMEDIATE 'CREATE SEQUENCE GENERATED_RECIPE_SEQ START WITH ' || v_start || ' INCREMENT BY 50';
+END;
+/
+
+-- 기존 행 채우기: JSON 본문에서 헤더 컬럼/재료/단계를 뽑는다 (12c 이상 JSON_VALUE/JSON_TABLE)
+UPDATE GENERATED_RECIPE
+   SET CATEGORY   = JSON_VALUE(RECIPE, '$.category' RETURNING VARCHAR2(30 CHAR) NULL ON ERROR),
+       TIME_MIN   = JSON_VALUE(RECIPE, '$.timeMin' RETURNING NUMBER NULL ON ERROR),
+       DIFFICULTY = JSON_VALUE(RECIPE, '$.difficulty' RETURNING VARCHAR2(10 CHAR) NULL ON ERROR);
+
+INSERT INTO GENERATED_RECIPE_INGREDIENT (RECIPE_ID, SEQ, NAME, QTY, UNIT, LABEL)
+SELECT r.ID, j.SEQ, j.NAME, j.QTY, j.UNIT, j.LABEL
+  FROM GENERATED_RECIPE r,
+       JSON_TABLE(r.RECIPE, '$.ingredients[*]' COLUMNS (
+           SEQ   FOR ORDINALITY,
+           NAME  VARCHAR2(255 CHAR) PATH '$.name',
+           QTY   NUMBER             PATH '$.qty',
+           UNIT  VARCHAR2(20 CHAR)  PATH '$.unit',
+           LABEL VARCHAR2(255 CHAR) PATH '$.label')) j
+ WHERE j.NAME IS NOT NULL;
+
+INSERT INTO GENERATED_RECIPE_STEP (RECIPE_ID, STEP_ORDER, STEP_TEXT)
+SELECT r.ID, NVL(j.STEP_ORDER, j.SEQ), j.STEP_TEXT
+  FROM GENERATED_RECIPE r,
+       JSON_TABLE(r.RECIPE, '$.steps[*]' COLUMNS (
+           SEQ        FOR ORDINALITY,
+           STEP_ORDER NUMBER              PATH '$.order',
+           STEP_TEXT  VARCHAR2(2000 CHAR) PATH '$.text')) j
+ WHERE j.STEP_TEXT IS NOT NULL;
+COMMIT;
+
+-- 확인
+-- SELECT COUNT(*) FROM GENERATED_RECIPE_INGREDIENT;
+-- SELECT COUNT(*) FROM GENERATED_RECIPE_STEP;
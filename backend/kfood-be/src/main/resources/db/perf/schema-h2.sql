@@ -0,0 +1,37 @@
+-- perf 프로필(H2, MODE=Oracle) 스키마: db/GENERATED_RECIPE.sql 과 같은 구조/인덱스
+-- 차이: 파일 DB 재사용을 위해 IF NOT EXISTS (코퍼스 생성기는 헤더 ID 를 직접 매기고 시퀀스를 그 뒤로 옮긴다)
+CREATE SEQUENCE IF NOT EXISTS GENERATED_RECIPE_SEQ START WITH 50 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS GENERATED_RECIPE (
+  ID             NUMBER(19) PRIMARY KEY,
+  FOOD           VARCHAR2(255)   NOT NULL,
+  INGREDIENT     VARCHAR2(255)   NOT NULL,
+  INGREDIENT_KEY VARCHAR2(1000),
+  CATEGORY       VARCHAR2(30),
+  TIME_MIN       NUMBER(5),
+  DIFFICULTY     VARCHAR2(10),
+  RECIPE         CLOB            NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS GENERATED_RECIPE_INGREDIENT (
+  ID        NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  RECIPE_ID NUMBER(19)      NOT NULL REFERENCES GENERATED_RECIPE (ID) ON DELETE CASCADE,
+  SEQ       NUMBER(5)       NOT NULL,
+  NAME      VARCHAR2(255)   NOT NULL,
+  QTY       NUMBER(12, 2),
+  UNIT      VARCHAR2(20),
+  LABEL     VARCHAR2(255)
+);
+
+CREATE TABLE IF NOT EXISTS GENERATED_RECIPE_STEP (
+  ID         NUMBER(19) GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  RECIPE_ID  NUMBER(19)       NOT NULL REFERENCES GENERATED_RECIPE (ID) ON DELETE CASCADE,
+  STEP_ORDER NUMBER(5)        NOT NULL,
+  STEP_TEXT  VARCHAR2(2000)   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IX_GENERATED_RECIPE_IKEY ON GENERATED_RECIPE (INGREDIENT_KEY, ID);
+CREATE INDEX IF NOT EXISTS IX_GENERATED_RECIPE_FOOD ON GENERATED_RECIPE (FOOD);
+CREATE INDEX IF NOT EXISTS IX_GENERATED_RECIPE_CATEGORY ON GENERATED_RECIPE (CATEGORY, ID);
+CREATE INDEX IF NOT EXISTS IX_GR_INGREDIENT_RECIPE ON GENERATED_RECIPE_INGREDIENT (RECIPE_ID, SEQ);
+CREATE INDEX IF NOT EXISTS IX_GR_STEP_RECIPE ON GENERATED_RECIPE_STEP (RECIPE_ID, STEP_ORDER);
@@ -0,0 +1,180 @@
+package com.kfood.kfood_be.common.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.recipes.service.GeminiJsonReader;
+import com.kfood.kfood_be.youtube.service.YoutubeJsonReader;
+
+/**
+ * 응답 1건 디코딩당 할당 바이트: 기존(String → readTree / Map) vs 스트리밍(DataBuffer → JsonParser).
+ * ./gradlew perfTest 로 실행. 현재 스레드 할당량(com.sun.management.ThreadMXBean) 기준.
+ */
+@Tag("perf")
+class StreamingDecodeAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void youtubeSearch() throws Exception {
+        byte[] body = searchResponse(10);
+        Supplier<Object> before = () -> {
+            try {
+                JsonNode items = om.readTree(new String(body, StandardCharsets.UTF_8)).path("items");
+                List<String> ids = new ArrayList<>();
+                for (JsonNode item : items) {
+                    JsonNode sn = item.path("snippet");
+                    ids.add(item.path("id").path("videoId").asText("") + sn.path("title").asText("")
+                            + sn.path("channelTitle").asText("") + sn.path("thumbnails").path("medium").path("url").asText(""));
+                }
+                return ids;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Supplier<Object> after = () -> DataBufferJson.read(DefaultDataBufferFactory.sharedInstance.wrap(body),
+                YoutubeJsonReader::searchItems);
+
+        assertEquals(10, ((List<?>) after.get()).size());
+        report("youtube search.list", body.length, measure(before), measure(after));
+    }
+
+    @Test
+    void youtubeVideos() throws Exception {
+        byte[] body = videosResponse(10);
+        Supplier<Object> before = () -> {
+            try {
+                Map<String, String> views = new java.util.HashMap<>();
+                for (JsonNode v : om.readTree(new String(body, StandardCharsets.UTF_8)).path("items")) {
+                    views.put(v.path("id").asText(""), v.path("statistics").path("viewCount").asText("0")
+                            + v.path("snippet").path("categoryId").asText(""));
+                }
+                return views;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Supplier<Object> after = () -> DataBufferJson.read(DefaultDataBufferFactory.sharedInstance.wrap(body),
+                p -> YoutubeJsonReader.videoStats(p, 0L));
+
+        assertEquals(10, ((Map<?, ?>) after.get()).size());
+        report("youtube videos.list", body.length, measure(before), measure(after));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void geminiGenerateContent() throws Exception {
+        byte[] body = geminiResponse();
+        Supplier<Object> before = () -> {
+            try {
+                Map<String, Object> response = om.readValue(body, Map.class);
+                var cands = (List<Map<String, Object>>) response.get("candidates");
+                var content = (Map<String, Object>) cands.get(0).get("content");
+                StringBuilder sb = new StringBuilder();
+                for (Map<String, Object> p : (List<Map<String, Object>>) content.get("parts")) sb.append(p.get("text"));
+                return sb.toString();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Supplier<Object> after = () -> DataBufferJson.read(DefaultDataBufferFactory.sharedInstance.wrap(body),
+                GeminiJsonReader::candidateText);
+
+        assertEquals(before.get(), after.get());
+        report("gemini generateContent", body.length, measure(before), measure(after));
+    }
+
+    private static long measure(Supplier<Object> decode) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += decode.get().hashCode();
+        long tid = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < ITERATIONS; i++) sink += decode.get().hashCode();
+        long allocated = threads.getThreadAllocatedBytes(tid) - start;
+        if (sink == 42) System.out.print(""); // JIT 가 디코딩을 지우지 못하게
+        return allocated / ITERATIONS;
+    }
+
+    private static void report(String name, int payloadBytes, long before, long after) {
+        System.out.printf("[decode-alloc] %-24s payload=%dB before=%dB/req after=%dB/req (%.1fx)%n",
+                name, payloadBytes, before, after, (double) before / Math.max(1, after));
+    }
+
+    // ===== 실제 응답 모양의 샘플 =====
+
+    private static byte[] searchResponse(int n) {
+        StringBuilder sb = new StringBuilder("{\"kind\":\"youtube#searchListResponse\",\"etag\":\"e\",\"nextPageToken\":\"CAoQAA\","
+                + "\"regionCode\":\"KR\",\"pageInfo\":{\"totalResults\":1000000,\"resultsPerPage\":10},\"items\":[");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"kind\":\"youtube#searchResult\",\"etag\":\"etag").append(i).append("\",")
+                    .append("\"id\":{\"kind\":\"youtube#video\",\"videoId\":\"vid").append(i).append("xxxxxxx\"},")
+                    .append("\"snippet\":{\"publishedAt\":\"2024-05-0").append(i % 9 + 1).append("T10:00:00Z\",")
+                    .append("\"channelId\":\"UC").append(i).append("\",\"title\":\"비빔밥 먹방 ").append(i).append(" | 전주 비빔밥 리얼사운드\",")
+                    .append("\"description\":\"오늘은 전주에서 비빔밥을 먹어봤습니다. 구독과 좋아요 부탁드려요! #먹방 #비빔밥 #mukbang\",")
+                    .append("\"thumbnails\":{")
+                    .append("\"default\":{\"url\":\"https://i.ytimg.com/vi/vid").append(i).append("/default.jpg\",\"width\":120,\"height\":90},")
+                    .append("\"medium\":{\"url\":\"https://i.ytimg.com/vi/vid").append(i).append("/mqdefault.jpg\",\"width\":320,\"height\":180},")
+                    .append("\"high\":{\"url\":\"https://i.ytimg.com/vi/vid").append(i).append("/hqdefault.jpg\",\"width\":480,\"height\":360}},")
+                    .append("\"channelTitle\":\"먹방채널").append(i).append("\",\"liveBroadcastContent\":\"none\",")
+                    .append("\"publishTime\":\"2024-05-01T10:00:00Z\"}}");
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] videosResponse(int n) {
+        StringBuilder sb = new StringBuilder("{\"kind\":\"youtube#videoListResponse\",\"etag\":\"e\",\"items\":[");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"kind\":\"youtube#video\",\"etag\":\"etag").append(i).append("\",\"id\":\"vid").append(i).append("xxxxxxx\",")
+                    .append("\"snippet\":{\"publishedAt\":\"2024-05-01T10:00:00Z\",\"channelId\":\"UC").append(i).append("\",")
+                    .append("\"title\":\"비빔밥 먹방 ").append(i).append("\",")
+                    .append("\"description\":\"오늘은 전주에서 비빔밥을 먹어봤습니다. 구독과 좋아요 부탁드려요!\\n\\n#먹방 #비빔밥\",")
+                    .append("\"thumbnails\":{\"default\":{\"url\":\"https://i.ytimg.com/vi/x/default.jpg\",\"width\":120,\"height\":90}},")
+                    .append("\"channelTitle\":\"먹방채널\",\"tags\":[\"먹방\",\"비빔밥\",\"mukbang\",\"asmr\"],")
+                    .append("\"categoryId\":\"").append(i % 5 == 0 ? "20" : "22").append("\",\"liveBroadcastContent\":\"none\",")
+                    .append("\"localized\":{\"title\":\"비빔밥 먹방\",\"description\":\"설명\"},\"defaultAudioLanguage\":\"ko\"},")
+                    .append("\"statistics\":{\"viewCount\":\"").append(100_000 + i * 37).append("\",\"likeCount\":\"1234\",")
+                    .append("\"favoriteCount\":\"0\",\"commentCount\":\"56\"}}");
+        }
+        return sb.append("],\"pageInfo\":{\"totalResults\":10,\"resultsPerPage\":10}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] geminiResponse() throws Exception {
+        String recipe = "{\"title\":\"김치찌개\",\"category\":\"탕\",\"timeMin\":25,\"servings\":1,\"difficulty\":\"초급\","
+                + "\"ingredients\":[{\"name\":\"김치\",\"qty\":150,\"unit\":\"g\",\"label\":\"김치 150 g\"},"
+                + "{\"name\":\"돼지고기\",\"qty\":100,\"unit\":\"g\",\"label\":\"돼지고기 100 g\"},"
+                + "{\"name\":\"두부\",\"qty\":0.5,\"unit\":\"개\",\"label\":\"두부 0.5 개\"}],"
+                + "\"steps\":[{\"order\":1,\"text\":\"냄비를 세게 달궈 돼지고기를 볶는다.\"},"
+                + "{\"order\":2,\"text\":\"김치를 넣고 숨이 죽을 때까지 볶는다.\"},"
+                + "{\"order\":3,\"text\":\"물을 붓고 끓으면 불을 낮춰 10분 끓인다.\"},"
+                + "{\"order\":4,\"text\":\"두부를 넣고 5분 더 끓인다.\"}],\"chefNote\":\"김치가 시면 설탕 한 꼬집.\",\"tip\":\"\"}";
+        ObjectMapper om = new ObjectMapper();
+        String text = om.writeValueAsString(recipe); // JSON 문자열로 이스케이프
+        String body = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":" + text + "}],\"role\":\"model\"},"
+                + "\"finishReason\":\"STOP\",\"index\":0,\"safetyRatings\":["
+                + "{\"category\":\"HARM_CATEGORY_SEXUALLY_EXPLICIT\",\"probability\":\"NEGLIGIBLE\"},"
+                + "{\"category\":\"HARM_CATEGORY_HATE_SPEECH\",\"probability\":\"NEGLIGIBLE\"},"
+                + "{\"category\":\"HARM_CATEGORY_HARASSMENT\",\"probability\":\"NEGLIGIBLE\"},"
+                + "{\"category\":\"HARM_CATEGORY_DANGEROUS_CONTENT\",\"probability\":\"NEGLIGIBLE\"}]}],"
+                + "\"usageMetadata\":{\"promptTokenCount\":812,\"candidatesTokenCount\":402,\"totalTokenCount\":1214},"
+                + "\"modelVersion\":\"gemini-2.5-pro\"}";
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
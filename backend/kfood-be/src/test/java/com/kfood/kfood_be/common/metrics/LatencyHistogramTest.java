@@ -0,0 +1,38 @@
+package com.kfood.kfood_be.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void countsEachSampleInTheFirstBucketWhoseUpperBoundHoldsIt() {
+        LatencyHistogram histogram = new LatencyHistogram(1_000, 5_000);
+
+        histogram.record(0);
+        histogram.record(1_000);     // 상한 포함
+        histogram.record(1_001);
+        histogram.record(5_000);
+        histogram.record(5_001);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.snapshot())
+                .containsExactly(
+                        entry("le_1000", 2L),
+                        entry("le_5000", 2L),
+                        entry("le_inf", 2L));
+    }
+
+    @Test
+    void boundsAreCopied() {
+        long[] bounds = {100, 200};
+        LatencyHistogram histogram = new LatencyHistogram(bounds);
+        bounds[0] = 10;
+
+        histogram.record(50);
+
+        assertThat(histogram.snapshot()).containsEntry("le_100", 1L).containsEntry("le_200", 0L).containsEntry("le_inf", 0L);
+    }
+}
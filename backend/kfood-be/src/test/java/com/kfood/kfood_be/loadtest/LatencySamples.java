@@ -0,0 +1,36 @@
+package com.kfood.kfood_be.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 측정 구간의 모든 응답 지연(µs)을 그대로 모아 두고 끝에서 정렬해 분위수를 낸다.
+ * 샘플 수가 수백만 정도라 근사(히스토그램) 없이 p999 까지 정확하게.
+ */
+final class LatencySamples {
+
+    private long[] micros = new long[4096];
+    private int size;
+
+    synchronized void add(long latencyMicros) {
+        if (size == micros.length) micros = Arrays.copyOf(micros, size * 2);
+        micros[size++] = latencyMicros;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /** 정렬된 사본 (이후 분위수 계산용) */
+    synchronized long[] sorted() {
+        long[] copy = Arrays.copyOf(micros, size);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    /** p: 0~100, 샘플이 없으면 -1 (nearest-rank) */
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return -1;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+}
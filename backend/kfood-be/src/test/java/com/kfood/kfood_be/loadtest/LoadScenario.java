@@ -0,0 +1,198 @@
+package com.kfood.kfood_be.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * 시나리오 하나 = 요청 생성기 + 도착 모델.
+ * - OPEN  : 포아송 도착(초당 rate). 응답을 기다리지 않고 예정 시각에 보낸다 → 서버가 느려져도 부하가 줄지 않음.
+ *           지연은 "예정 시각"부터 잰다 (coordinated omission 방지). max-in-flight 초과분은 dropped.
+ * - CLOSED: users 명이 요청 → 응답 → 생각 시간(지수분포) 반복.
+ * warmup 동안 보낸 요청은 결과에서 뺀다. 측정 시작 시각(warmup 끝)에 atMeasureStart 를 한 번 부른다(업스트림 호출 수 기준점).
+ */
+final class LoadScenario {
+
+    enum Arrival { OPEN, CLOSED }
+
+    private final String name;
+    private final Arrival arrival;
+    private final double ratePerSecond;
+    private final int users;
+    private final Duration thinkTime;
+    private final Function<SplittableRandom, HttpRequest> requests;
+
+    private final LatencySamples samples = new LatencySamples();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder ok = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private LoadScenario(String name, Arrival arrival, double ratePerSecond, int users, Duration thinkTime,
+                         Function<SplittableRandom, HttpRequest> requests) {
+        this.name = name;
+        this.arrival = arrival;
+        this.ratePerSecond = ratePerSecond;
+        this.users = users;
+        this.thinkTime = thinkTime;
+        this.requests = requests;
+    }
+
+    static LoadScenario open(String name, double ratePerSecond, Function<SplittableRandom, HttpRequest> requests) {
+        return new LoadScenario(name, Arrival.OPEN, ratePerSecond, 0, Duration.ZERO, requests);
+    }
+
+    static LoadScenario closed(String name, int users, Duration thinkTime, Function<SplittableRandom, HttpRequest> requests) {
+        return new LoadScenario(name, Arrival.CLOSED, 0, users, thinkTime, requests);
+    }
+
+    String name() {
+        return name;
+    }
+
+    String describe() {
+        return arrival == Arrival.OPEN
+                ? "open " + ratePerSecond + "/s"
+                : "closed " + users + " users, think " + thinkTime.toMillis() + "ms";
+    }
+
+    /** 끝나면 결과 (지연 ms, 처리량은 측정 구간 기준) */
+    Map<String, Object> run(HttpClient client, Duration warmup, Duration duration, int maxInFlight, long seed,
+                            Runnable atMeasureStart) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        // 도착 루프의 페이스를 흐트리지 않게 별도 스레드에서
+        Thread marker = new Thread(() -> {
+            long wait;
+            while ((wait = measureFrom - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+            atMeasureStart.run();
+        }, "load-" + name + "-measure");
+        marker.setDaemon(true);
+        marker.start();
+        if (arrival == Arrival.OPEN) {
+            runOpen(client, start, measureFrom, end, maxInFlight, seed);
+        } else {
+            runClosed(client, measureFrom, end, seed);
+        }
+        marker.join();
+        return result(duration);
+    }
+
+    private void runOpen(HttpClient client, long start, long measureFrom, long end, int maxInFlight, long seed)
+            throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanGapNanos = 1e9 / ratePerSecond;
+        long next = start;
+        while (true) {
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (next >= end) break;
+            long wait;
+            while ((wait = next - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+
+            boolean measured = next >= measureFrom;
+            HttpRequest request = requests.apply(random);
+            if (measured) sent.increment();
+            if (!inFlight.tryAcquire()) {
+                if (measured) error("dropped");
+                continue;
+            }
+            long scheduledAt = next;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.release();
+                        if (measured) record(scheduledAt, response, failure);
+                    });
+        }
+        // 보낸 요청이 모두 끝날 때까지 (요청 타임아웃이 상한)
+        if (!inFlight.tryAcquire(maxInFlight, 10, TimeUnit.MINUTES)) error("unfinished");
+    }
+
+    private void runClosed(HttpClient client, long measureFrom, long end, long seed) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            SplittableRandom random = new SplittableRandom(seed + u);
+            Thread t = new Thread(() -> {
+                while (System.nanoTime() < end) {
+                    HttpRequest request = requests.apply(random);
+                    long t0 = System.nanoTime();
+                    boolean measured = t0 >= measureFrom;
+                    if (measured) sent.increment();
+                    HttpResponse<Void> response = null;
+                    Throwable failure = null;
+                    try {
+                        response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        failure = e;
+                    }
+                    if (measured) record(t0, response, failure);
+                    long think = (long) (-Math.log(1 - random.nextDouble()) * thinkTime.toNanos());
+                    if (think > 0) LockSupport.parkNanos(think);
+                }
+            }, "load-" + name + "-" + u);
+            t.setDaemon(true);
+            t.start();
+            threads.add(t);
+        }
+        for (Thread t : threads) t.join();
+    }
+
+    private void record(long startedAt, HttpResponse<?> response, Throwable failure) {
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            error(cause.getClass().getSimpleName());
+        } else if (response.statusCode() >= 400) {
+            error("http_" + response.statusCode());
+        } else {
+            ok.increment();
+            samples.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+        }
+    }
+
+    private void error(String kind) {
+        errors.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    private Map<String, Object> result(Duration duration) {
+        long[] sorted = samples.sorted();
+        long errorCount = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        long total = ok.sum() + errorCount;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("scenario", name);
+        out.put("arrival", describe());
+        out.put("sent", sent.sum());
+        out.put("ok", ok.sum());
+        out.put("errorRate", total == 0 ? 0.0 : (double) errorCount / total);
+        Map<String, Long> errorKinds = new TreeMap<>();
+        errors.forEach((k, v) -> errorKinds.put(k, v.sum()));
+        out.put("errors", errorKinds);
+        out.put("throughputPerSec", ok.sum() / (duration.toMillis() / 1000.0));
+        out.put("p50Ms", ms(LatencySamples.percentile(sorted, 50)));
+        out.put("p95Ms", ms(LatencySamples.percentile(sorted, 95)));
+        out.put("p99Ms", ms(LatencySamples.percentile(sorted, 99)));
+        out.put("p999Ms", ms(LatencySamples.percentile(sorted, 99.9)));
+        out.put("maxMs", ms(sorted.length == 0 ? -1 : sorted[sorted.length - 1]));
+        return out;
+    }
+
+    private static double ms(long micros) {
+        return micros < 0 ? -1 : Math.round(micros / 100.0) / 10.0;
+    }
+}
@@ -0,0 +1,360 @@
+package com.kfood.kfood_be.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kfood.kfood_be.KfoodBeApplication;
+import com.kfood.kfood_be.perf.RecipeCorpusVocabulary;
+import com.kfood.kfood_be.perf.ZipfSampler;
+import com.kfood.kfood_be.stub.LatencyModel;
+import com.kfood.kfood_be.stub.UpstreamStubServer;
+
+/**
+ * 종단 부하 측정 (./gradlew loadTest -Dload.*).
+ * 기본은 한 JVM 안에서 스텁 업스트림(UpstreamStubServer) + 앱(perf,stub 프로필: 내장 DB + 합성 코퍼스)을 띄우고
+ * 시나리오를 차례로 돌린다. -Dload.target=http://host:8080 이면 이미 떠 있는 서버를 친다(-Dload.stub 로 스텁 통계).
+ *
+ * 시나리오 (load.scenarios, 기본 전부):
+ * - prepare       : POST /api/recipes/prepare, 포아송 도착 load.prepare.rate/s, 재료 조합은 Zipf(load.skew)
+ * - search        : GET  /api/recipes/search?q=, 포아송 load.search.rate/s, 코퍼스와 같은 방식의 요리 이름
+ * - youtube       : GET  /youtube/search?q=, 포아송 load.youtube.rate/s
+ * - prepare-users : prepare 를 동시 사용자 load.users 명(생각 시간 load.think-time)으로
+ * - prepare-capacity : 동시 사용자 load.capacity.users 명이 생각 시간 없이, 매번 처음 보는 재료 조합으로 prepare
+ *                      (캐시/DB 를 못 타고 전부 Gemini 까지) → 스레드 모드별 동시 처리 수 비교용 (./gradlew threadingLoadTest)
+ *
+ * 시나리오마다 p50/p95/p99/p999, 처리량, 오류율, 업스트림 호출 수(warmup 이후 스텁 통계 증가분),
+ * 측정 구간의 업스트림 in-flight 평균/최대와 힙(내장 모드)을 출력하고
+ * build/reports/loadtest 에 JSON 으로 남긴다. load.slo.{시나리오}.p99-ms / .error-rate 를 넘으면 종료 코드 1.
+ * 내장 모드의 앱 설정은 -Dload.app.{키}={값} 으로 덮어쓴다 (예: -Dload.app.gemini.limiter.enabled=false).
+ * 시나리오끼리 섞이지 않게 시드는 시나리오마다 다르게 뽑고, 시작 전에 앱 캐시(레시피·YouTube)와 스텁 통계를 비운다
+ * (load.reset-caches=false 로 끔. DB 에 저장된 생성 레시피는 남는다).
+ * 내장 모드는 부하 생성기가 앱과 같은 JVM 이라 생성기 CPU/GC 가 지연에 섞인다 → 기준 수치는 -Dload.target 으로 따로 띄운 서버에서.
+ */
+public final class LoadTestRunner {
+
+    private static final ObjectMapper OM = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final List<String> ALL = List.of("prepare", "search", "youtube", "prepare-users");
+    private static final List<String> OPTIONAL = List.of("prepare-capacity");
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        Duration warmup = duration("load.warmup", "10s");
+        Duration duration = duration("load.duration", "60s");
+        Duration timeout = duration("load.timeout", "120s");
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 2_000);
+        SplittableRandom seeds = new SplittableRandom(Long.getLong("load.seed", 7));
+        boolean resetCaches = Boolean.parseBoolean(System.getProperty("load.reset-caches", "true"));
+        List<String> names = List.of(System.getProperty("load.scenarios", String.join(",", ALL)).split(","));
+        String profiles = System.getProperty("load.profiles", "perf,stub");
+        Duration sampleInterval = duration("load.sample-interval", "250ms");
+
+        UpstreamStubServer stub = null;
+        ConfigurableApplicationContext app = null;
+        String target = System.getProperty("load.target", "");
+        String stubUrl = System.getProperty("load.stub", "");
+        boolean inProcess = target.isBlank();
+        int exit;
+        try {
+            if (inProcess) {
+                UpstreamStubServer.Config c = UpstreamStubServer.Config.fromSystemProperties();
+                stub = UpstreamStubServer.start(new UpstreamStubServer.Config(0, c.gemini(), c.youtube(), c.chunkIntervalMs()));
+                stubUrl = "http://localhost:" + stub.port();
+                List<String> appArgs = new ArrayList<>(List.of(
+                        "--spring.profiles.active=" + profiles,
+                        "--stub.port=" + stub.port(),
+                        "--server.port=0"));
+                appArgs.addAll(appOverrides());
+                app = new SpringApplication(KfoodBeApplication.class).run(appArgs.toArray(String[]::new));
+                target = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            }
+            System.out.printf("[load] target=%s stub=%s warmup=%ds duration=%ds java=%d%s%n",
+                    target, stubUrl.isBlank() ? "-" : stubUrl, warmup.toSeconds(), duration.toSeconds(),
+                    Runtime.version().feature(), inProcess ? " profiles=" + profiles : "");
+            if (inProcess) System.out.println("[load] 부하 생성기가 앱과 같은 JVM 에서 돈다 (기준 수치는 -Dload.target 으로 별도 프로세스 서버에)");
+
+            // 데몬 스레드: 끝난 뒤 남은 응답 대기가 JVM 종료를 막지 않게
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newFixedThreadPool(32, r -> {
+                        Thread t = new Thread(r, "load-http");
+                        t.setDaemon(true);
+                        return t;
+                    }))
+                    .build();
+            Requests requests = new Requests(target, timeout);
+
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (String name : names) {
+                LoadScenario scenario = scenario(name.trim(), requests);
+                System.out.printf("[load] %s (%s) ...%n", scenario.name(), scenario.describe());
+                if (resetCaches) reset(client, target, stubUrl);
+                long seed = seeds.nextLong();
+                AtomicReference<Map<String, Long>> before = new AtomicReference<>(Map.of());
+                RuntimeSampler sampler = new RuntimeSampler(client, stubUrl, inProcess, sampleInterval);
+                Map<String, Object> result = scenario.run(client, warmup, duration, maxInFlight, seed, () -> {
+                    before.set(stubCounts(client, stubUrl));
+                    sampler.start(duration);
+                });
+                result.put("seed", seed);
+                result.put("upstream", delta(before.get(), stubCounts(client, stubUrl)));
+                result.putAll(sampler.stop());
+                results.add(result);
+            }
+
+            print(results);
+            List<String> violations = checkSlo(results);
+            violations.forEach(v -> System.out.println("[load] SLO 위반: " + v));
+            writeReport(target, inProcess, profiles, warmup, duration, results, violations);
+            exit = violations.isEmpty() ? 0 : 1;
+        } finally {
+            if (app != null) app.close();
+            if (stub != null) stub.close();
+        }
+        System.exit(exit);
+    }
+
+    private static LoadScenario scenario(String name, Requests requests) {
+        return switch (name) {
+            case "prepare" -> LoadScenario.open(name, rate("load.prepare.rate", 20), requests::prepare);
+            case "search" -> LoadScenario.open(name, rate("load.search.rate", 50), requests::search);
+            case "youtube" -> LoadScenario.open(name, rate("load.youtube.rate", 50), requests::youtube);
+            case "prepare-users" -> LoadScenario.closed(name, Integer.getInteger("load.users", 32),
+                    duration("load.think-time", "500ms"), requests::prepare);
+            case "prepare-capacity" -> LoadScenario.closed(name, Integer.getInteger("load.capacity.users", 1_000),
+                    Duration.ZERO, requests::prepareCold);
+            default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (가능: " + ALL + ", " + OPTIONAL + ")");
+        };
+    }
+
+    /** 요청 생성기: 재료/요리 이름은 perf 코퍼스와 같은 어휘·같은 Zipf 순위 → 캐시/DB 적중 분포가 코퍼스와 맞물린다 */
+    private static final class Requests {
+        private final String target;
+        private final Duration timeout;
+        private final ZipfSampler sampler = new ZipfSampler(RecipeCorpusVocabulary.INGREDIENTS.size(),
+                Double.parseDouble(System.getProperty("load.skew", "1.1")));
+        private final int minIngredients = Integer.getInteger("load.min-ingredients", 2);
+        private final int maxIngredients = Integer.getInteger("load.max-ingredients", 5);
+        private static final String DIGITS = "가나다라마바사아자차카타파하";
+
+        private final AtomicLong cold = new AtomicLong();
+
+        Requests(String target, Duration timeout) {
+            this.target = target;
+            this.timeout = timeout;
+        }
+
+        HttpRequest prepare(SplittableRandom random) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("ingredients", RecipeCorpusVocabulary.sampleNames(sampler, random,
+                    random.nextInt(minIngredients, maxIngredients + 1)));
+            if (random.nextInt(5) == 0) body.put("servings", 2 + random.nextInt(3)); // 20% 는 여러 인분
+            return post("/api/recipes/prepare", body);
+        }
+
+        // 코퍼스에 없는 재료 이름 두 개 → 정확 일치도 부분 집합 매칭도 안 되므로 매번 Gemini 생성
+        HttpRequest prepareCold(SplittableRandom random) {
+            long n = cold.incrementAndGet();
+            return post("/api/recipes/prepare", Map.of("ingredients", List.of("부하재료" + letters(n), "부하양념" + letters(n))));
+        }
+
+        HttpRequest search(SplittableRandom random) {
+            List<RecipeCorpusVocabulary.Item> items = RecipeCorpusVocabulary.sampleItems(sampler, random, 2);
+            String title = RecipeCorpusVocabulary.title(random, items, random.nextInt(RecipeCorpusVocabulary.CATEGORIES.size()));
+            return get("/api/recipes/search?q=" + URLEncoder.encode(title.strip(), StandardCharsets.UTF_8));
+        }
+
+        HttpRequest youtube(SplittableRandom random) {
+            String dish = RecipeCorpusVocabulary.sampleNames(sampler, random, 1).get(0);
+            return get("/youtube/search?q=" + URLEncoder.encode(dish + " 레시피", StandardCharsets.UTF_8));
+        }
+
+        private HttpRequest get(String pathAndQuery) {
+            return HttpRequest.newBuilder(URI.create(target + pathAndQuery)).timeout(timeout).GET().build();
+        }
+
+        private HttpRequest post(String path, Object body) {
+            try {
+                return HttpRequest.newBuilder(URI.create(target + path))
+                        .timeout(timeout)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(OM.writeValueAsString(body)))
+                        .build();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // 재료 파서가 숫자/단위 별칭(g, t, 개 …)을 수량으로 떼어내므로 일련번호는 단위가 아닌 한글 음절로
+        private static String letters(long n) {
+            StringBuilder sb = new StringBuilder();
+            do {
+                sb.append(DIGITS.charAt((int) (n % DIGITS.length())));
+                n /= DIGITS.length();
+            } while (n > 0);
+            return sb.toString();
+        }
+    }
+
+    // -Dload.app.gemini.limiter.enabled=false → --gemini.limiter.enabled=false
+    private static List<String> appOverrides() {
+        List<String> out = new ArrayList<>();
+        System.getProperties().forEach((k, v) -> {
+            String key = k.toString();
+            if (key.startsWith("load.app.")) out.add("--" + key.substring("load.app.".length()) + "=" + v);
+        });
+        return out;
+    }
+
+    // ========= 시나리오 사이 초기화 =========
+
+    private static void reset(HttpClient client, String target, String stubUrl) {
+        send(client, HttpRequest.newBuilder(URI.create(target + "/api/admin/recipes/cache")).DELETE().build());
+        send(client, HttpRequest.newBuilder(URI.create(target + "/api/admin/youtube/cache")).DELETE().build());
+        if (!stubUrl.isBlank()) {
+            send(client, HttpRequest.newBuilder(URI.create(stubUrl + "/__stub/reset"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build());
+        }
+    }
+
+    private static void send(HttpClient client, HttpRequest request) {
+        try {
+            HttpResponse<Void> r = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (r.statusCode() >= 400) System.out.println("[load] 초기화 실패: " + request.uri() + " → " + r.statusCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.out.println("[load] 초기화 실패: " + request.uri() + " → " + e);
+        }
+    }
+
+    // ========= 업스트림 호출 수 (스텁 /__stub/stats 증가분) =========
+
+    private static Map<String, Long> stubCounts(HttpClient client, String stubUrl) {
+        if (stubUrl.isBlank()) return Map.of();
+        try {
+            HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(stubUrl + "/__stub/stats")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return OM.readValue(r.body(), new TypeReference<Map<String, Long>>() {});
+        } catch (Exception e) {
+            System.out.println("[load] 스텁 통계 조회 실패: " + e);
+            return Map.of();
+        }
+    }
+
+    private static Map<String, Long> delta(Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> out = new TreeMap<>();
+        long gemini = 0;
+        long youtube = 0;
+        for (Map.Entry<String, Long> e : after.entrySet()) {
+            long d = e.getValue() - before.getOrDefault(e.getKey(), 0L);
+            if (d <= 0) continue;
+            out.put(e.getKey(), d);
+            // 결과 접미어(:429, :quotaExceeded …)가 없는 키가 실제 호출 수
+            String k = e.getKey();
+            if (k.startsWith("gemini.") && k.indexOf(':') == k.lastIndexOf(':')) gemini += d;
+            if (k.startsWith("youtube.") && k.indexOf(':') < 0) youtube += d;
+        }
+        out.put("geminiCalls", gemini);
+        out.put("youtubeCalls", youtube);
+        return out;
+    }
+
+    // ========= 보고 =========
+
+    private static void print(List<Map<String, Object>> results) {
+        String fmt = "%-14s %8s %8s %7s %8s %9s %9s %9s %9s %9s %7s %7s%n";
+        System.out.printf(fmt, "scenario", "sent", "ok", "err%", "rps", "p50ms", "p95ms", "p99ms", "p999ms", "maxMs", "gemini", "youtube");
+        for (Map<String, Object> r : results) {
+            @SuppressWarnings("unchecked")
+            Map<String, Long> upstream = (Map<String, Long>) r.get("upstream");
+            System.out.printf(fmt, r.get("scenario"), r.get("sent"), r.get("ok"),
+                    String.format("%.2f", (double) r.get("errorRate") * 100),
+                    String.format("%.1f", (double) r.get("throughputPerSec")),
+                    r.get("p50Ms"), r.get("p95Ms"), r.get("p99Ms"), r.get("p999Ms"), r.get("maxMs"),
+                    upstream.getOrDefault("geminiCalls", 0L), upstream.getOrDefault("youtubeCalls", 0L));
+            Object errors = r.get("errors");
+            if (errors instanceof Map<?, ?> m && !m.isEmpty()) System.out.println("               errors " + m);
+            if (r.get("upstreamInFlight") != null) System.out.println("               in-flight " + r.get("upstreamInFlight"));
+            if (r.get("heap") != null) System.out.println("               heap " + r.get("heap"));
+        }
+    }
+
+    private static List<String> checkSlo(List<Map<String, Object>> results) {
+        List<String> violations = new ArrayList<>();
+        for (Map<String, Object> r : results) {
+            String name = (String) r.get("scenario");
+            String p99 = System.getProperty("load.slo." + name + ".p99-ms");
+            if (p99 != null && (double) r.get("p99Ms") > Double.parseDouble(p99)) {
+                violations.add(name + " p99 " + r.get("p99Ms") + "ms > " + p99 + "ms");
+            }
+            String errorRate = System.getProperty("load.slo." + name + ".error-rate");
+            if (errorRate != null && (double) r.get("errorRate") > Double.parseDouble(errorRate)) {
+                violations.add(name + " errorRate " + r.get("errorRate") + " > " + errorRate);
+            }
+        }
+        return violations;
+    }
+
+    private static void writeReport(String target, boolean inProcess, String profiles, Duration warmup, Duration duration,
+                                    List<Map<String, Object>> results, List<String> violations) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("target", target);
+        report.put("mode", inProcess
+                ? "in-process: 앱·스텁·부하 생성기가 같은 JVM (생성기 부하가 지연에 섞임)"
+                : "external: 부하 생성기만 이 JVM");
+        if (inProcess) report.put("profiles", profiles);
+        report.put("javaVersion", Runtime.version().feature());
+        report.put("warmupSec", warmup.toSeconds());
+        report.put("durationSec", duration.toSeconds());
+        Map<String, String> settings = new TreeMap<>();
+        System.getProperties().forEach((k, v) -> {
+            String key = k.toString();
+            if (key.startsWith("load.") || key.startsWith("stub.") || key.startsWith("perf.")) settings.put(key, v.toString());
+        });
+        report.put("settings", settings);
+        report.put("results", results);
+        report.put("sloViolations", violations);
+
+        Path dir = Path.of(System.getProperty("load.report-dir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        String label = System.getProperty("load.label", "");
+        Path file = dir.resolve("loadtest-" + (label.isBlank() ? "" : label + "-") + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        OM.writeValue(file.toFile(), report);
+        System.out.println("[load] report " + file.toAbsolutePath());
+    }
+
+    private static Duration duration(String key, String def) {
+        return Duration.ofMillis(LatencyModel.millis(System.getProperty(key, def)));
+    }
+
+    private static double rate(String key, double def) {
+        return Double.parseDouble(System.getProperty(key, String.valueOf(def)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.kfood.kfood_be.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 측정 구간 동안 일정 간격으로 스텁의 업스트림 in-flight(/__stub/in-flight)와, 내장 모드면 힙 사용량을 잰다.
+ * 업스트림 지연이 고정이면 Gemini in-flight 평균 = 앱이 그 지연 동안 동시에 붙들고 있는 요청 수 (스레드 모드 비교 기준).
+ * 힙은 앱·스텁·부하 생성기가 같은 JVM 이라 셋을 합친 값이다 (모드끼리 비교할 때는 같은 -Xmx·같은 부하로).
+ */
+final class RuntimeSampler {
+
+    private static final ObjectMapper OM = new ObjectMapper();
+
+    private final HttpClient client;
+    private final String stubUrl;
+    private final boolean heap;
+    private final Duration interval;
+
+    private final Map<String, long[]> upstream = new TreeMap<>();   // 이름 → {합, 최댓값}
+    private long samples;
+    private long heapSum;
+    private long heapPeak;
+    private long gcCountBefore;
+    private long gcTimeBefore;
+    private Thread thread;
+
+    RuntimeSampler(HttpClient client, String stubUrl, boolean heap, Duration interval) {
+        this.client = client;
+        this.stubUrl = stubUrl;
+        this.heap = heap;
+        this.interval = interval;
+    }
+
+    /** 지금부터 duration 동안 샘플링 (측정 시작 시점에 한 번) */
+    void start(Duration duration) {
+        long end = System.nanoTime() + duration.toNanos();
+        gcCountBefore = gc(true);
+        gcTimeBefore = gc(false);
+        thread = new Thread(() -> {
+            while (System.nanoTime() < end) {
+                sample();
+                LockSupport.parkNanos(interval.toNanos());
+            }
+        }, "load-sampler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 샘플링이 끝나길 기다려 결과 (start 가 불리지 않았으면 빈 결과) */
+    Map<String, Object> stop() throws InterruptedException {
+        Map<String, Object> out = new LinkedHashMap<>();
+        if (thread == null) return out;
+        thread.join();
+        if (samples == 0) return out;
+
+        Map<String, Object> inFlight = new TreeMap<>();
+        upstream.forEach((name, v) -> inFlight.put(name, Map.of(
+                "avg", Math.round(v[0] * 10.0 / samples) / 10.0,
+                "peak", v[1])));
+        out.put("upstreamInFlight", inFlight);
+        if (heap) {
+            Map<String, Object> h = new LinkedHashMap<>();
+            h.put("usedAvgMb", (heapSum / samples) >> 20);
+            h.put("usedPeakMb", heapPeak >> 20);
+            h.put("maxMb", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax() >> 20);
+            h.put("gcCount", gc(true) - gcCountBefore);
+            h.put("gcTimeMs", gc(false) - gcTimeBefore);
+            out.put("heap", h);
+        }
+        return out;
+    }
+
+    private void sample() {
+        samples++;
+        if (heap) {
+            long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            heapSum += used;
+            heapPeak = Math.max(heapPeak, used);
+        }
+        if (stubUrl.isBlank()) return;
+        try {
+            HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(stubUrl + "/__stub/in-flight")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Map<String, Long> now = OM.readValue(r.body(), new TypeReference<Map<String, Long>>() {});
+            now.forEach((name, n) -> {
+                long[] v = upstream.computeIfAbsent(name, k -> new long[2]);
+                v[0] += n;
+                v[1] = Math.max(v[1], n);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.out.println("[load] 스텁 in-flight 조회 실패: " + e);
+        }
+    }
+
+    private static long gc(boolean count) {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long v = count ? gc.getCollectionCount() : gc.getCollectionTime();
+            if (v > 0) sum += v;
+        }
+        return sum;
+    }
+}
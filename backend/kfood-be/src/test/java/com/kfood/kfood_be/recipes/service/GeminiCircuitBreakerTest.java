@@ -0,0 +1,56 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+class GeminiCircuitBreakerTest {
+
+    // 최근 4건 중 절반 이상 장애면 OPEN, 50ms 뒤 시험 호출 1건
+    private final GeminiCircuitBreaker breaker = new GeminiCircuitBreaker(true, 4, 4, 0.5,
+            Duration.ofMillis(50), Duration.ofMillis(200), 1);
+
+    @Test
+    void opensOnUpstreamFailuresAndRejectsWithoutCalling() {
+        breaker.acquire().success();
+        breaker.acquire().failure(new IllegalStateException("parts.text 비어있음")); // 상류는 응답함 → 성공
+        breaker.acquire().failure(new TimeoutException());
+        assertThat(breaker.state()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+
+        breaker.acquire().failure(new TimeoutException());
+
+        assertThat(breaker.state()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThatThrownBy(breaker::acquire)
+                .isInstanceOf(GeminiUnavailableException.class)
+                .hasFieldOrPropertyWithValue("reason", "circuit-open");
+    }
+
+    @Test
+    void halfOpenAllowsOneProbeAndClosesOnSuccess() throws Exception {
+        for (int i = 0; i < 4; i++) breaker.acquire().failure(new TimeoutException());
+        Thread.sleep(80);
+
+        GeminiCircuitBreaker.Ticket probe = breaker.acquire();
+        assertThat(breaker.state()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(breaker::acquire).isInstanceOf(GeminiUnavailableException.class);
+
+        probe.success();
+        assertThat(breaker.state()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopensForLonger() throws Exception {
+        for (int i = 0; i < 4; i++) breaker.acquire().failure(new TimeoutException());
+        Thread.sleep(80);
+
+        breaker.acquire().failure(new TimeoutException());
+
+        assertThat(breaker.state()).isEqualTo(GeminiCircuitBreaker.State.OPEN);
+        assertThat(breaker.stats()).containsEntry("currentOpenMs", 100L);
+    }
+}
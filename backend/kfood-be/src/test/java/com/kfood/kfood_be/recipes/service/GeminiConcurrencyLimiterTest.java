@@ -0,0 +1,57 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+class GeminiConcurrencyLimiterTest {
+
+    private final GeminiModelRouter router =
+            new GeminiModelRouter(List.of("m"), Duration.ofSeconds(20), 1200, 0.8, 20, 20);
+
+    // 한도 4, 대기열 2, 대기 200ms
+    private GeminiConcurrencyLimiter limiter() {
+        return new GeminiConcurrencyLimiter(router, true, 4, 2, 8, 0.5, 2.0,
+                Duration.ofSeconds(10), Duration.ZERO, 2, Duration.ofMillis(200));
+    }
+
+    @Test
+    void queuesUpToCapacityThenShedsAndHandsOffInOrder() throws Exception {
+        GeminiConcurrencyLimiter limiter = limiter();
+        List<GeminiConcurrencyLimiter.Permit> held = new ArrayList<>();
+        for (int i = 0; i < 4; i++) held.add(limiter.acquire("m"));
+
+        CompletableFuture<GeminiConcurrencyLimiter.Permit> first = limiter.acquireAsync("m");
+        CompletableFuture<GeminiConcurrencyLimiter.Permit> second = limiter.acquireAsync("m");
+        assertThatThrownBy(() -> limiter.acquire("m"))
+                .isInstanceOf(GeminiUnavailableException.class)
+                .hasFieldOrPropertyWithValue("reason", "queue-full");
+
+        held.get(0).success();
+        assertThat(first.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GeminiUnavailableException.class);
+        assertThat(limiter.stats()).containsEntry("inFlight", 4).containsEntry("queueDepth", 0);
+    }
+
+    @Test
+    void overloadSignalShrinksLimitAndReleaseIsCountedOnce() {
+        GeminiConcurrencyLimiter limiter = limiter();
+        GeminiConcurrencyLimiter.Permit permit = limiter.acquire("m");
+
+        permit.failure(new TimeoutException());
+        permit.success();
+
+        assertThat(limiter.stats()).containsEntry("limit", 2).containsEntry("inFlight", 0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.common.json.DataBufferJson;
+
+class GeminiJsonReaderTest {
+
+    @Test
+    void joinsTextOfAllPartsOfTheFirstCandidate() {
+        String body = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"{\\\"title\\\":\"},{\"thought\":true},"
+                + "{\"text\":\"\\\"라면\\\"}\"}],\"role\":\"model\"},\"finishReason\":\"STOP\"},"
+                + "{\"content\":{\"parts\":[{\"text\":\"두 번째 후보\"}]}}],"
+                + "\"usageMetadata\":{\"totalTokenCount\":12}}";
+
+        assertThat(read(body)).isEqualTo("{\"title\":\"라면\"}");
+    }
+
+    @Test
+    void missingOrEmptyCandidatesGiveEmptyText() {
+        assertThat(read("{\"promptFeedback\":{\"blockReason\":\"SAFETY\"}}")).isEmpty();
+        assertThat(read("{\"candidates\":[]}")).isEmpty();
+        assertThat(read("{\"candidates\":[\"oops\"]}")).isEmpty();
+        assertThat(read("[]")).isEmpty();
+    }
+
+    @Test
+    void nonObjectPartsAreSkippedWithoutLosingLaterParts() {
+        String body = "{\"candidates\":[{\"content\":{\"parts\":[\"x\",null,[1,2],{\"text\":\"김치\"},7,{\"text\":\"찌개\"}]},"
+                + "\"finishReason\":\"STOP\"}],\"modelVersion\":\"v\"}";
+
+        assertThat(read(body)).isEqualTo("김치찌개");
+    }
+
+    private static String read(String body) {
+        return DataBufferJson.read(body, GeminiJsonReader::candidateText);
+    }
+}
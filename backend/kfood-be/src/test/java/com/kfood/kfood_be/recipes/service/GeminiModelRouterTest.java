@@ -0,0 +1,153 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class GeminiModelRouterTest {
+
+    private static final int SIMPLE = 100;
+    private static final int COMPLEX = 5_000;
+
+    // 빠른 → 상위 순, 예산 20s, 복잡 기준 1200자, 성공률 0.8 / 최소 20건, 20번에 한 번 시험
+    private final GeminiModelRouter router = new GeminiModelRouter(List.of("lite", "flash", "pro"),
+            Duration.ofSeconds(20), 1200, 0.8, 20, 20);
+
+    @Test
+    void withoutSamplesSimplePromptGetsFastestAndComplexGetsTopModel() {
+        GeminiModelRouter.Route simple = router.route(SIMPLE, null);
+        GeminiModelRouter.Route complex = router.route(COMPLEX, null);
+
+        assertThat(simple.models()).containsExactly("lite", "flash", "pro");
+        assertThat(simple.reason()).isEqualTo("simple");
+        assertThat(complex.models()).containsExactly("pro");
+        assertThat(complex.reason()).isEqualTo("complex");
+    }
+
+    @Test
+    void modelIsCandidateOnlyWhileP95FitsTheBudget() {
+        // 20건 중 19건 1000ms → p95 = 1000ms
+        for (int i = 0; i < 19; i++) router.recordLatency("lite", 1_000);
+        router.recordLatency("lite", 90_000);
+
+        assertThat(router.route(SIMPLE, Duration.ofMillis(1_000)).primary()).isEqualTo("lite");   // p95 == 예산
+        assertThat(router.route(SIMPLE, Duration.ofMillis(999)).primary()).isEqualTo("flash");
+
+        // 예산 null 이면 기본 20s
+        for (int i = 0; i < 40; i++) router.recordLatency("lite", 25_000);
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("flash");
+    }
+
+    @Test
+    void whenNothingFitsFallsBackToLowestMedian() {
+        for (int i = 0; i < 20; i++) {
+            router.recordLatency("lite", 9_000);
+            router.recordLatency("flash", 4_000);
+            router.recordLatency("pro", 7_000);
+        }
+
+        GeminiModelRouter.Route route = router.route(SIMPLE, Duration.ofSeconds(1));
+
+        assertThat(route.reason()).isEqualTo("over-budget");
+        assertThat(route.models()).containsExactly("flash", "pro");
+    }
+
+    @Test
+    void successRateIsMeasuredOverTheLastHundredOutcomes() {
+        for (int i = 0; i < 19; i++) router.recordParse("lite", false);
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("lite");       // 표본 부족 → 아직 후보
+
+        router.recordParse("lite", false);                                        // 20건 모두 실패
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("flash");
+
+        for (int i = 0; i < 79; i++) router.recordParse("lite", true);            // 79/99 < 0.8
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("flash");
+
+        router.recordParse("lite", true);                                         // 80/100
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("lite");
+
+        // 링이 가득 찬 뒤에는 오래된 결과가 밀려난다: 실패 20건 → 80% 유지, 21건째에 79%
+        for (int i = 0; i < 20; i++) router.recordParse("lite", false);
+        assertThat(stat("lite", "recentSuccessRate")).isEqualTo(0.8);
+        router.recordParse("lite", false);
+        assertThat(stat("lite", "recentSuccessRate")).isEqualTo(0.79);
+        assertThat(stat("lite", "healthy")).isEqualTo(false);
+    }
+
+    @Test
+    void callErrorsCountAsFailures() {
+        for (int i = 0; i < 20; i++) router.recordCallError("lite");
+
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("flash");
+        assertThat(stat("lite", "callErrors")).isEqualTo(20L);
+    }
+
+    @Test
+    void everyTwentiethRouteProbesIgnoringHealthAndBudget() {
+        for (int i = 0; i < 20; i++) {
+            router.recordParse("lite", false);
+            router.recordLatency("lite", 60_000);
+        }
+
+        for (int i = 1; i < 20; i++) {
+            GeminiModelRouter.Route route = router.route(SIMPLE, null);
+            assertThat(route.primary()).as("route #%d", i).isEqualTo("flash");
+            assertThat(route.reason()).isEqualTo("simple");
+        }
+        GeminiModelRouter.Route probe = router.route(SIMPLE, null);
+        assertThat(probe.primary()).isEqualTo("lite");
+        assertThat(probe.reason()).isEqualTo("probe");
+
+        assertThat(router.route(SIMPLE, null).primary()).isEqualTo("flash");
+        assertThat(decisions()).containsEntry("flash:simple", 20L).containsEntry("lite:probe", 1L);
+    }
+
+    @Test
+    void parseFailuresMoveTheRouteUpTheEscalationOrder() {
+        assertThat(router.route(SIMPLE, null).models()).containsExactly("lite", "flash", "pro");
+
+        // GeminiService: lite 파싱 실패 → flash 로 승급
+        for (int i = 0; i < 20; i++) {
+            router.recordParse("lite", false);
+            router.recordEscalation("lite", "flash");
+            router.recordParse("flash", true);
+        }
+        assertThat(router.route(SIMPLE, null).models()).containsExactly("flash", "pro");
+
+        for (int i = 0; i < 20; i++) {
+            router.recordParse("flash", false);
+            router.recordEscalation("flash", "pro");
+        }
+        // flash 는 20/40 = 50% → 제외
+        assertThat(router.route(SIMPLE, null).models()).containsExactly("pro");
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> escalations = (Map<String, Object>) router.stats().get("escalations");
+        assertThat(escalations).containsEntry("lite->flash", 20L).containsEntry("flash->pro", 20L);
+    }
+
+    @Test
+    void unknownModelsAreIgnored() {
+        router.recordLatency("ultra", 1_000);
+        router.recordParse("ultra", false);
+
+        assertThat(router.medianMs("ultra")).isEqualTo(-1);
+        assertThat(router.medianMs("lite")).isEqualTo(-1);
+        assertThat(router.stats()).doesNotContainKey("ultra");
+    }
+
+    private Object stat(String model, String key) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> one = (Map<String, Object>) router.stats().get(model);
+        return one.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> decisions() {
+        return (Map<String, Object>) router.stats().get("decisions");
+    }
+}
@@ -0,0 +1,94 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+/** perf 스키마(H2, Oracle 모드)에 실제로 써 본다: 시퀀스 블록 ID + 헤더/재료/단계 batch insert */
+class GeneratedRecipeWriterTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:writer-" + System.nanoTime() + ";MODE=Oracle;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    private final RecipeNameIndex nameIndex = mock(RecipeNameIndex.class);
+    private final IngredientMatchIndex matchIndex = mock(IngredientMatchIndex.class);
+    private final GeneratedRecipeWriter writer;
+
+    GeneratedRecipeWriterTest() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/perf/schema-h2.sql")).execute(dataSource);
+        writer = new GeneratedRecipeWriter(jdbc, new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                nameIndex, matchIndex, true, 1000, 40, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Test
+    void headersGetBlockIdsAndChildRowsFollowThem() {
+        List<RecipeResponseDto> recipes = new ArrayList<>();
+        for (int i = 0; i < 120; i++) recipes.add(recipe("레시피 " + i, i % 3 == 0 ? "찌개" : "볶음"));
+        writer.enqueue(RecipeService.cacheKeyOf(List.of("김치", "두부"), null), recipes);
+
+        writer.flushOnce();   // 40건씩 3 batch → ID 블록(50) 3개에 걸친다
+
+        List<Long> ids = jdbc.queryForList("SELECT ID FROM GENERATED_RECIPE ORDER BY ID", Long.class);
+        assertThat(ids).hasSize(120).doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isEqualTo(1L);
+        assertThat(ids.get(119)).isEqualTo(120L);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM GENERATED_RECIPE_INGREDIENT", Long.class)).isEqualTo(240L);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM GENERATED_RECIPE_STEP", Long.class)).isEqualTo(120L);
+
+        Map<String, Object> first = jdbc.queryForMap(
+                "SELECT r.FOOD, r.INGREDIENT_KEY, r.CATEGORY, r.TIME_MIN, i.NAME, i.SEQ FROM GENERATED_RECIPE r"
+                        + " JOIN GENERATED_RECIPE_INGREDIENT i ON i.RECIPE_ID = r.ID WHERE r.ID = 1 AND i.SEQ = 2");
+        assertThat(first).containsEntry("FOOD", "레시피 0").containsEntry("INGREDIENT_KEY", "김치,두부")
+                .containsEntry("CATEGORY", "찌개").containsEntry("NAME", "두부");
+        assertThat(((Number) first.get("TIME_MIN")).intValue()).isEqualTo(20);
+        assertThat(writer.stats()).containsEntry("written", 120L).containsEntry("failedRows", 0L);
+        verify(nameIndex, times(120)).add(anyString());
+    }
+
+    @Test
+    void laterBatchesContinueAfterTheCurrentBlock() {
+        writer.enqueue(RecipeService.cacheKeyOf(List.of("두부"), null), List.of(recipe("두부조림", "조림")));
+        writer.flushOnce();
+        writer.enqueue(RecipeService.cacheKeyOf(List.of("김치"), null), List.of(recipe("김치전", "전")));
+        writer.flushOnce();
+
+        assertThat(jdbc.queryForList("SELECT ID FROM GENERATED_RECIPE ORDER BY ID", Long.class)).containsExactly(1L, 2L);
+        // 시퀀스는 블록당 한 번만
+        assertThat(jdbc.queryForObject("SELECT GENERATED_RECIPE_SEQ.NEXTVAL FROM DUAL", Long.class)).isEqualTo(100L);
+    }
+
+    private static RecipeResponseDto recipe(String title, String category) {
+        return RecipeResponseDto.builder()
+                .title(title)
+                .category(category)
+                .timeMin(20)
+                .difficulty("쉬움")
+                .ingredients(List.of(
+                        RecipeResponseDto.Ingredient.builder().name("김치").qty(100.0).unit("g").label("김치 100.0 g").build(),
+                        RecipeResponseDto.Ingredient.builder().name("두부").qty(0.5).unit("모").label("두부 0.5 모").build()))
+                .steps(List.of(RecipeResponseDto.Step.builder().order(1).text("끓인다.").build()))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+class IngredientLineParserTest {
+
+    @Test
+    void parsesNameQuantityUnitInBothOrders() {
+        assertParsed("간장 1.5 큰술", "간장", 1.5, "큰술");
+        assertParsed("• 물 1 1/2 컵", "물", 1.5, "컵");
+        assertParsed("두부 1 모 (300g)", "두부 1 모", null, null);
+        assertParsed("소고기 (불고기용) 300 g", "소고기", 300.0, "g");
+        assertParsed("다진 마늘 1 큰 술", "다진 마늘", 1.0, "큰술");
+        assertParsed("라임 ½ 개", "라임", 0.5, "개");
+        assertParsed("돼지고기 0,5 kg", "돼지고기", 500.0, "g");
+        assertParsed("2 tbsp 고추장", "고추장", 2.0, "큰술");
+        assertParsed("1 tsp sugar", "sugar", 1.0, "작은술");
+        assertParsed("2 Tablespoons gochugaru", "gochugaru", 2.0, "큰술");
+        assertParsed("우유 1 liter", "우유", 1.0, "L");
+        assertParsed("소금 약간", "소금 약간", null, null);
+    }
+
+    @Test
+    void normalizesUnitsAndQuantities() {
+        assertThat(IngredientLineParser.normalizeUnit(" Tbsp ")).isEqualTo("큰술");
+        assertThat(IngredientLineParser.normalizeUnit("작은 술")).isEqualTo("작은술");
+        assertThat(IngredientLineParser.normalizeUnit("줌")).isEqualTo("줌");
+        assertThat(IngredientLineParser.parseQuantity("3/4")).isEqualTo(0.75);
+        assertThat(IngredientLineParser.parseQuantity("1 1/2")).isEqualTo(1.5);
+        assertThat(IngredientLineParser.parseQuantity("0.1")).isEqualTo(0.1);
+        assertThat(IngredientLineParser.parseQuantity("약간")).isNull();
+    }
+
+    private static void assertParsed(String line, String name, Double qty, String unit) {
+        RecipeResponseDto.Ingredient ing = IngredientLineParser.parse(line);
+        assertThat(ing.getName()).as(line).isEqualTo(name);
+        assertThat(ing.getQty()).as(line).isEqualTo(qty);
+        assertThat(ing.getUnit()).as(line).isEqualTo(unit);
+    }
+}
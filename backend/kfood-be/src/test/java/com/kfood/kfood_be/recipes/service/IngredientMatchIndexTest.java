@@ -0,0 +1,56 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IngredientMatchIndexTest {
+
+    private final IngredientMatchIndex index = new IngredientMatchIndex(null, true, 1.0, 0.4);
+
+    @Test
+    void sameIngredientSetIsIndexedOnce() {
+        index.add("김치,두부");
+        index.add("김치,두부");
+        index.add("두부,김치,");
+        index.add("김치,돼지고기,두부");
+
+        assertThat(index.size()).isEqualTo(2);
+        // 중복 행이 상위 k 를 채우지 않는다
+        assertThat(index.match(List.of("김치", "돼지고기", "두부"), 3))
+                .extracting(IngredientMatchIndex.Match::ingredients)
+                .containsExactly(List.of("김치", "돼지고기", "두부"), List.of("김치", "두부"));
+    }
+
+    @Test
+    void onlyStoredSetsCoveredByTheRequestMatchBestFirst() {
+        index.add("김치,두부");
+        index.add("김치,두부,양파");
+        index.add("계란,김치,두부,양파,파");
+        index.add("된장,두부");
+
+        List<IngredientMatchIndex.Match> matches = index.match(List.of("김치", "두부", "양파", "참치"), 5);
+
+        assertThat(matches).extracting(IngredientMatchIndex.Match::ingredients)
+                .containsExactly(List.of("김치", "두부", "양파"), List.of("김치", "두부"));
+        assertThat(matches.get(0).coverage()).isEqualTo(1.0);
+        assertThat(matches.get(0).jaccard()).isEqualTo(0.75);
+        assertThat(index.match(List.of("참치", "마요네즈"), 5)).isEmpty();
+    }
+
+    @Test
+    void idsAcrossWordBoundariesStillMatch() {
+        for (int i = 0; i < 200; i++) index.add("재료" + i + ",공통");
+        index.add("재료150,재료3");
+
+        // 재료3 과 재료150 은 서로 다른 64bit 단어
+        assertThat(index.match(List.of("재료3", "재료150"), 5))
+                .singleElement()
+                .satisfies(m -> {
+                    assertThat(m.ingredients()).containsExactly("재료150", "재료3");
+                    assertThat(m.jaccard()).isEqualTo(1.0);
+                });
+    }
+}
@@ -0,0 +1,113 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kfood.kfood_be.recipes.dto.RecipeBatchItemDto;
+import com.kfood.kfood_be.recipes.dto.RecipeRequestDto;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+class RecipeBatchServiceTest {
+
+    private final RecipeService recipeService = mock(RecipeService.class);
+
+    @Test
+    void sameNormalizedKeyIsGeneratedOnceAndAnswersAllIndexes() {
+        when(recipeService.findReady(any())).thenReturn(Optional.empty());
+        when(recipeService.generateMissing(any(), any())).thenReturn(List.of(recipe("김치찌개")));
+        RecipeBatchService batch = new RecipeBatchService(recipeService, 30, 4, Duration.ofSeconds(5));
+
+        List<RecipeBatchItemDto> items = run(batch,
+                request(List.of("김치", "두부"), null),
+                request(List.of("두부", " 김치 "), null));
+
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getIndexes()).containsExactly(0, 1);
+        assertThat(items.get(0).getSource()).isEqualTo("GENERATED");
+        verify(recipeService, times(1)).generateMissing(any(), any());
+        assertThat(batch.stats()).containsEntry("deduped", 1L).containsEntry("generated", 1L);
+    }
+
+    @Test
+    void differentServingsFanOutFromTheSameRecipes() {
+        when(recipeService.findReady(any())).thenReturn(Optional.of(List.of(recipe("김치찌개"))));
+        RecipeBatchService batch = new RecipeBatchService(recipeService, 30, 4, Duration.ofSeconds(5));
+
+        List<RecipeBatchItemDto> items = run(batch,
+                request(List.of("김치", "두부"), 1),
+                request(List.of("김치", "두부"), 3),
+                request(List.of("두부", "김치"), 3));
+
+        items.sort(Comparator.comparing(i -> i.getIndexes().get(0)));
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getIndexes()).containsExactly(0);
+        assertThat(items.get(1).getIndexes()).containsExactly(1, 2);
+        assertThat(items).allSatisfy(i -> assertThat(i.getSource()).isEqualTo("READY"));
+        assertThat(items.get(1).getRecipes().get(0).getServings()).isEqualTo(3);
+        assertThat(items.get(1).getRecipes().get(0).getIngredients().get(0).getQty()).isEqualTo(300.0);
+    }
+
+    @Test
+    void timeoutFallsBackWithoutInterruptingTheSharedGeneration() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(recipeService.findReady(any())).thenReturn(Optional.empty());
+        when(recipeService.generateMissing(any(), any())).thenAnswer(inv -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return List.of(recipe("김치찌개"));
+        });
+        when(recipeService.fallbackRecipe(anyList())).thenReturn(recipe("기본 볶음"));
+        RecipeBatchService batch = new RecipeBatchService(recipeService, 30, 4, Duration.ofMillis(200));
+
+        List<RecipeBatchItemDto> items = run(batch, request(List.of("김치", "두부"), null));
+
+        assertThat(items).singleElement().satisfies(i -> {
+            assertThat(i.getSource()).isEqualTo("FALLBACK");
+            assertThat(i.getRecipes()).extracting(RecipeResponseDto::getTitle).containsExactly("기본 볶음");
+        });
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+        assertThat(batch.stats()).containsEntry("timedOut", 1L);
+    }
+
+    private static List<RecipeBatchItemDto> run(RecipeBatchService batch, RecipeRequestDto... requests) {
+        return batch.prepare(List.of(requests)).collectList().block(Duration.ofSeconds(10));
+    }
+
+    private static RecipeRequestDto request(List<String> ingredients, Integer servings) {
+        RecipeRequestDto r = new RecipeRequestDto();
+        ReflectionTestUtils.setField(r, "ingredients", ingredients);
+        ReflectionTestUtils.setField(r, "servings", servings);
+        return r;
+    }
+
+    private static RecipeResponseDto recipe(String title) {
+        return RecipeResponseDto.builder()
+                .title(title)
+                .ingredients(List.of(RecipeResponseDto.Ingredient.builder().name("김치").qty(100.0).unit("g").build()))
+                .build();
+    }
+}
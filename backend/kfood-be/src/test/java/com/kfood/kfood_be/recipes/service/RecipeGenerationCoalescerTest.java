@@ -0,0 +1,233 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class RecipeGenerationCoalescerTest {
+
+    // follower 대기 한도 = 생성 타임아웃 4s + 여유 1s
+    private final RecipeGenerationCoalescer coalescer =
+            new RecipeGenerationCoalescer(Duration.ofSeconds(4), Duration.ofSeconds(1));
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+    private final List<RecipeResponseDto> recipe = List.of(RecipeResponseDto.builder().title("된장찌개").build());
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneGeneration() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<List<RecipeResponseDto>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> coalescer.execute("prompt", () -> {
+                calls.incrementAndGet();
+                awaitUninterruptibly(release);
+                return recipe;
+            })));
+        }
+        awaitJoined(7);
+        release.countDown();
+        for (Future<List<RecipeResponseDto>> f : results) assertThat(f.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.stats()).containsEntry("deduplicated", 7L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void followerTakesOverWhenLeaderIsCancelled() throws Exception {
+        AtomicReference<Throwable> leaderOutcome = new AtomicReference<>();
+        Thread leader = leader(leaderOutcome, () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Gemini 호출 취소됨");
+            }
+            return List.of();
+        });
+
+        Future<List<RecipeResponseDto>> follower = pool.submit(() -> coalescer.execute("prompt", () -> recipe));
+        awaitJoined(1);
+        leader.interrupt();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+        leader.join(5_000);
+        assertThat(leaderOutcome.get()).isInstanceOf(CancellationException.class);
+        assertThat(coalescer.stats()).containsEntry("leaders", 2L).containsEntry("leaderCancels", 1L);
+    }
+
+    @Test
+    void leaderSwallowingItsInterruptDoesNotHandFollowersAnEmptyResult() throws Exception {
+        AtomicReference<Throwable> leaderOutcome = new AtomicReference<>();
+        Thread leader = leader(leaderOutcome, () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();   // 취소를 빈 결과로 삼킴
+        });
+
+        Future<List<RecipeResponseDto>> follower = pool.submit(() -> coalescer.execute("prompt", () -> recipe));
+        awaitJoined(1);
+        leader.interrupt();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+        leader.join(5_000);
+        assertThat(leaderOutcome.get()).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void reactiveCallerJoinsBlockingLeader() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<RecipeResponseDto>> leader = pool.submit(() -> coalescer.execute("prompt", () -> {
+            awaitUninterruptibly(release);
+            return recipe;
+        }));
+        awaitLeader();
+
+        CompletableFuture<List<RecipeResponseDto>> follower = coalescer
+                .executeReactive("prompt", () -> Mono.error(new AssertionError("follower 가 생성하면 안 됨")))
+                .toFuture();
+        awaitJoined(1);
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+    }
+
+    @Test
+    void cancelledReactiveLeaderHandsOverToFollower() throws Exception {
+        Disposable leader = coalescer.executeReactive("prompt", Mono::never).subscribe();
+        Future<List<RecipeResponseDto>> follower = pool.submit(() -> coalescer.execute("prompt", () -> recipe));
+        awaitJoined(1);
+
+        leader.dispose();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+        assertThat(coalescer.stats()).containsEntry("leaderCancels", 1L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void followerWaitsBeyondTheGenerationTimeoutAndThenFallsBackInsteadOfReturningEmpty() throws Exception {
+        RecipeGenerationCoalescer shortWait = new RecipeGenerationCoalescer(Duration.ofMillis(200), Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<List<RecipeResponseDto>> leader = pool.submit(() -> shortWait.execute("prompt", () -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            return recipe;
+        }));
+        started.await();
+
+        long t0 = System.nanoTime();
+        assertThatThrownBy(() -> shortWait.execute("prompt", () -> recipe))
+                .isInstanceOf(GeminiUnavailableException.class)
+                .hasFieldOrPropertyWithValue("reason", "coalesce-timeout");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0)).isGreaterThanOrEqualTo(300);
+
+        CompletableFuture<List<RecipeResponseDto>> reactive = shortWait
+                .executeReactive("prompt", () -> Mono.error(new AssertionError("follower 가 생성하면 안 됨")))
+                .toFuture();
+        assertThatThrownBy(() -> reactive.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GeminiUnavailableException.class);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+        assertThat(shortWait.stats()).containsEntry("waitTimeouts", 2L).containsEntry("waitTimeoutMs", 300L);
+    }
+
+    @Test
+    void streamingLeadIsJoinedAndItsCancelHandsOver() throws Exception {
+        RecipeGenerationCoalescer.Lead stream = coalescer.tryLead("prompt");
+        assertThat(stream).isNotNull();
+        assertThat(coalescer.tryLead("prompt")).isNull();   // 두 번째 스트림은 합류해야 함
+
+        Future<List<RecipeResponseDto>> joined = pool.submit(() -> coalescer.execute("prompt",
+                () -> { throw new AssertionError("follower 가 생성하면 안 됨"); }));
+        awaitJoined(1);
+        stream.complete(recipe);
+        assertThat(joined.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+
+        RecipeGenerationCoalescer.Lead failed = coalescer.tryLead("prompt");
+        Future<List<RecipeResponseDto>> takeover = pool.submit(() -> coalescer.execute("prompt", () -> recipe));
+        awaitJoined(2);
+        failed.cancel();
+        failed.complete(List.of());   // 물러난 뒤의 complete 는 무시
+
+        assertThat(takeover.get(5, TimeUnit.SECONDS)).isSameAs(recipe);
+        assertThat(coalescer.stats()).containsEntry("leaderCancels", 1L).containsEntry("inFlight", 0);
+    }
+
+    private Thread leader(AtomicReference<Throwable> outcome, Supplier<List<RecipeResponseDto>> generation)
+            throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Thread leader = new Thread(() -> {
+            try {
+                coalescer.execute("prompt", () -> {
+                    started.countDown();
+                    return generation.get();
+                });
+            } catch (RuntimeException e) {
+                outcome.set(e);
+            }
+        });
+        leader.start();
+        started.await();
+        return leader;
+    }
+
+    // follower 가 실제로 합류했는지는 집계로만 알 수 있다
+    private void awaitJoined(long followers) {
+        awaitStat("deduplicated", followers);
+    }
+
+    private void awaitLeader() {
+        awaitStat("leaders", 1L);
+    }
+
+    private void awaitStat(String name, long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Long.valueOf(expected).equals(coalescer.stats().get(name))) {
+            if (System.nanoTime() > deadline) throw new AssertionError(name + " != " + expected + ": " + coalescer.stats());
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
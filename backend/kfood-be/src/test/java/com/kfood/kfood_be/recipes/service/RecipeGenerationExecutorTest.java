@@ -0,0 +1,119 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+class RecipeGenerationExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final GeminiService gemini = mock(GeminiService.class);
+    private final GeminiModelRouter router = new GeminiModelRouter(List.of("flash", "pro"),
+            Duration.ofSeconds(20), 1200, 0.8, 20, 0);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void hedgeDelayIsTheP95OfTheModelTheMeasuredCallWillUse() {
+        RecipeGenerationExecutor executor = executor(new GeminiRetryBudget(1, 0, 100), Duration.ofSeconds(8));
+        assertThat(executor.hedgeDelayMs("프롬프트", null)).isEqualTo(8_000);   // 표본 없음 → 설정값
+
+        for (int i = 0; i < 19; i++) router.recordLatency("flash", 3_000);
+        router.recordLatency("flash", 30_000);                                  // p95 = 3000ms
+        for (int i = 0; i < 20; i++) router.recordLatency("pro", 800);
+
+        assertThat(executor.hedgeDelayMs("프롬프트", null)).isEqualTo(3_000);
+        assertThat(executor.hedgeDelayMs("프롬프트", Duration.ofSeconds(2))).isEqualTo(800);   // flash 는 예산 밖 → pro
+        assertThat(executor.hedgeDelayMs("프롬프트".repeat(400), null)).isEqualTo(800);        // 복잡 → 상위 모델
+        assertThat(executor.stats()).containsEntry("hedgeDelayFallbacks", 1L);
+    }
+
+    @Test
+    void slowMeasuredCallIsHedgedAtP95AndTheLoserIsCancelled() throws Exception {
+        for (int i = 0; i < 20; i++) router.recordLatency("flash", 20);
+        // 설정 지연(10분)을 쓰면 전체 타임아웃(5초)에 걸려 빈 결과가 된다
+        RecipeGenerationExecutor executor = executor(new GeminiRetryBudget(1, 0, 100), Duration.ofMinutes(10));
+
+        CountDownLatch measuredCancelled = new CountDownLatch(1);
+        when(gemini.generateMeasuredRecipe(anyString(), any(), any())).thenAnswer(inv -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                measuredCancelled.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        });
+        when(gemini.generateText(anyString(), eq(0.2), any(), any())).thenReturn(List.of(recipe("자유 텍스트")));
+
+        List<RecipeResponseDto> result = executor.generate("프롬프트", null, text -> List.of());
+
+        assertThat(result).extracting(RecipeResponseDto::getTitle).containsExactly("자유 텍스트");
+        assertThat(measuredCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempt(executor, "text_low")).containsEntry("wins", 1L);
+        assertThat(attempt(executor, "text_high")).containsEntry("launched", 0L);
+    }
+
+    @Test
+    void deniedRetryBudgetEndsWithEmptyResultWithoutCallingFallbackAttempts() {
+        RecipeGenerationExecutor executor = executor(new GeminiRetryBudget(0, 0, 0), Duration.ofSeconds(8));
+        when(gemini.generateMeasuredRecipe(anyString(), any(), any())).thenReturn(List.of());
+
+        List<RecipeResponseDto> result = executor.generate("프롬프트", null, text -> List.of());
+
+        assertThat(result).isEmpty();
+        verify(gemini, never()).generateText(anyString(), anyDouble(), any(), any());
+        assertThat(attempt(executor, "measured")).containsEntry("failed", 1L);
+        assertThat(attempt(executor, "text_low")).containsEntry("budgetDenied", 1L).containsEntry("launched", 0L);
+        assertThat(attempt(executor, "text_high")).containsEntry("budgetDenied", 1L).containsEntry("launched", 0L);
+    }
+
+    @Test
+    void unavailableUpstreamPropagatesInsteadOfHedging() {
+        RecipeGenerationExecutor executor = executor(new GeminiRetryBudget(1, 0, 100), Duration.ofSeconds(8));
+        when(gemini.generateMeasuredRecipe(anyString(), any(), any()))
+                .thenThrow(new GeminiUnavailableException("circuit-open", "서킷 열림"));
+
+        assertThatThrownBy(() -> executor.generate("프롬프트", null, text -> List.of()))
+                .isInstanceOf(GeminiUnavailableException.class)
+                .hasFieldOrPropertyWithValue("reason", "circuit-open");
+        verify(gemini, never()).generateText(anyString(), anyDouble(), any(), any());
+        assertThat(attempt(executor, "measured")).containsEntry("shed", 1L);
+    }
+
+    private RecipeGenerationExecutor executor(GeminiRetryBudget budget, Duration hedgeDelay) {
+        return new RecipeGenerationExecutor(gemini, router, budget, pool, "hedged", hedgeDelay, Duration.ofSeconds(5));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> attempt(RecipeGenerationExecutor executor, String name) {
+        return (Map<String, Object>) executor.stats().get(name);
+    }
+
+    private static RecipeResponseDto recipe(String title) {
+        return RecipeResponseDto.builder().title(title).build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+class RecipeJobServiceTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(4, 4, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final RecipeService recipeService = mock(RecipeService.class);
+    private final RecipeJobService jobs = new RecipeJobService(recipeService, executor, 100,
+            Duration.ofMinutes(5), Duration.ofSeconds(60));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void differentServingsForSameIngredientsGetTheirOwnJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(recipeService.generateRecipes(anyList(), any(), eq(1), any())).thenAnswer(inv -> {
+            release.await();
+            return List.of(recipe("1인분"));
+        });
+        when(recipeService.generateRecipes(anyList(), any(), eq(4), any())).thenAnswer(inv -> {
+            release.await();
+            return List.of(recipe("4인분"));
+        });
+
+        RecipeJob one = jobs.submit(List.of("김치", "두부"), null, 1);
+        RecipeJob four = jobs.submit(List.of("두부", "김치"), null, 4);   // 1인분 작업이 진행 중인 동안
+        RecipeJob oneAgain = jobs.submit(List.of("김치", "두부"), null, null); // 미지정 = 1인분
+
+        assertThat(four).isNotSameAs(one);
+        assertThat(oneAgain).isSameAs(one);
+
+        release.countDown();
+        assertThat(one.getResult().get(5, TimeUnit.SECONDS)).extracting(RecipeResponseDto::getTitle).containsExactly("1인분");
+        assertThat(four.getResult().get(5, TimeUnit.SECONDS)).extracting(RecipeResponseDto::getTitle).containsExactly("4인분");
+        assertThat(jobs.stats()).containsEntry("submitted", 2L).containsEntry("reused", 1L);
+    }
+
+    @Test
+    void concurrentIdenticalSubmitsStartOneJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(recipeService.generateRecipes(anyList(), any(), eq(2), any())).thenAnswer(inv -> {
+            release.await();
+            return List.of(recipe("2인분"));
+        });
+
+        int clients = 16;
+        ExecutorService submitters = Executors.newFixedThreadPool(clients);
+        try {
+            CyclicBarrier start = new CyclicBarrier(clients);
+            List<Future<RecipeJob>> submits = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                submits.add(submitters.submit(() -> {
+                    start.await();
+                    return jobs.submit(List.of("김치", "두부"), null, 2);
+                }));
+            }
+            RecipeJob first = submits.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<RecipeJob> f : submits) assertThat(f.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        } finally {
+            submitters.shutdownNow();
+        }
+
+        release.countDown();
+        assertThat(jobs.stats()).containsEntry("submitted", 1L).containsEntry("reused", (long) clients - 1);
+    }
+
+    private static RecipeResponseDto recipe(String title) {
+        return RecipeResponseDto.builder().title(title).build();
+    }
+}
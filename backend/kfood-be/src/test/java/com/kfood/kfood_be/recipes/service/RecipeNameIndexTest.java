@@ -0,0 +1,62 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class RecipeNameIndexTest {
+
+    private final RecipeNameIndex index = new RecipeNameIndex(null, 0.45, 200);
+
+    @Test
+    void exactBeatsPrefixAndTyposStillMatch() {
+        index.add("김치찌개");
+        index.add("김치찌개 라면");
+        index.add("김치볶음밥");
+        index.add("된장찌개");
+        index.add(" 김치 찌개! ");   // 정규화하면 같은 제목 → 무시
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(titles(index.search("김치 찌개", 5))).startsWith("김치찌개", "김치찌개 라면");
+        assertThat(titles(index.search("김치찌게", 5))).contains("김치찌개");
+        assertThat(titles(index.search("김치", 5))).containsExactlyInAnyOrder("김치찌개", "김치찌개 라면", "김치볶음밥");
+        assertThat(index.search("파스타", 5)).isEmpty();
+        assertThat(index.search("김치", 1)).hasSize(1);
+    }
+
+    @Test
+    void repeatedAndConcurrentSearchesGiveTheSameScores() throws Exception {
+        for (int i = 0; i < 3000; i++) index.add("김치찌개 " + i);
+        index.add("김치찌개");
+        List<RecipeNameIndex.Hit> first = index.search("김치찌게", 10);
+
+        // 검색 사이에 제목이 늘어도 (작업 버퍼 확장) 점수는 그대로
+        for (int i = 3000; i < 5000; i++) index.add("된장국 " + i);
+        assertThat(index.search("김치찌게", 10)).isEqualTo(first);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<RecipeNameIndex.Hit>>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String q = i % 2 == 0 ? "김치찌게" : "된장국";
+                futures.add(pool.submit(() -> index.search(q, 10)));
+            }
+            List<RecipeNameIndex.Hit> doenjang = index.search("된장국", 10);
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get()).isEqualTo(i % 2 == 0 ? first : doenjang);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<String> titles(List<RecipeNameIndex.Hit> hits) {
+        return hits.stream().map(RecipeNameIndex.Hit::title).toList();
+    }
+}
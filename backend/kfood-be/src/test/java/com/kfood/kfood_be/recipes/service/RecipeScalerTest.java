@@ -0,0 +1,70 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+class RecipeScalerTest {
+
+    private static RecipeResponseDto.Ingredient ing(String name, Double qty, String unit) {
+        return RecipeResponseDto.Ingredient.builder()
+                .name(name).qty(qty).unit(unit).label(RecipeService.buildLabel(name, qty, unit)).build();
+    }
+
+    private static RecipeResponseDto oneServing() {
+        return RecipeResponseDto.builder()
+                .title("김치찌개").servings(1)
+                .ingredients(List.of(
+                        ing("김치", 150.0, "g"),
+                        ing("물", 300.0, "ml"),
+                        ing("간장", 0.3, "큰술"),
+                        ing("설탕", 1.0, "작은술"),
+                        ing("후추", null, null)))
+                .steps(List.of(RecipeResponseDto.Step.builder().order(1).text("물 300 ml 를 붓는다.").build()))
+                .build();
+    }
+
+    @Test
+    void scalesQuantitiesPromotesUnitsAndRebuildsLabels() {
+        RecipeResponseDto canonical = oneServing();
+
+        RecipeResponseDto four = RecipeScaler.scale(List.of(canonical), 4).get(0);
+
+        assertThat(four.getServings()).isEqualTo(4);
+        assertThat(four.getIngredients()).extracting(RecipeResponseDto.Ingredient::getLabel)
+                .containsExactly("김치 600.0 g", "물 1.2 L", "간장 1.2 큰술", "설탕 1.3 큰술", "후추");
+        assertThat(four.getSteps()).hasSize(1);
+    }
+
+    @Test
+    void smallTablespoonsBecomeTeaspoonsAndCanonicalIsUntouched() {
+        RecipeResponseDto canonical = oneServing();
+
+        RecipeResponseDto two = RecipeScaler.scale(canonical, 2);
+
+        assertThat(two.getIngredients().get(2).getLabel()).isEqualTo("간장 1.8 작은술");
+        assertThat(canonical.getServings()).isEqualTo(1);
+        assertThat(canonical.getIngredients().get(0).getQty()).isEqualTo(150.0);
+    }
+
+    @Test
+    void oneServingIsADeepCopy() {
+        RecipeResponseDto canonical = oneServing();
+
+        RecipeResponseDto copy = RecipeScaler.scale(List.of(canonical), null).get(0);
+        copy.setTitle("바뀐 제목");
+        copy.getIngredients().get(0).setQty(1.0);
+        copy.getSteps().get(0).setText("바뀐 단계");
+
+        assertThat(copy).isNotSameAs(canonical);
+        assertThat(copy.getServings()).isEqualTo(1);
+        assertThat(canonical.getTitle()).isEqualTo("김치찌개");
+        assertThat(canonical.getIngredients().get(0).getQty()).isEqualTo(150.0);
+        assertThat(canonical.getIngredients().get(0).getLabel()).isEqualTo("김치 150.0 g");
+        assertThat(canonical.getSteps().get(0).getText()).isEqualTo("물 300 ml 를 붓는다.");
+    }
+}
@@ -0,0 +1,53 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+
+class RecipeServiceTruncationTest {
+
+    private static final String RECIPE = "{\"title\":\"김치찌개\",\"servings\":1,"
+            + "\"ingredients\":[{\"name\":\"김치\",\"qty\":150,\"unit\":\"g\"}],"
+            + "\"steps\":[{\"order\":1,\"text\":\"김치를 볶는다.\"},{\"order\":2,\"text\":\"물을 붓고 끓인다.\"}],"
+            + "\"chefNote\":\"신 김치가 좋다.\"}";
+
+    private final RecipeResultCache resultCache = mock(RecipeResultCache.class);
+    private final GeneratedRecipeWriter recipeWriter = mock(GeneratedRecipeWriter.class);
+    private final RecipeService service = new RecipeService(
+            mock(RecipeGenerationExecutor.class), mock(GeminiService.class), mock(GeminiRetryBudget.class),
+            mock(PromptFactory.class), resultCache, mock(RecipeGenerationCoalescer.class), recipeWriter,
+            mock(StoredRecipeLookup.class), mock(RecipeNameIndex.class), mock(IngredientMatchIndex.class));
+    private final RecipeCacheKey key = RecipeService.cacheKeyOf(List.of("김치"), null);
+
+    @Test
+    void truncatedResponseIsReturnedButNotStored() {
+        List<RecipeResponseDto> partial = service.parseRecipes("```json\n" + RECIPE.substring(0, RECIPE.indexOf("물을")));
+
+        assertThat(partial).singleElement().satisfies(r -> {
+            assertThat(r.getTitle()).isEqualTo("김치찌개");
+            assertThat(r.getSteps()).hasSize(1);
+        });
+        service.storeGenerated(key, partial);
+
+        verify(resultCache, never()).put(any(), any());
+        verify(recipeWriter, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void completeResponseIsStored() {
+        List<RecipeResponseDto> recipes = service.parseRecipes("```json\n" + RECIPE + "\n```");
+
+        service.storeGenerated(key, recipes);
+
+        verify(resultCache).put(key, recipes);
+        verify(recipeWriter).enqueue(key, recipes);
+    }
+}
@@ -0,0 +1,129 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RecipeStreamParserTest {
+
+    private static final String JSON = "{\"title\":\"김치 \\\"볶음\\\"밥\",\"category\":\"밥\",\"timeMin\":15,\"servings\":1,"
+            + "\"ingredients\":[{\"name\":\"김치\",\"qty\":100,\"unit\":\"g\",\"label\":\"김치 100 g\"},"
+            + "{\"name\":\"밥\",\"qty\":1.5,\"unit\":\"공기\"}],"
+            + "\"steps\":[{\"order\":1,\"text\":\"김치를 썹니다.\"},{\"order\":2,\"text\":\"밥과 볶습니다.\"}],"
+            + "\"tip\":null}";
+    private static final String FENCED = "요청하신 레시피입니다.\n```json\n" + JSON + "\n```\n맛있게 드세요!";
+
+    private static final List<String> EXPECTED = List.of(
+            "field title=\"김치 \\\"볶음\\\"밥\"",
+            "field category=\"밥\"",
+            "field timeMin=15",
+            "field servings=1",
+            "ingredients[] {\"name\":\"김치\",\"qty\":100,\"unit\":\"g\",\"label\":\"김치 100 g\"}",
+            "ingredients[] {\"name\":\"밥\",\"qty\":1.5,\"unit\":\"공기\"}",
+            "steps[] {\"order\":1,\"text\":\"김치를 썹니다.\"}",
+            "steps[] {\"order\":2,\"text\":\"밥과 볶습니다.\"}",
+            "field tip=null");
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void wholeResponseInOneChunk() {
+        Recorder r = new Recorder();
+        RecipeStreamParser parser = new RecipeStreamParser(om, r);
+
+        parser.feed(JSON);
+
+        assertThat(r.events).containsExactlyElementsOf(EXPECTED);
+        assertThat(parser.raw()).isEqualTo(JSON);
+    }
+
+    @Test
+    void chunkBoundariesInsideTokensDoNotChangeTheEvents() {
+        // 필드 이름 중간, 이스케이프(\") 사이, 숫자 중간(1|5, 1.|5), 한글 문자열 중간, 배열 원소 경계 직전
+        int[] cuts = {
+                FENCED.indexOf("\"tit") + 3,
+                FENCED.indexOf("\\\"볶") + 1,
+                FENCED.indexOf("15") + 1,
+                FENCED.indexOf("1.5") + 2,
+                FENCED.indexOf("썹니다") + 1,
+                FENCED.indexOf("},{\"order\":2"),
+                FENCED.indexOf("null") + 2,
+        };
+        Recorder r = new Recorder();
+        RecipeStreamParser parser = new RecipeStreamParser(om, r);
+
+        int from = 0;
+        for (int cut : cuts) {
+            parser.feed(FENCED.substring(from, cut));
+            from = cut;
+        }
+        parser.feed(FENCED.substring(from));
+
+        assertThat(r.events).containsExactlyElementsOf(EXPECTED);
+        assertThat(parser.raw()).isEqualTo(FENCED);
+    }
+
+    @Test
+    void eventsArriveAsSoonAsEachValueIsComplete() {
+        Recorder r = new Recorder();
+        RecipeStreamParser parser = new RecipeStreamParser(om, r);
+        int firstIngredientEnd = JSON.indexOf("},{\"name\":\"밥\"") + 1;
+
+        parser.feed(JSON.substring(0, firstIngredientEnd - 1));
+        assertThat(r.events).containsExactlyElementsOf(EXPECTED.subList(0, 4));   // title … servings, 재료는 아직
+
+        parser.feed(JSON.substring(firstIngredientEnd - 1, firstIngredientEnd));
+        assertThat(r.events).containsExactlyElementsOf(EXPECTED.subList(0, 5));
+
+        parser.feed(JSON.substring(firstIngredientEnd));
+        assertThat(r.events).containsExactlyElementsOf(EXPECTED);
+    }
+
+    @Test
+    void oneCharacterAtATime() {
+        Recorder r = new Recorder();
+        RecipeStreamParser parser = new RecipeStreamParser(om, r);
+
+        for (int i = 0; i < FENCED.length(); i++) parser.feed(FENCED.substring(i, i + 1));
+
+        assertThat(r.events).containsExactlyElementsOf(EXPECTED);
+        assertThat(parser.raw()).isEqualTo(FENCED);
+    }
+
+    @Test
+    void rootArrayAndBrokenJsonOnlyAccumulateRaw() {
+        Recorder array = new Recorder();
+        RecipeStreamParser arrayParser = new RecipeStreamParser(om, array);
+        arrayParser.feed("[" + JSON + ",");
+        arrayParser.feed(JSON + "]");
+        assertThat(array.events).isEmpty();
+        assertThat(arrayParser.raw()).isEqualTo("[" + JSON + "," + JSON + "]");
+
+        Recorder broken = new Recorder();
+        RecipeStreamParser brokenParser = new RecipeStreamParser(om, broken);
+        brokenParser.feed("{\"title\":\"된장찌개\",\"timeMin\":}");
+        brokenParser.feed("{\"title\":\"무시됨\"}");
+        assertThat(broken.events).containsExactly("field title=\"된장찌개\"");
+        assertThat(brokenParser.raw()).isEqualTo("{\"title\":\"된장찌개\",\"timeMin\":}{\"title\":\"무시됨\"}");
+    }
+
+    private static final class Recorder implements RecipeStreamParser.Listener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onField(String name, JsonNode value) {
+            events.add("field " + name + "=" + value);
+        }
+
+        @Override
+        public void onElement(String arrayName, JsonNode element) {
+            events.add(arrayName + "[] " + element);
+        }
+    }
+}
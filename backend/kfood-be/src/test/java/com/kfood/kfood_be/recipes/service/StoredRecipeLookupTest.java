@@ -0,0 +1,89 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kfood.kfood_be.recipes.dto.RecipeResponseDto;
+import com.kfood.kfood_be.recipes.entity.GeneratedRecipeEntity;
+import com.kfood.kfood_be.recipes.repository.GeneratedRecipeRepository;
+
+/** perf 스키마(H2, Oracle 모드)에서 실제 리포지토리 쿼리로 조회: timeMax 필터, 깨진 본문 건너뛰기, 제목 순서 */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:lookup;MODE=Oracle;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("perf")
+@Import(StoredRecipeLookup.class)
+class StoredRecipeLookupTest {
+
+    private static final ObjectMapper OM = new ObjectMapper();
+    private static final RecipeCacheKey KEY = RecipeService.cacheKeyOf(List.of("김치", "두부"), null);
+
+    @Autowired GeneratedRecipeRepository repository;
+    @Autowired StoredRecipeLookup lookup;
+
+    @Test
+    void timeMaxFiltersOnTheColumnAndOnTheBodyOfOlderRows() throws Exception {
+        save(1L, "김치두부조림", KEY, 20, json("김치두부조림", 20));
+        save(2L, "김치두부전골", KEY, 60, json("김치두부전골", 60));
+        save(3L, "김치두부찌개", KEY, null, json("김치두부찌개", 90));   // TIME_MIN 컬럼이 없던 예전 행
+
+        assertThat(lookup.find(KEY)).get().satisfies(r -> assertThat(r.get(0).getTitle()).isEqualTo("김치두부찌개"));
+        assertThat(lookup.find(RecipeService.cacheKeyOf(KEY.ingredients(), 30)))
+                .get().satisfies(r -> assertThat(r.get(0).getTitle()).isEqualTo("김치두부조림"));
+        assertThat(lookup.find(RecipeService.cacheKeyOf(KEY.ingredients(), 10))).isEmpty();
+        assertThat(lookup.stats()).containsEntry("hits", 2L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void undeserializableRowsAreSkipped() throws Exception {
+        save(1L, "김치두부조림", KEY, 20, json("김치두부조림", 20));
+        save(2L, "깨진 레시피", KEY, 20, "{\"title\": \"깨진");
+
+        assertThat(lookup.find(KEY)).get().satisfies(r -> assertThat(r.get(0).getTitle()).isEqualTo("김치두부조림"));
+
+        // 제목별로는 최신 1건만 읽으므로 최신 본문이 깨진 제목은 빠지고 나머지는 남는다
+        assertThat(lookup.findByTitles(List.of("깨진 레시피", "김치두부조림")))
+                .extracting(RecipeResponseDto::getTitle).containsExactly("김치두부조림");
+    }
+
+    @Test
+    void findByTitlesKeepsTheRequestedOrderAndTakesTheLatestPerTitle() throws Exception {
+        RecipeCacheKey other = RecipeService.cacheKeyOf(List.of("돼지고기"), null);
+        save(1L, "제육볶음", other, 20, json("제육볶음", 20));
+        save(2L, "김치찌개", KEY, 30, json("김치찌개", 30));
+        save(3L, "두부조림", KEY, 15, json("두부조림", 15));
+        save(4L, "김치찌개", KEY, 25, json("김치찌개", 25));
+
+        List<RecipeResponseDto> found = lookup.findByTitles(List.of("두부조림", "없는 요리", "김치찌개", "제육볶음"));
+
+        assertThat(found).extracting(RecipeResponseDto::getTitle).containsExactly("두부조림", "김치찌개", "제육볶음");
+        assertThat(found.get(1).getTimeMin()).isEqualTo(25);
+        assertThat(lookup.findByTitles(List.of())).isEmpty();
+    }
+
+    private void save(Long id, String food, RecipeCacheKey key, Integer timeMin, String recipe) {
+        repository.saveAndFlush(GeneratedRecipeEntity.builder()
+                .id(id)
+                .food(food)
+                .ingredient(key.ingredientKey())
+                .ingredientKey(key.ingredientKey())
+                .category("찌개")
+                .timeMin(timeMin)
+                .difficulty("쉬움")
+                .recipe(recipe)
+                .build());
+    }
+
+    private static String json(String title, int timeMin) throws JsonProcessingException {
+        return OM.writeValueAsString(RecipeResponseDto.builder().title(title).category("찌개").timeMin(timeMin).build());
+    }
+}
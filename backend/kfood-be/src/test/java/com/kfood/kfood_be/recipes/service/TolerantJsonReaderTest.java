@@ -0,0 +1,64 @@
+package com.kfood.kfood_be.recipes.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TolerantJsonReaderTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    private static final String RECIPE = "{\"title\":\"김치찌개 {매운맛}\",\"servings\":1,"
+            + "\"ingredients\":[{\"name\":\"김치\",\"qty\":150,\"unit\":\"g\"},{\"name\":\"두부\",\"qty\":0.5,\"unit\":\"개\"}],"
+            + "\"steps\":[{\"order\":1,\"text\":\"김치를 볶는다.\"},{\"order\":2,\"text\":\"물을 붓고 \\\"10분\\\" 끓인다.\"}],"
+            + "\"chefNote\":\"신 김치가 좋다.\"}";
+
+    @Test
+    void skipsFencesAndProseAroundCompleteJson() throws Exception {
+        TolerantJsonReader.Result r = TolerantJsonReader.read("다음은 레시피입니다.\n```json\n" + RECIPE + "\n```\n맛있게 드세요 }");
+
+        assertThat(r.truncated()).isFalse();
+        assertThat(om.readTree(r.json())).isEqualTo(om.readTree(RECIPE));
+    }
+
+    @Test
+    void truncatedOutputKeepsEveryCompleteIngredientAndStep() throws Exception {
+        String cut = "```json\n" + RECIPE.substring(0, RECIPE.indexOf("끓인다")); // 두 번째 단계 중간에서 끊김
+
+        TolerantJsonReader.Result r = TolerantJsonReader.read(cut);
+        JsonNode node = om.readTree(r.json());
+
+        assertThat(r.truncated()).isTrue();
+        assertThat(node.path("title").asText()).isEqualTo("김치찌개 {매운맛}");
+        assertThat(node.path("ingredients")).hasSize(2);
+        assertThat(node.path("steps")).hasSize(1);
+        assertThat(node.path("steps").get(0).path("text").asText()).isEqualTo("김치를 볶는다.");
+        assertThat(node.has("chefNote")).isFalse();
+    }
+
+    @Test
+    void dropsHalfWrittenElementsAndRepairsLooseSyntax() throws Exception {
+        TolerantJsonReader.Result r = TolerantJsonReader.read(
+                "{\"title\":\"라면\n끓이기\",\"ingredients\":[\"면 1 개\",\"물 500 ml\",],\"steps\":[{\"order\":1,\"te");
+        JsonNode node = om.readTree(r.json());
+
+        assertThat(node.path("title").asText()).isEqualTo("라면\n끓이기");
+        assertThat(node.path("ingredients")).hasSize(2);
+        assertThat(node.path("steps")).isEmpty();
+        assertThat(TolerantJsonReader.read("JSON 을 만들 수 없습니다.")).isNull();
+    }
+
+    @Test
+    void bracketsInProseBeforeTheFenceAreNotTheRoot() throws Exception {
+        TolerantJsonReader.Result fenced = TolerantJsonReader.read("재료 [참고] 목록입니다.\n```json\n" + RECIPE + "\n```");
+        TolerantJsonReader.Result bare = TolerantJsonReader.read("재료 [참고] 와 {설명} 뒤에 " + RECIPE);
+
+        assertThat(fenced.truncated()).isFalse();
+        assertThat(om.readTree(fenced.json())).isEqualTo(om.readTree(RECIPE));
+        assertThat(bare.truncated()).isFalse();
+        assertThat(om.readTree(bare.json())).isEqualTo(om.readTree(RECIPE));
+    }
+}
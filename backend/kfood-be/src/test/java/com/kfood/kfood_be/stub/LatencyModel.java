@@ -0,0 +1,45 @@
+package com.kfood.kfood_be.stub;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * 스텁 응답 지연 분포. 문자열 설정:
+ * - fixed:200ms
+ * - uniform:100ms:900ms
+ * - lognormal:1500ms:8s  (중앙값, p99) — 실제 LLM 응답처럼 오른쪽 꼬리가 긴 분포
+ */
+public interface LatencyModel {
+
+    long sampleMillis(RandomGenerator random);
+
+    static LatencyModel parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        return switch (parts[0]) {
+            case "fixed" -> {
+                long ms = millis(parts[1]);
+                yield r -> ms;
+            }
+            case "uniform" -> {
+                long lo = millis(parts[1]);
+                long hi = Math.max(lo, millis(parts[2]));
+                yield r -> lo == hi ? lo : r.nextLong(lo, hi + 1);
+            }
+            case "lognormal" -> {
+                double mu = Math.log(Math.max(1, millis(parts[1])));
+                double p99 = Math.log(Math.max(1, millis(parts[2])));
+                double sigma = Math.max(0, (p99 - mu) / 2.326); // z(0.99)
+                yield r -> Math.round(Math.exp(mu + sigma * r.nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("지연 분포 형식 오류: " + spec);
+        };
+    }
+
+    /** "250ms" / "2s" / "250" (ms) */
+    static long millis(String s) {
+        String v = s.trim();
+        if (v.endsWith("ms")) return Long.parseLong(v.substring(0, v.length() - 2));
+        if (v.endsWith("s")) return Math.round(Double.parseDouble(v.substring(0, v.length() - 1)) * 1000);
+        return Long.parseLong(v);
+    }
+}
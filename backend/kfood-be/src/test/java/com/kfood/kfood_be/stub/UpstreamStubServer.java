@@ -0,0 +1,459 @@
+package com.kfood.kfood_be.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 부하/장애 측정용 Gemini · YouTube Data API 대역 서버 (JDK HttpServer, 외부 의존 없음).
+ * GeminiService/YoutubeService 가 쓰는 만큼만 흉내 낸다:
+ * - POST /v1beta/models/{model}:generateContent, :streamGenerateContent?alt=sse
+ * - GET  /youtube/v3/search, /youtube/v3/videos
+ * - GET  /__stub/stats (경로·결과별 호출 수), GET /__stub/in-flight (지금 응답을 미루고 있는 요청 수), POST /__stub/reset
+ * 지연은 스케줄러로 응답 시점을 미루는 방식이라 느린 응답 수천 건이 동시에 걸려도 스레드를 붙잡지 않는다.
+ *
+ * 실행: ./gradlew stubServer -Dstub.gemini.latency=lognormal:1500ms:8s -Dstub.gemini.rate-429=0.05
+ * 앱 쪽: --spring.profiles.active=stub (gemini.endpoint / youtube.endpoint 를 이 서버로)
+ */
+public final class UpstreamStubServer implements AutoCloseable {
+
+    /**
+     * 업스트림 하나의 지연/장애 설정. 비율은 0~1, 요청마다 독립 추첨.
+     * truncatedRate: maxOutputTokens 에 걸린 것처럼 JSON 중간에서 끊김 (finishReason=MAX_TOKENS)
+     * fencedRate: ```json 펜스 + 앞뒤 설명 문장
+     * quotaExceededRate: YouTube 403 quotaExceeded
+     */
+    public record Faults(LatencyModel latency, double rate429, double rate5xx,
+                         double truncatedRate, double fencedRate, double quotaExceededRate) {
+
+        static Faults fromSystemProperties(String prefix, String defaultLatency) {
+            return new Faults(
+                    LatencyModel.parse(System.getProperty(prefix + ".latency", defaultLatency)),
+                    rate(prefix + ".rate-429"),
+                    rate(prefix + ".rate-5xx"),
+                    rate(prefix + ".truncated-rate"),
+                    rate(prefix + ".fenced-rate"),
+                    rate(prefix + ".quota-exceeded-rate"));
+        }
+
+        private static double rate(String key) {
+            return Double.parseDouble(System.getProperty(key, "0"));
+        }
+    }
+
+    /** chunkIntervalMs: 스트리밍 응답의 조각 간격 (첫 조각은 latency 분포를 따른다) */
+    public record Config(int port, Faults gemini, Faults youtube, long chunkIntervalMs) {
+
+        public static Config fromSystemProperties() {
+            return new Config(
+                    Integer.getInteger("stub.port", 8089),
+                    Faults.fromSystemProperties("stub.gemini", "lognormal:1500ms:8s"),
+                    Faults.fromSystemProperties("stub.youtube", "lognormal:120ms:600ms"),
+                    LatencyModel.millis(System.getProperty("stub.gemini.chunk-interval", "80ms")));
+        }
+    }
+
+    private static final int STREAM_CHUNKS = 6;
+    private static final int VIDEO_POOL = 5_000; // 검색어가 달라도 영상이 겹치도록 (통계 캐시 적중)
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private volatile Config config;
+
+    private UpstreamStubServer(Config config) throws IOException {
+        this.config = config;
+        this.server = HttpServer.create(new InetSocketAddress(config.port()), 1024);
+        this.handlers = Executors.newFixedThreadPool(16, daemon("stub-http"));
+        this.scheduler = Executors.newScheduledThreadPool(4, daemon("stub-delay"));
+        server.setExecutor(handlers);
+        server.createContext("/v1beta/models/", this::gemini);
+        server.createContext("/youtube/v3/search", ex -> youtube(ex, true));
+        server.createContext("/youtube/v3/videos", ex -> youtube(ex, false));
+        server.createContext("/__stub/stats", this::stats);
+        server.createContext("/__stub/in-flight", ex -> send(ex, 200, "application/json", write(inFlight())));
+        server.createContext("/__stub/reset", ex -> {
+            counts.clear();
+            send(ex, 204, null, null);
+        });
+    }
+
+    /** port 0 이면 빈 포트 */
+    public static UpstreamStubServer start(Config config) throws IOException {
+        UpstreamStubServer stub = new UpstreamStubServer(config);
+        stub.server.start();
+        return stub;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.fromSystemProperties();
+        UpstreamStubServer stub = start(config);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        System.out.printf("[stub] listening on %d%n  gemini.endpoint=%s%n  youtube.endpoint=%s%n  gemini=%s%n  youtube=%s%n",
+                stub.port(), stub.geminiEndpoint(), stub.youtubeEndpoint(), config.gemini(), config.youtube());
+        new CountDownLatch(1).await();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String geminiEndpoint() {
+        return "http://localhost:" + port() + "/v1beta";
+    }
+
+    public String youtubeEndpoint() {
+        return "http://localhost:" + port() + "/youtube/v3";
+    }
+
+    /** 실행 중 장애 설정 교체 (예: 측정 도중 429 폭주 구간) */
+    public void reconfigure(Config config) {
+        this.config = config;
+    }
+
+    /** "gemini.generateContent:gemini-2.5-flash" / "…:429" / "youtube.search" 같은 키 → 호출 수 */
+    public Map<String, Long> counts() {
+        Map<String, Long> out = new TreeMap<>();
+        counts.forEach((k, v) -> out.put(k, v.sum()));
+        return out;
+    }
+
+    /** "gemini" / "youtube" → 받았지만 아직 응답을 끝내지 않은 요청 수 (지연이 고정이면 호출자가 붙들고 있는 동시 요청 수) */
+    public Map<String, Integer> inFlight() {
+        Map<String, Integer> out = new TreeMap<>();
+        inFlight.forEach((k, v) -> out.put(k, v.get()));
+        return out;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    // ========= Gemini =========
+
+    private void gemini(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        int colon = path.lastIndexOf(':');
+        if (!"POST".equals(ex.getRequestMethod()) || colon < 0) {
+            send(ex, 404, null, null);
+            return;
+        }
+        String model = path.substring("/v1beta/models/".length(), colon);
+        String method = path.substring(colon + 1);
+        boolean stream = method.equals("streamGenerateContent");
+        if (!stream && !method.equals("generateContent")) {
+            send(ex, 404, null, null);
+            return;
+        }
+        String prompt = promptOf(readBody(ex));
+        String key = "gemini." + method + ":" + model;
+        count(key);
+
+        Faults f = config.gemini();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = f.latency().sampleMillis(random);
+        double roll = random.nextDouble();
+        if (roll < f.rate429()) {
+            count(key + ":429");
+            later("gemini", delay, () -> send(ex, 429, "application/json", geminiError(429, "RESOURCE_EXHAUSTED")));
+            return;
+        }
+        if (roll < f.rate429() + f.rate5xx()) {
+            count(key + ":5xx");
+            later("gemini", delay, () -> send(ex, 503, "application/json", geminiError(503, "UNAVAILABLE")));
+            return;
+        }
+
+        String text = recipeJson(prompt);
+        boolean truncated = random.nextDouble() < f.truncatedRate();
+        if (truncated) {
+            text = text.substring(0, (int) (text.length() * (0.4 + 0.5 * random.nextDouble())));
+            count(key + ":truncated");
+        }
+        if (random.nextDouble() < f.fencedRate()) {
+            text = "요청하신 레시피입니다.\n```json\n" + text + (truncated ? "" : "\n```\n맛있게 드세요!");
+            count(key + ":fenced");
+        }
+        String finishReason = truncated ? "MAX_TOKENS" : "STOP";
+        if (stream) {
+            streamLater(ex, delay, text, finishReason);
+        } else {
+            String body = candidate(text, finishReason);
+            later("gemini", delay, () -> send(ex, 200, "application/json", body));
+        }
+    }
+
+    // SSE: data: {candidates…}\n\n 조각들. 이어 붙이면 generateContent 와 같은 텍스트
+    private void streamLater(HttpExchange ex, long firstDelay, String text, String finishReason) {
+        List<String> events = new ArrayList<>(STREAM_CHUNKS);
+        int step = Math.max(1, (text.length() + STREAM_CHUNKS - 1) / STREAM_CHUNKS);
+        for (int i = 0; i < text.length(); i += step) {
+            boolean last = i + step >= text.length();
+            events.add("data: " + candidate(text.substring(i, Math.min(text.length(), i + step)),
+                    last ? finishReason : null) + "\r\n\r\n");
+        }
+        // 마지막 조각을 보낼 때까지 in-flight
+        AtomicInteger gauge = gauge("gemini");
+        gauge.incrementAndGet();
+        scheduler.schedule(() -> {
+            try {
+                ex.getResponseHeaders().set("Content-Type", "text/event-stream");
+                ex.sendResponseHeaders(200, 0);
+                writeEvent(ex, events, 0, gauge);
+            } catch (IOException e) {
+                ex.close();
+                gauge.decrementAndGet();
+            }
+        }, Math.max(0, firstDelay), TimeUnit.MILLISECONDS);
+    }
+
+    private void writeEvent(HttpExchange ex, List<String> events, int index, AtomicInteger gauge) {
+        try {
+            OutputStream out = ex.getResponseBody();
+            out.write(events.get(index).getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            if (index + 1 == events.size()) {
+                ex.close();
+                gauge.decrementAndGet();
+            } else {
+                scheduler.schedule(() -> writeEvent(ex, events, index + 1, gauge), config.chunkIntervalMs(), TimeUnit.MILLISECONDS);
+            }
+        } catch (IOException e) {
+            ex.close(); // 클라이언트 취소
+            gauge.decrementAndGet();
+        }
+    }
+
+    private String promptOf(byte[] body) {
+        try {
+            JsonNode root = om.readTree(body);
+            return root.path("contents").path(0).path("parts").path(0).path("text").asText("");
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    // 프롬프트의 "[사용 가능한 재료]" 목록으로 1인분 레시피 하나 (형식은 응답 스키마 그대로)
+    private String recipeJson(String prompt) {
+        List<String> ingredients = ingredientsOf(prompt);
+        if (ingredients.isEmpty()) ingredients = List.of("양파", "계란", "대파");
+
+        List<Map<String, Object>> ings = new ArrayList<>();
+        for (String name : ingredients) {
+            double qty = 50 + Math.floorMod(name.hashCode(), 20) * 10;
+            ings.add(ordered("name", name, "qty", qty, "unit", "g", "label", name + " " + qty + " g"));
+        }
+        List<Map<String, Object>> steps = List.of(
+                ordered("order", 1, "text", ingredients.get(0) + "을(를) 2cm 크기로 썹니다."),
+                ordered("order", 2, "text", "팬에 기름 1큰술을 두르고 중불에서 3분 볶습니다."),
+                ordered("order", 3, "text", "나머지 재료를 넣고 5분 더 익힌 뒤 간을 맞춥니다."));
+        Map<String, Object> recipe = ordered(
+                "title", ingredients.get(0) + "볶음",
+                "category", "볶음",
+                "timeMin", 15,
+                "servings", 1,
+                "difficulty", "초급");
+        recipe.put("ingredients", ings);
+        recipe.put("steps", steps);
+        recipe.put("chefNote", "스텁 서버 응답");
+        recipe.put("tip", "센 불에서 빠르게 볶으세요.");
+        return write(recipe);
+    }
+
+    private static List<String> ingredientsOf(String prompt) {
+        List<String> out = new ArrayList<>();
+        int at = prompt.indexOf("[사용 가능한 재료]");
+        if (at < 0) return out;
+        for (String line : prompt.substring(at).split("\n")) {
+            String l = line.strip();
+            if (l.startsWith("[") && !out.isEmpty()) break;
+            if (l.startsWith("- ") && !l.contains("(재료 없음)")) out.add(l.substring(2).strip());
+        }
+        return out;
+    }
+
+    private String candidate(String text, String finishReason) {
+        Map<String, Object> content = ordered("role", "model", "parts", List.of(Map.of("text", text)));
+        Map<String, Object> cand = ordered("content", content);
+        if (finishReason != null) cand.put("finishReason", finishReason);
+        return write(Map.of("candidates", List.of(cand)));
+    }
+
+    private String geminiError(int code, String status) {
+        return write(Map.of("error", ordered("code", code, "message", "stub " + status, "status", status)));
+    }
+
+    // ========= YouTube =========
+
+    private void youtube(HttpExchange ex, boolean search) {
+        String key = search ? "youtube.search" : "youtube.videos";
+        count(key);
+        Map<String, String> query = query(ex.getRequestURI());
+        Faults f = config.youtube();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = f.latency().sampleMillis(random);
+        double roll = random.nextDouble();
+        if (roll < f.quotaExceededRate()) {
+            count(key + ":quotaExceeded");
+            String body = write(Map.of("error", ordered("code", 403, "message", "quota",
+                    "errors", List.of(Map.of("reason", "quotaExceeded", "domain", "youtube.quota")))));
+            later("youtube", delay, () -> send(ex, 403, "application/json", body));
+            return;
+        }
+        if (roll < f.quotaExceededRate() + f.rate5xx()) {
+            count(key + ":5xx");
+            later("youtube", delay, () -> send(ex, 503, "application/json", write(Map.of("error", Map.of("code", 503)))));
+            return;
+        }
+        String body = search ? searchBody(query.getOrDefault("q", "")) : videosBody(query.getOrDefault("id", ""));
+        later("youtube", delay, () -> send(ex, 200, "application/json", body));
+    }
+
+    private String searchBody(String q) {
+        int maxResults = 10;
+        List<Map<String, Object>> items = new ArrayList<>(maxResults);
+        int base = Math.floorMod(q.hashCode(), VIDEO_POOL);
+        for (int i = 0; i < maxResults; i++) {
+            String id = videoId((base + i * 7919) % VIDEO_POOL);
+            Map<String, Object> snippet = ordered(
+                    "publishedAt", "2024-0" + (1 + i % 9) + "-1" + i % 10 + "T09:00:00Z",
+                    "title", q + " 먹방 #" + (i + 1),
+                    "channelTitle", "스텁채널" + (i % 4),
+                    "thumbnails", Map.of("medium", Map.of("url", "https://i.ytimg.com/vi/" + id + "/mqdefault.jpg")));
+            items.add(ordered("id", ordered("kind", "youtube#video", "videoId", id), "snippet", snippet));
+        }
+        return write(Map.of("items", items));
+    }
+
+    private String videosBody(String ids) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (String id : ids.split(",")) {
+            if (id.isBlank()) continue;
+            int h = Math.floorMod(id.hashCode(), 1000);
+            String categoryId = h % 10 == 0 ? "20" : (h % 2 == 0 ? "22" : "24"); // 10% Gaming → 필터 경로도 탄다
+            items.add(ordered("id", id,
+                    "snippet", Map.of("categoryId", categoryId),
+                    "statistics", Map.of("viewCount", String.valueOf((long) h * h * 37 + 1_000))));
+        }
+        return write(Map.of("items", items));
+    }
+
+    private static String videoId(int n) {
+        return String.format("stub%07d", n);
+    }
+
+    // ========= 공통 =========
+
+    private void stats(HttpExchange ex) {
+        send(ex, 200, "application/json", write(counts()));
+    }
+
+    // 응답을 미루는 동안 upstream 의 in-flight 에 잡힌다
+    private void later(String upstream, long delayMs, Runnable response) {
+        AtomicInteger gauge = gauge(upstream);
+        gauge.incrementAndGet();
+        scheduler.schedule(() -> {
+            try {
+                response.run();
+            } finally {
+                gauge.decrementAndGet();
+            }
+        }, Math.max(0, delayMs), TimeUnit.MILLISECONDS);
+    }
+
+    private AtomicInteger gauge(String upstream) {
+        return inFlight.computeIfAbsent(upstream, k -> new AtomicInteger());
+    }
+
+    private void count(String key) {
+        counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static byte[] readBody(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void send(HttpExchange ex, int status, String contentType, String body) {
+        try {
+            byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+            if (contentType != null) ex.getResponseHeaders().set("Content-Type", contentType + ";charset=UTF-8");
+            ex.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                try (OutputStream out = ex.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 먼저 끊음 (타임아웃/취소)
+        } finally {
+            ex.close();
+        }
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> out = new LinkedHashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) return out;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            out.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+
+    private String write(Object value) {
+        try {
+            return om.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> ordered(Object... kv) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        for (int i = 0; i < kv.length; i += 2) m.put((String) kv[i], kv[i + 1]);
+        return m;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
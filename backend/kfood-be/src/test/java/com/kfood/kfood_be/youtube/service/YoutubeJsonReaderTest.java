@@ -0,0 +1,55 @@
+package com.kfood.kfood_be.youtube.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.kfood.kfood_be.common.json.DataBufferJson;
+import com.kfood.kfood_be.youtube.dto.YoutubeVideoResponseDto;
+
+class YoutubeJsonReaderTest {
+
+    @Test
+    void searchItemsReadsOnlyVideosWithAnId() {
+        String body = "{\"kind\":\"youtube#searchListResponse\",\"pageInfo\":{\"totalResults\":3},\"items\":["
+                + "{\"id\":{\"kind\":\"youtube#video\",\"videoId\":\"abc\"},\"snippet\":{\"title\":\"김치찌개\","
+                + "\"channelTitle\":\"백종원\",\"publishedAt\":\"2024-01-01T00:00:00Z\",\"tags\":[\"a\"],"
+                + "\"thumbnails\":{\"default\":{\"url\":\"d\"},\"medium\":{\"url\":\"m\",\"width\":320}}}},"
+                + "\"broken\","
+                + "{\"id\":{\"kind\":\"youtube#channel\",\"channelId\":\"c\"},\"snippet\":{\"title\":\"채널\"}},"
+                + "{\"id\":{\"videoId\":\"def\"},\"snippet\":{\"title\":\"된장찌개\"}}]}";
+
+        List<YoutubeVideoResponseDto> items = DataBufferJson.read(body, YoutubeJsonReader::searchItems);
+
+        assertThat(items).extracting(YoutubeVideoResponseDto::getVideoId).containsExactly("abc", "def");
+        assertThat(items.get(0).getTitle()).isEqualTo("김치찌개");
+        assertThat(items.get(0).getChannelTitle()).isEqualTo("백종원");
+        assertThat(items.get(0).getThumbnailUrl()).isEqualTo("m");
+        assertThat(items.get(1).getThumbnailUrl()).isEmpty();
+    }
+
+    @Test
+    void videoStatsReadsNumbersOrStringsAndSkipsItemsWithoutId() {
+        String body = "{\"items\":[{\"id\":\"abc\",\"snippet\":{\"categoryId\":\"26\",\"title\":\"t\"},"
+                + "\"statistics\":{\"viewCount\":\"1200\",\"likeCount\":\"3\"}},"
+                + "{\"id\":\"def\",\"statistics\":{\"viewCount\":35}},"
+                + "7,"
+                + "{\"snippet\":{\"categoryId\":\"1\"}}]}";
+
+        Map<String, YoutubeVideoStatsCache.VideoStats> stats =
+                DataBufferJson.read(body, p -> YoutubeJsonReader.videoStats(p, 42L));
+
+        assertThat(stats).containsOnlyKeys("abc", "def");
+        assertThat(stats.get("abc")).isEqualTo(new YoutubeVideoStatsCache.VideoStats("1200", "26", 42L));
+        assertThat(stats.get("def")).isEqualTo(new YoutubeVideoStatsCache.VideoStats("35", "", 42L));
+    }
+
+    @Test
+    void missingItemsGiveEmptyResults() {
+        assertThat(DataBufferJson.read("{\"error\":{\"code\":403}}", YoutubeJsonReader::searchItems)).isEmpty();
+        assertThat(DataBufferJson.read("{\"items\":[]}", p -> YoutubeJsonReader.videoStats(p, 0L))).isEmpty();
+    }
+}
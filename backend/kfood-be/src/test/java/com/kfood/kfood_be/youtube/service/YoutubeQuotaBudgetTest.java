@@ -0,0 +1,90 @@
+package com.kfood.kfood_be.youtube.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class YoutubeQuotaBudgetTest {
+
+    // 2026-01-14 23:59 PST (UTC 로는 이미 1월 15일)
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-15T07:59:00Z"));
+    private final YoutubeQuotaBudget budget = new YoutubeQuotaBudget(10_000, 1_500, clock);
+
+    @Test
+    void usageResetsAtPacificMidnightNotUtcMidnight() {
+        budget.spend(9_000);
+        budget.markExhausted();
+        assertThat(budget.remaining()).isZero();
+        assertThat(budget.isLow()).isTrue();
+        assertThat(budget.canAffordSearch()).isFalse();
+        assertThat(budget.stats()).containsEntry("day", "2026-01-14");
+
+        clock.advance(Duration.ofMinutes(2));   // 00:01 PST
+
+        assertThat(budget.remaining()).isEqualTo(10_000);
+        assertThat(budget.isLow()).isFalse();
+        assertThat(budget.canAffordSearch()).isTrue();
+        assertThat(budget.stats()).containsEntry("day", "2026-01-15").containsEntry("exhausted", false);
+    }
+
+    @Test
+    void lowOnceRemainingReachesTheReserve() {
+        budget.spend(8_499);
+        assertThat(budget.isLow()).isFalse();
+
+        budget.spend(YoutubeQuotaBudget.VIDEOS_COST);   // 남은 1500 == reserve
+        assertThat(budget.isLow()).isTrue();
+        assertThat(budget.canAffordSearch()).isTrue();
+    }
+
+    @Test
+    void historyKeepsTheLastSevenDays() {
+        for (int d = 0; d < 10; d++) {
+            budget.spend(100 * (d + 1));
+            budget.saved(YoutubeQuotaBudget.SEARCH_COST);
+            clock.advance(Duration.ofDays(1));
+        }
+        budget.spend(1);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> daily = (List<Map<String, Object>>) budget.stats().get("daily");
+        assertThat(daily).hasSize(7);
+        assertThat(daily.get(0)).containsEntry("day", "2026-01-18").containsEntry("usedUnits", 500L)
+                .containsEntry("savedUnits", 100L).containsEntry("cacheHits", 1L);
+        assertThat(daily.get(6)).containsEntry("day", "2026-01-24").containsEntry("usedUnits", 1L);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("America/Los_Angeles");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.kfood.kfood_be.youtube.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kfood.kfood_be.youtube.dto.YoutubeVideoResponseDto;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class YoutubeSearchCacheTest {
+
+    private static final String KEY = YoutubeSearchCache.keyOf("김치찌개 먹방 -게임", "ko");
+    private static final int COST = YoutubeQuotaBudget.SEARCH_COST;
+
+    private final Cache<String, YoutubeSearchCache.CachedSearch> store = Caffeine.newBuilder().build();
+    private final List<YoutubeVideoResponseDto> old = List.of(video("old"));
+    private final List<YoutubeVideoResponseDto> fresh = List.of(video("new"));
+
+    // 구독될 때마다 호출 수를 세고, 응답은 sink 로 직접 흘린다
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Sinks.One<List<YoutubeVideoResponseDto>> response = Sinks.one();
+    private final Supplier<Mono<List<YoutubeVideoResponseDto>>> fetch =
+            () -> response.asMono().doOnSubscribe(s -> calls.incrementAndGet());
+
+    @Test
+    void concurrentMissesForTheSameKeyShareOneSearchCall() throws Exception {
+        YoutubeSearchCache cache = cache(new YoutubeQuotaBudget(10_000, 1_500));
+
+        List<CompletableFuture<List<YoutubeVideoResponseDto>>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) results.add(cache.get(KEY, COST, fetch).toFuture());
+        assertThat(calls.get()).isEqualTo(1);
+
+        response.tryEmitValue(fresh);
+        for (CompletableFuture<List<YoutubeVideoResponseDto>> r : results) {
+            assertThat(r.get(5, TimeUnit.SECONDS)).isEqualTo(fresh);
+        }
+        assertThat(store.getIfPresent(KEY).videos()).isEqualTo(fresh);
+        assertThat(cache.stats()).containsEntry("misses", 10L).containsEntry("missesCoalesced", 9L)
+                .containsEntry("loadInFlight", 0);
+
+        // 끝난 호출은 공유하지 않는다: 다음은 캐시 적중
+        assertThat(cache.get(KEY, COST, fetch).block()).isEqualTo(fresh);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.stats()).containsEntry("freshHits", 1L);
+    }
+
+    @Test
+    void failedSharedCallIsNotCached() {
+        YoutubeSearchCache cache = cache(new YoutubeQuotaBudget(10_000, 1_500));
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<Mono<List<YoutubeVideoResponseDto>>> failing = () -> Mono.fromCallable(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("503");
+        });
+
+        assertThat(cache.get(KEY, COST, failing).onErrorReturn(List.of()).block()).isEmpty();
+        assertThat(cache.get(KEY, COST, failing).onErrorReturn(List.of()).block()).isEmpty();
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(store.getIfPresent(KEY)).isNull();
+    }
+
+    @Test
+    void staleEntryIsServedWhileOneBackgroundRefreshRunsPerKey() {
+        YoutubeSearchCache cache = cache(new YoutubeQuotaBudget(10_000, 1_500));
+        store.put(KEY, new YoutubeSearchCache.CachedSearch(old, 0L));
+
+        for (int i = 0; i < 5; i++) assertThat(cache.get(KEY, COST, fetch).block()).isEqualTo(old);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.stats()).containsEntry("staleHits", 5L).containsEntry("refreshes", 1L)
+                .containsEntry("refreshInFlight", 1);
+
+        response.tryEmitValue(fresh);
+
+        assertThat(cache.stats()).containsEntry("refreshInFlight", 0);
+        assertThat(cache.get(KEY, COST, fetch).block()).isEqualTo(fresh);
+        assertThat(cache.stats()).containsEntry("freshHits", 1L);
+    }
+
+    @Test
+    void lowQuotaServesStaleWithoutRefreshing() {
+        // 남은 1000 ≤ reserve 1500 → low
+        YoutubeQuotaBudget budget = new YoutubeQuotaBudget(1_000, 1_500);
+        YoutubeSearchCache cache = cache(budget);
+        store.put(KEY, new YoutubeSearchCache.CachedSearch(old, 0L));
+
+        assertThat(cache.get(KEY, COST, fetch).block()).isEqualTo(old);
+        assertThat(cache.get(KEY, COST, fetch).block()).isEqualTo(old);
+
+        assertThat(calls.get()).isZero();
+        assertThat(cache.stats()).containsEntry("refreshSkippedLowQuota", 2L).containsEntry("refreshes", 0L);
+        assertThat(budget.stats()).containsEntry("used", 0L).containsEntry("low", true);
+    }
+
+    @Test
+    void missWithoutQuotaForASearchReturnsEmptyWithoutCalling() {
+        YoutubeSearchCache cache = cache(new YoutubeQuotaBudget(COST, 0));   // search 100 + videos 1 에 모자람
+
+        assertThat(cache.get(KEY, COST, fetch).block()).isEmpty();
+        assertThat(calls.get()).isZero();
+        assertThat(cache.stats()).containsEntry("quotaRejected", 1L);
+    }
+
+    private YoutubeSearchCache cache(YoutubeQuotaBudget budget) {
+        return new YoutubeSearchCache(store, budget, Duration.ofMinutes(30));
+    }
+
+    private static YoutubeVideoResponseDto video(String id) {
+        return YoutubeVideoResponseDto.builder().videoId(id).title(id).build();
+    }
+}
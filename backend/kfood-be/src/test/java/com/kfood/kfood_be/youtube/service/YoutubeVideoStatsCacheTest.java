@@ -0,0 +1,122 @@
+package com.kfood.kfood_be.youtube.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kfood.kfood_be.youtube.service.YoutubeVideoStatsCache.VideoStats;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class YoutubeVideoStatsCacheTest {
+
+    private final Cache<String, VideoStats> store = Caffeine.newBuilder().build();
+    private final YoutubeVideoStatsCache cache =
+            new YoutubeVideoStatsCache(store, new YoutubeQuotaBudget(10_000, 1_500), Duration.ofMinutes(15));
+
+    // 호출마다 받은 ID 묶음을 기록하고, 응답은 id → "new-<id>" (absent 에 있는 ID 는 응답에서 뺀다)
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+    private final List<String> absent = new ArrayList<>();
+    private final Function<List<String>, Mono<Map<String, VideoStats>>> fetch = ids -> Mono.fromSupplier(() -> {
+        calls.add(List.copyOf(ids));
+        Map<String, VideoStats> out = new HashMap<>();
+        for (String id : ids) {
+            if (!absent.contains(id)) out.put(id, stats("new-" + id, System.currentTimeMillis()));
+        }
+        return out;
+    });
+
+    @Test
+    void onlyMissingAndExpiredIdsAreFetched() {
+        store.put("fresh", stats("cached-fresh", System.currentTimeMillis()));
+        store.put("stale", stats("cached-stale", 0L));
+
+        Map<String, VideoStats> result = cache.resolve(List.of("fresh", "stale", "missing"), fetch).block();
+
+        assertThat(calls).containsExactlyInAnyOrder(List.of("stale"), List.of("missing"));
+        assertThat(result.get("fresh").viewCount()).isEqualTo("cached-fresh");
+        assertThat(result.get("stale").viewCount()).isEqualTo("cached-stale");   // 응답은 기존 값
+        assertThat(result.get("missing").viewCount()).isEqualTo("new-missing");
+        assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("expiredServed", 1L)
+                .containsEntry("misses", 1L).containsEntry("fetchCalls", 2L);
+    }
+
+    @Test
+    void missingIdsAreFetchedInBatchesOfAtMostFifty() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) ids.add("v" + i);
+
+        Map<String, VideoStats> result = cache.resolve(ids, fetch).block();
+
+        assertThat(calls).extracting(List::size).containsExactly(50, 50, 20);
+        assertThat(calls.stream().flatMap(List::stream)).containsExactlyElementsOf(ids);
+        assertThat(result).hasSize(120);
+        assertThat(store.estimatedSize()).isEqualTo(120);
+    }
+
+    @Test
+    void idsAbsentFromTheResponseAreCachedAndNotAskedAgain() {
+        absent.add("deleted");
+
+        Map<String, VideoStats> first = cache.resolve(List.of("live", "deleted"), fetch).block();
+        assertThat(first.get("deleted").viewCount()).isEqualTo("0");
+        assertThat(first.get("deleted").categoryId()).isEmpty();
+
+        Map<String, VideoStats> second = cache.resolve(List.of("live", "deleted"), fetch).block();
+        assertThat(second).containsOnlyKeys("live", "deleted");
+        assertThat(calls).containsExactly(List.of("live", "deleted"));
+    }
+
+    @Test
+    void failedBatchIsNotCached() {
+        Function<List<String>, Mono<Map<String, VideoStats>>> failing = ids -> {
+            calls.add(List.copyOf(ids));
+            return Mono.error(new IllegalStateException("503"));
+        };
+
+        assertThat(cache.resolve(List.of("a"), failing).block()).isEmpty();
+        assertThat(cache.resolve(List.of("a"), failing).block()).isEmpty();
+
+        assertThat(calls).hasSize(2);
+        assertThat(store.getIfPresent("a")).isNull();
+        assertThat(cache.stats()).containsEntry("fetchFailures", 2L);
+    }
+
+    @Test
+    void staleEntryIsServedWhileOneBackgroundRefreshRuns() {
+        store.put("a", stats("old", 0L));
+        Sinks.One<Map<String, VideoStats>> response = Sinks.one();
+        Function<List<String>, Mono<Map<String, VideoStats>>> slow = ids -> {
+            calls.add(List.copyOf(ids));
+            return response.asMono();
+        };
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.resolve(List.of("a"), slow).block().get("a").viewCount()).isEqualTo("old");
+        }
+        assertThat(calls).containsExactly(List.of("a"));   // 갱신 중인 ID 는 다시 잡지 않는다
+        assertThat(cache.stats()).containsEntry("refreshInFlight", 1);
+
+        response.tryEmitValue(Map.of("a", stats("new", System.currentTimeMillis())));
+
+        assertThat(store.getIfPresent("a").viewCount()).isEqualTo("new");
+        assertThat(cache.stats()).containsEntry("refreshInFlight", 0).containsEntry("backgroundRefreshed", 1L);
+        assertThat(cache.resolve(List.of("a"), slow).block().get("a").viewCount()).isEqualTo("new");
+        assertThat(calls).hasSize(1);
+    }
+
+    private static VideoStats stats(String viewCount, long fetchedAtMillis) {
+        return new VideoStats(viewCount, "22", fetchedAtMillis);
+    }
+}
@@ -49,3 +49,20 @@ export const postPrepare = (ingredients, opts = {}, timeout = 65000) => {
   return apiPost("/api/recipes/prepare", { ingredients, timeMax, servings }, timeout);
 };
 
+
+// 비동기 작업: POST /api/recipes/jobs → { jobId, status }
+export const submitPrepareJob = (ingredients, opts = {}) => {
+  const { timeMax = null, servings = null } = opts;
+  return apiPost("/api/recipes/jobs", { ingredients, timeMax, servings }, 10000);
+};
+
+// 롱폴링: GET /api/recipes/jobs/{id}?waitSec=25 (끊겨도 같은 jobId 로 다시 조회하면 작업은 이어짐)
+export async function waitPrepareJob(jobId, { waitSec = 25, maxTotalMs = 180000 } = {}) {
+  const until = Date.now() + maxTotalMs;
+  while (Date.now() < until) {
+    const job = await apiGet(`/api/recipes/jobs/${jobId}?waitSec=${waitSec}`, (waitSec + 10) * 1000);
+    if (job?.status === "DONE") return job.recipes || [];
+    if (job?.status === "FAILED") throw new Error(job.error || "레시피 생성 실패");
+  }
+  throw new Error("레시피 생성 대기 시간 초과");
+}